@@ -97,7 +97,7 @@ public class CreateEventCommand implements EventCommandInterface {
                                  CalendarModelInterface model, CalendarViewInterface view) {
 
     Pattern weekdayPattern = Pattern.compile(
-        "repeats\\s+(?:.*?\\s+)?([MTWRFSU]+)\\s+(?:for|until)",
+        "repeats\\s+(?:.*?\\s+)?([MTWRFSU]+)\\s+(?:forever|for|until)\\b",
         Pattern.CASE_INSENSITIVE);
     Matcher weekdayMatcher = weekdayPattern.matcher(command);
 
@@ -119,6 +119,9 @@ public class CreateEventCommand implements EventCommandInterface {
     Matcher untilMatcher = untilPattern.matcher(command);
     boolean hasUntil = untilMatcher.find();
 
+    boolean isForever = Pattern.compile("\\bforever\\b", Pattern.CASE_INSENSITIVE)
+        .matcher(command).find();
+
     Pattern timePattern = Pattern.compile(
         "from\\s+.*?(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2})\\s+.*?to\\s+.*?(\\d{4}-\\d{2}-\\d{2}"
             + "T\\d{2}:\\d{2})",
@@ -152,6 +155,13 @@ public class CreateEventCommand implements EventCommandInterface {
             weekdays, untilDate);
         view.displaySuccess("Event series '" + subject + "' created until " + untilDate);
         return;
+      } else if (isForever) {
+        String startDateTime = timeMatcher.group(1);
+        String endDateTime = timeMatcher.group(2);
+
+        model.createSeriesEventWithoutEnd(subject, startDateTime, endDateTime, weekdays);
+        view.displaySuccess("Event series '" + subject + "' created without end");
+        return;
       }
     }
 
@@ -171,6 +181,12 @@ public class CreateEventCommand implements EventCommandInterface {
         model.createAllDaySeriesEventWithEndDate(subject, date, weekdays, untilDate);
         view.displaySuccess("Event series '" + subject + "' created until " + untilDate);
         return;
+      } else if (isForever) {
+        String date = dateMatcher.group(1);
+
+        model.createAllDaySeriesEventWithoutEnd(subject, date, weekdays);
+        view.displaySuccess("Event series '" + subject + "' created without end");
+        return;
       }
     }
 
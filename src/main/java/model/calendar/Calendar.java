@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -14,11 +15,14 @@ import model.event.EventFactory;
 import model.event.EventInterface;
 import model.event.EventManager;
 import model.event.EventNotFoundException;
+import model.event.EventPatch;
 import model.event.EventPrinter;
 import model.event.EventProperty;
+import model.event.EventQuery;
 import model.event.EventReadOnlyInterface;
 import model.event.SeriesInterface;
 import model.event.SeriesOccurrence;
+import model.event.SeriesUnbounded;
 import model.event.SeriesUntilEnd;
 import model.event.SeriesUpdater;
 
@@ -112,6 +116,22 @@ public class Calendar implements CalendarModelInterface {
         eventEndDateTime.toLocalTime());
   }
 
+  @Override
+  public void createSeriesEventWithoutEnd(String subject, String startDateTime,
+                                          String endDateTime, Set<Weekday> weekdays)
+      throws DateTimeParseException, EventExistException {
+    LocalDateTime eventStartDateTime = LocalDateTime.parse(startDateTime);
+    LocalDateTime eventEndDateTime = LocalDateTime.parse(endDateTime);
+
+    if (!eventStartDateTime.toLocalDate().equals(eventEndDateTime.toLocalDate())) {
+      throw new UnsupportedOperationException("Series events cannot span more than one days");
+    }
+
+    SeriesUnbounded series = EventFactory.createSeriesWithoutEnd(weekdays);
+    this.eventManager.addSeries(series, subject, eventStartDateTime,
+        eventEndDateTime.toLocalTime());
+  }
+
   @Override
   public void createAllDaySeriesEventWithEndDate(String subject, String startDate,
                                                  Set<Weekday> weekdays, String seriesEndDate)
@@ -122,6 +142,15 @@ public class Calendar implements CalendarModelInterface {
         LocalTime.parse("17:00"));
   }
 
+  @Override
+  public void createAllDaySeriesEventWithoutEnd(String subject, String startDate,
+                                                Set<Weekday> weekdays)
+      throws DateTimeParseException, EventExistException {
+    SeriesUnbounded series = EventFactory.createSeriesWithoutEnd(weekdays);
+    this.eventManager.addSeries(series, subject, LocalDateTime.parse(startDate + "T08:00"),
+        LocalTime.parse("17:00"));
+  }
+
   @Override
   public void editSingleEvent(List<String> args)
       throws IllegalArgumentException, DateTimeParseException, EventNotFoundException,
@@ -142,18 +171,21 @@ public class Calendar implements CalendarModelInterface {
         this.eventManager.findEvent(subject, LocalDateTime.parse(startDateTime),
             LocalDateTime.parse(endDateTime));
 
-    EventInterface newEvent = this.eventEditor.editEvent(oldEvent, eventProperty, newValue);
+    EventPatch patch = this.eventEditor.parse(eventProperty, newValue);
 
     if (eventProperty == EventProperty.START) {
       Duration eventDuration = Duration.between(
           oldEvent.getStartDateTime(),
           oldEvent.getEndDateTime()
       );
-      LocalDateTime newStartDateTime = newEvent.getStartDateTime();
-      LocalDateTime newEndDateTime = newStartDateTime.plus(eventDuration);
+      LocalDateTime newEndDateTime = patch.getStartDateTime().plus(eventDuration);
+
+      patch = patch.toBuilder().setEndDateTime(newEndDateTime).build();
+    }
 
-      newEvent = this.eventEditor.editEvent(newEvent, EventProperty.END, newEndDateTime.toString());
-    } else if (eventProperty == EventProperty.END) {
+    EventInterface newEvent = this.eventEditor.editEvent(oldEvent, patch);
+
+    if (eventProperty == EventProperty.END) {
       if (newEvent.getEndDateTime().isBefore(newEvent.getStartDateTime())) {
         throw new UnsupportedOperationException("Event end time cannot be before start time!");
       }
@@ -170,11 +202,12 @@ public class Calendar implements CalendarModelInterface {
     EventProperty eventProperty = EventProperty.valueOf(property.toUpperCase());
 
     LocalDateTime startFrom = LocalDateTime.parse(startDateTime);
+    EventPatch patch = this.eventEditor.parse(eventProperty, newValue);
     List<SeriesInterface> seriesList =
-        editSingleEventsAndGetSeriesStartFromHelper(subject, eventProperty, startFrom, newValue);
+        editSingleEventsAndGetSeriesStartFromHelper(subject, eventProperty, startFrom, patch);
 
     for (SeriesInterface series : seriesList) {
-      this.seriesUpdater.updateSeriesStartFrom(series, eventProperty, startFrom, newValue);
+      this.seriesUpdater.updateSeriesStartFrom(series, eventProperty, startFrom, patch);
     }
   }
 
@@ -185,11 +218,12 @@ public class Calendar implements CalendarModelInterface {
       EventExistException, UnsupportedOperationException {
     EventProperty eventProperty = EventProperty.valueOf(property.toUpperCase());
     LocalDateTime startingFrom = LocalDateTime.parse(startDateTime);
+    EventPatch patch = this.eventEditor.parse(eventProperty, newValue);
     List<SeriesInterface> seriesList =
-        editSingleEventsAndGetSeriesStartFromHelper(subject, eventProperty, startingFrom, newValue);
+        editSingleEventsAndGetSeriesStartFromHelper(subject, eventProperty, startingFrom, patch);
 
     for (SeriesInterface series : seriesList) {
-      this.seriesUpdater.updateSeriesAll(series, eventProperty, startingFrom, newValue);
+      this.seriesUpdater.updateSeriesAll(series, eventProperty, startingFrom, patch);
     }
   }
 
@@ -197,11 +231,9 @@ public class Calendar implements CalendarModelInterface {
   public String getEventsOnDate(String date) throws DateTimeParseException {
     LocalDate targetDate = LocalDate.parse(date);
 
-    List<EventInterface> eventsOnDate = this.eventManager.filter(event -> {
-      LocalDate start = event.getStartDateTime().toLocalDate();
-      LocalDate end = event.getEndDateTime().toLocalDate();
-      return !targetDate.isBefore(start) && !targetDate.isAfter(end);
-    });
+    List<EventInterface> eventsOnDate = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setDates(targetDate, targetDate)
+        .build());
 
     if (eventsOnDate.isEmpty()) {
       return "No events scheduled on this date";
@@ -216,9 +248,9 @@ public class Calendar implements CalendarModelInterface {
     LocalDateTime start = LocalDateTime.parse(startDateTime);
     LocalDateTime end = LocalDateTime.parse(endDateTime);
 
-    List<EventInterface> eventInRange = this.eventManager.filter(event ->
-        !event.getStartDateTime().isAfter(end)
-            && !event.getEndDateTime().isBefore(start));
+    List<EventInterface> eventInRange = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setWindow(start, end)
+        .build());
 
     if (eventInRange.isEmpty()) {
       return "No events scheduled between this range";
@@ -230,21 +262,35 @@ public class Calendar implements CalendarModelInterface {
   @Override
   public CalendarStatus isBusy(String dateTime) throws DateTimeParseException {
     LocalDateTime eventDateTime = LocalDateTime.parse(dateTime);
-    List<EventInterface> eventAtDateTime = this.eventManager.filter(event ->
-        !event.getStartDateTime().isAfter(eventDateTime)
-            && !event.getEndDateTime().isBefore(eventDateTime));
-    if (eventAtDateTime.isEmpty()) {
-      return CalendarStatus.AVAILABLE;
-    } else {
+    if (this.eventManager.hasEventAt(eventDateTime)) {
       return CalendarStatus.BUSY;
+    } else {
+      return CalendarStatus.AVAILABLE;
     }
   }
 
+  @Override
+  public List<CalendarStatus> isBusy(List<LocalDateTime> dateTimes) {
+    List<CalendarStatus> result = new ArrayList<>();
+    for (LocalDateTime dateTime : dateTimes) {
+      result.add(this.eventManager.hasEventAt(dateTime)
+          ? CalendarStatus.BUSY : CalendarStatus.AVAILABLE);
+    }
+    return result;
+  }
+
   @Override
   public List<EventReadOnlyInterface> getAllEventsReadOnly() {
     return this.eventManager.getAllEventsReadOnly();
   }
 
+  @Override
+  public List<EventReadOnlyInterface> getEventsForDays(LocalDate from, LocalDate to) {
+    return new ArrayList<>(this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setDates(from, to)
+        .build()));
+  }
+
   @Override
   public boolean isSeriesEvent(EventReadOnlyInterface event) {
     return this.eventManager.isSeriesEvent(Objects.requireNonNull(event));
@@ -265,27 +311,44 @@ public class Calendar implements CalendarModelInterface {
     return this.eventManager.getSeriesOccurrence(Objects.requireNonNull(event));
   }
 
+  @Override
+  public Integer getSeriesOccurrenceCount(EventReadOnlyInterface event) {
+    return this.eventManager.getSeriesOccurrenceCount(Objects.requireNonNull(event));
+  }
+
+  @Override
+  public Integer getSeriesRemainingCount(EventReadOnlyInterface event, LocalDate date) {
+    return this.eventManager.getSeriesRemainingCount(Objects.requireNonNull(event),
+        Objects.requireNonNull(date));
+  }
+
+  @Override
+  public LocalDate getSeriesLastDate(EventReadOnlyInterface event) {
+    return this.eventManager.getSeriesLastDate(Objects.requireNonNull(event));
+  }
+
   /**
    * Update SingleEvents starting at given date and time. Then return Series starting at that time.
    *
    * @param subject      event subject
    * @param property     property to be updated
    * @param startingFrom given date and time
-   * @param newValue     new property value
+   * @param patch        new property value
    * @return list of Series starting at that time
    * @throws EventNotFoundException if no events and no series starting from given date and time
    * @throws EventExistException    if event(s) has already existed
    */
   private List<SeriesInterface> editSingleEventsAndGetSeriesStartFromHelper(
-      String subject, EventProperty property, LocalDateTime startingFrom, String newValue)
+      String subject, EventProperty property, LocalDateTime startingFrom, EventPatch patch)
       throws EventNotFoundException, EventExistException {
-    List<EventInterface> eventsStartAt = this.eventManager.filter(event ->
-        event.getSubject().equals(subject)
-            && event.getStartDateTime().equals(startingFrom));
+    List<EventInterface> eventsStartAt = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSubject(subject)
+        .setStartDateTime(startingFrom)
+        .build());
 
     List<EventInterface> eventsToBeUpdated =
         this.eventManager.filterSingleEventsFromList(eventsStartAt);
-    this.eventManager.updateEventsProperty(eventsToBeUpdated, property, newValue, this.eventEditor);
+    this.eventManager.updateEventsProperty(eventsToBeUpdated, property, patch);
 
     List<SeriesInterface> seriesList = this.eventManager.filterSeriesListFromList(eventsStartAt);
 
@@ -46,7 +46,7 @@ public class CalendarManager implements CalendarManagerInterface {
   @Override
   public void editCalendar(String name, String property, String newValue)
       throws CalendarNotFoundException, IllegalArgumentException, CalendarExistException,
-      DateTimeException {
+      DateTimeException, UnsupportedOperationException {
     if (!calendars.containsKey(name)) {
       throw new CalendarNotFoundException("Calendar does not exist");
     }
@@ -94,11 +94,12 @@ public class CalendarManager implements CalendarManagerInterface {
    *
    * @param calendar    calendar to be edited
    * @param newTimeZone new time zone
-   * @throws DateTimeException if the zone ID has an invalid format or cannot be found
+   * @throws DateTimeException             if the zone ID has an invalid format or cannot be found
+   * @throws UnsupportedOperationException if a Series without end cannot be shifted as a whole
    */
   private void editCalendarTimeZoneHelper(TimezoneCalendarModelInterface calendar,
                                           String newTimeZone)
-      throws DateTimeException {
+      throws DateTimeException, UnsupportedOperationException {
     ZoneId newTimeZoneId = ZoneId.of(newTimeZone);
     ZoneId oldTimeZoneId = this.calendarToTimeZoneMap.get(calendar);
 
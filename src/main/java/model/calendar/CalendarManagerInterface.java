@@ -28,14 +28,16 @@ public interface CalendarManagerInterface {
    *
    * @param name     calendar name
    * @param property calendar property to be edited
-   * @throws CalendarNotFoundException if calendar {@param name} doesn't exist
-   * @throws IllegalArgumentException  if property not found
-   * @throws CalendarExistException    if calendar {@param name} has already existed
-   * @throws DateTimeException         if the zone ID has an invalid format or cannot be found
+   * @throws CalendarNotFoundException     if calendar {@param name} doesn't exist
+   * @throws IllegalArgumentException      if property not found
+   * @throws CalendarExistException        if calendar {@param name} has already existed
+   * @throws DateTimeException             if the zone ID has an invalid format or cannot be found
+   * @throws UnsupportedOperationException if a Series without end cannot be shifted to the new
+   *                                       timezone as a whole
    */
   void editCalendar(String name, String property, String newValue)
       throws CalendarNotFoundException, IllegalArgumentException, CalendarExistException,
-      DateTimeException;
+      DateTimeException, UnsupportedOperationException;
 
   /**
    * Set calendar context to create/edit/print/export events in the context of that calendar.
@@ -1,6 +1,7 @@
 package model.calendar;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Set;
@@ -83,6 +84,22 @@ public interface CalendarModelInterface {
                                     Set<Weekday> weekdays, String seriesEndDate)
       throws DateTimeParseException, EventExistException, UnsupportedOperationException;
 
+  /**
+   * Creates an event series without an end. Its events are only expanded inside the range being
+   * read.
+   *
+   * @param subject       event subject
+   * @param startDateTime event start date and time
+   * @param endDateTime   event end date and time
+   * @param weekdays      weekdays event repeat on
+   * @throws DateTimeParseException        if date/time string format is wrong
+   * @throws EventExistException           if event(s) has already existed
+   * @throws UnsupportedOperationException if events span more than one day
+   */
+  void createSeriesEventWithoutEnd(String subject, String startDateTime, String endDateTime,
+                                   Set<Weekday> weekdays)
+      throws DateTimeParseException, EventExistException, UnsupportedOperationException;
+
   /**
    * Creates a series of all day events until a specific date (inclusive).
    *
@@ -97,6 +114,18 @@ public interface CalendarModelInterface {
                                           String seriesEndDate)
       throws DateTimeParseException, EventExistException;
 
+  /**
+   * Creates a series of all day events without an end.
+   *
+   * @param subject   event subject
+   * @param startDate event start date
+   * @param weekdays  weekdays event repeat on
+   * @throws DateTimeParseException if date/time string format is wrong
+   * @throws EventExistException    if event(s) has already existed
+   */
+  void createAllDaySeriesEventWithoutEnd(String subject, String startDate, Set<Weekday> weekdays)
+      throws DateTimeParseException, EventExistException;
+
   /**
    * Identify the event that has the given subject and starts at the given date and time, and edit
    * its property. This results in change in property for a single instance (irrespective of whether
@@ -190,6 +219,14 @@ public interface CalendarModelInterface {
    */
   CalendarStatus isBusy(String dateTime) throws DateTimeParseException;
 
+  /**
+   * Get busy or available status of Calendar at each of the given dates and times.
+   *
+   * @param dateTimes given dates and times
+   * @return Status of Calendar at each date and time, in the same order
+   */
+  List<CalendarStatus> isBusy(List<LocalDateTime> dateTimes);
+
   /**
    * Get all events in Calendar.
    *
@@ -197,6 +234,16 @@ public interface CalendarModelInterface {
    */
   List<EventReadOnlyInterface> getAllEventsReadOnly();
 
+  /**
+   * Get all events that partly or completely lie on the dates between {@param from} and
+   * {@param to} (both inclusive). An event spanning several days is returned once.
+   *
+   * @param from first date
+   * @param to   last date
+   * @return list of events ordered by start date and time
+   */
+  List<EventReadOnlyInterface> getEventsForDays(LocalDate from, LocalDate to);
+
   /**
    * Determines whether the given event is part of a series.
    *
@@ -238,4 +285,36 @@ public interface CalendarModelInterface {
    */
   Integer getSeriesOccurrence(EventReadOnlyInterface event);
 
+  /**
+   * Counts the occurrences currently in the series of the specified event, leaving out removed
+   * occurrences and counting occurrences that were edited on their own.
+   *
+   * @param event series event
+   * @return number of occurrences, or null if the series has no end
+   * @throws IllegalArgumentException if {@param event} is not a series event
+   * @throws NullPointerException     if {@param event} is null
+   */
+  Integer getSeriesOccurrenceCount(EventReadOnlyInterface event);
+
+  /**
+   * Counts the occurrences of the series of the specified event on dates after {@param date}.
+   *
+   * @param event series event
+   * @param date  date after which occurrences are counted
+   * @return number of remaining occurrences, or null if the series has no end
+   * @throws IllegalArgumentException if {@param event} is not a series event
+   * @throws NullPointerException     if {@param event} or {@param date} is null
+   */
+  Integer getSeriesRemainingCount(EventReadOnlyInterface event, LocalDate date);
+
+  /**
+   * Gets the date of the last occurrence in the series of the specified event.
+   *
+   * @param event series event
+   * @return last occurrence date, or null if the series has no end
+   * @throws IllegalArgumentException if {@param event} is not a series event
+   * @throws NullPointerException     if {@param event} is null
+   */
+  LocalDate getSeriesLastDate(EventReadOnlyInterface event);
+
 }
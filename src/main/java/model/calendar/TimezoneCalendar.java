@@ -10,13 +10,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import model.event.EventBatch;
 import model.event.EventExistException;
 import model.event.EventFactory;
 import model.event.EventInterface;
 import model.event.EventNotFoundException;
-import model.event.EventProperty;
+import model.event.EventPatch;
+import model.event.EventQuery;
 import model.event.SeriesImpl;
 import model.event.SeriesInterface;
+import model.event.SeriesMembership;
+import model.event.SeriesRemapper;
 
 /**
  * This class represents general purposes of a Calendar, which contains a number of  single events
@@ -34,9 +38,8 @@ class TimezoneCalendar extends Calendar implements TimezoneCalendarModelInterfac
   public List<EventInterface> getShiftedEvent(String subject, LocalDateTime start,
                                               LocalDateTime target)
       throws EventNotFoundException {
-    List<EventInterface> eventsToBeUpdated = this.eventManager.filter(
-        event -> event.getSubject().equals(subject)
-            && event.getStartDateTime().equals(start));
+    List<EventInterface> eventsToBeUpdated = this.eventManager.query(
+        new EventQuery.EventQueryBuilder().setSubject(subject).setStartDateTime(start).build());
     if (eventsToBeUpdated.isEmpty()) {
       throw new EventNotFoundException("Event not found");
     }
@@ -45,10 +48,11 @@ class TimezoneCalendar extends Calendar implements TimezoneCalendarModelInterfac
     for (EventInterface event : eventsToBeUpdated) {
       Duration duration = Duration.between(event.getStartDateTime(), event.getEndDateTime());
       LocalDateTime targetEnd = target.plus(duration);
-      EventInterface shiftedEvent;
-      shiftedEvent = this.eventEditor.editEvent(event, EventProperty.START, target.toString());
-      shiftedEvent =
-          this.eventEditor.editEvent(shiftedEvent, EventProperty.END, targetEnd.toString());
+      EventInterface shiftedEvent = this.eventEditor.editEvent(event,
+          new EventPatch.EventPatchBuilder()
+              .setStartDateTime(target)
+              .setEndDateTime(targetEnd)
+              .build());
       result.add(shiftedEvent);
     }
     return result;
@@ -62,46 +66,29 @@ class TimezoneCalendar extends Calendar implements TimezoneCalendarModelInterfac
   @Override
   public void addSeriesEventsFromMap(Map<SeriesInterface, List<EventInterface>> seriesEventsBetween)
       throws EventExistException {
-    List<EventInterface> eventsToBeAdded = new ArrayList<>();
+    EventBatch batch = new EventBatch();
     for (List<EventInterface> events : seriesEventsBetween.values()) {
-      eventsToBeAdded.addAll(events);
+      batch.addEvents(events);
     }
-    this.eventManager.addSingleEventFromList(eventsToBeAdded);
-
     for (SeriesInterface series : seriesEventsBetween.keySet()) {
-      List<EventInterface> events = seriesEventsBetween.get(series);
-      this.eventManager.attachEventsToNewSeries(series, events);
+      batch.attachSeries(series, seriesEventsBetween.get(series));
     }
+    this.eventManager.apply(batch);
   }
 
   @Override
-  public void shiftTimeZone(ZoneId oldTimeZoneId, ZoneId newTimeZoneId) {
-    List<EventInterface> eventsToBeUpdated = this.eventManager.getAllEvents();
-    List<EventInterface> updatedEvents = new ArrayList<>();
-    for (EventInterface event : eventsToBeUpdated) {
-      ZonedDateTime oldStart = event.getStartDateTime().atZone(oldTimeZoneId);
-      ZonedDateTime oldEnd = event.getEndDateTime().atZone(oldTimeZoneId);
-
-      LocalDateTime newStart = oldStart.withZoneSameInstant(newTimeZoneId).toLocalDateTime();
-      LocalDateTime newEnd = oldEnd.withZoneSameInstant(newTimeZoneId).toLocalDateTime();
-
-      EventInterface shiftedEvent;
-      shiftedEvent = this.eventEditor.editEvent(event, EventProperty.START, newStart.toString());
-      shiftedEvent = this.eventEditor.editEvent(shiftedEvent, EventProperty.END, newEnd.toString());
-      updatedEvents.add(shiftedEvent);
-    }
-    this.eventManager.updateAllEventsWithList(eventsToBeUpdated, updatedEvents);
+  public void shiftTimeZone(ZoneId oldTimeZoneId, ZoneId newTimeZoneId)
+      throws UnsupportedOperationException {
+    this.eventManager.shiftTimeZone(oldTimeZoneId, newTimeZoneId,
+        event -> shiftEventTimezoneHelper(Duration.ZERO, oldTimeZoneId, newTimeZoneId, event));
   }
 
   @Override
   public List<EventInterface> getShiftedEventsOnDate(LocalDate original, LocalDate target,
                                                      ZoneId oldTimeZoneId, ZoneId newTimeZoneId)
       throws EventNotFoundException {
-    List<EventInterface> eventsOnDate = this.eventManager.filter(event -> {
-      LocalDate start = event.getStartDateTime().toLocalDate();
-      LocalDate end = event.getEndDateTime().toLocalDate();
-      return !original.isBefore(start) && !original.isAfter(end);
-    });
+    List<EventInterface> eventsOnDate = this.eventManager.query(
+        new EventQuery.EventQueryBuilder().setDates(original, original).build());
 
     if (eventsOnDate.isEmpty()) {
       throw new EventNotFoundException("Event not found");
@@ -109,7 +96,7 @@ class TimezoneCalendar extends Calendar implements TimezoneCalendarModelInterfac
 
     return shiftEventsTimezoneHelper(
         Duration.between(original.atStartOfDay(), target.atStartOfDay()), oldTimeZoneId,
-        newTimeZoneId, false, eventsOnDate);
+        newTimeZoneId, eventsOnDate);
   }
 
   @Override
@@ -119,11 +106,14 @@ class TimezoneCalendar extends Calendar implements TimezoneCalendarModelInterfac
                                                             ZoneId oldTimeZoneId,
                                                             ZoneId newTimeZoneId) {
     List<EventInterface> singleEventsBetween =
-        this.eventManager.filterSingleEventsBetween(intervalStart, intervalEnd);
+        this.eventManager.query(new EventQuery.EventQueryBuilder()
+            .setDates(intervalStart, intervalEnd)
+            .setMembership(SeriesMembership.SINGLE)
+            .build());
 
     return shiftEventsTimezoneHelper(
         Duration.between(intervalStart.atStartOfDay(), targetIntervalStart.atStartOfDay()),
-        oldTimeZoneId, newTimeZoneId, false, singleEventsBetween);
+        oldTimeZoneId, newTimeZoneId, singleEventsBetween);
   }
 
   @Override
@@ -140,25 +130,22 @@ class TimezoneCalendar extends Calendar implements TimezoneCalendarModelInterfac
         ChronoUnit.DAYS.between(intervalStart, targetIntervalStart)
     );
 
+    SeriesRemapper remapper =
+        new SeriesRemapper(oldTimeZoneId, newTimeZoneId, targetIntervalStart);
     Map<SeriesInterface, List<EventInterface>> result = new HashMap<>();
     for (SeriesInterface series : seriesEventsBetween.keySet()) {
-      List<EventInterface> shiftedEvents = shiftEventsTimezoneHelper(
-          Duration.between(intervalStart.atStartOfDay(), targetIntervalStart.atStartOfDay()),
-          oldTimeZoneId, newTimeZoneId, true, seriesEventsBetween.get(series)
-      );
+      List<EventInterface> remappedEvents =
+          remapper.remap(series, seriesEventsBetween.get(series));
 
       SeriesInterface newSeries;
       SeriesImpl seriesImpl = (SeriesImpl) series;
       if (seriesImpl.getEndDate() == null) {
         newSeries =
-            EventFactory.createSeriesWithOccurrence(series.getWeekdays(), shiftedEvents.size());
+            EventFactory.createSeriesWithOccurrence(series.getWeekdays(), remappedEvents.size());
       } else {
         newSeries = EventFactory.createSeriesWithEndDate(series.getWeekdays(), targetIntervalEnd);
       }
-
-      result.put(newSeries,
-          this.seriesUpdater.matchSeriesEventsWeekdays(series, shiftedEvents, targetIntervalStart))
-      ;
+      result.put(newSeries, remappedEvents);
     }
     return result;
   }
@@ -174,28 +161,38 @@ class TimezoneCalendar extends Calendar implements TimezoneCalendarModelInterfac
    * @return shifted events
    */
   private List<EventInterface> shiftEventsTimezoneHelper(Duration shift, ZoneId oldTimeZoneId,
-                                                         ZoneId newTimeZoneId, boolean isSeries,
-                                                         List<EventInterface> events)
-      throws UnsupportedOperationException {
+                                                         ZoneId newTimeZoneId,
+                                                         List<EventInterface> events) {
     List<EventInterface> result = new ArrayList<>();
     for (EventInterface event : events) {
-      ZonedDateTime oldStart = event.getStartDateTime().atZone(oldTimeZoneId);
-      ZonedDateTime oldEnd = event.getEndDateTime().atZone(oldTimeZoneId);
-
-      LocalDateTime newStart =
-          oldStart.withZoneSameInstant(newTimeZoneId).toLocalDateTime().plus(shift);
-      LocalDateTime newEnd =
-          oldEnd.withZoneSameInstant(newTimeZoneId).toLocalDateTime().plus(shift);
-
-      if (isSeries && !newStart.toLocalDate().equals(newEnd.toLocalDate())) {
-        throw new UnsupportedOperationException("Series events cannot span more than one day");
-      }
-
-      EventInterface shiftedEvent;
-      shiftedEvent = this.eventEditor.editEvent(event, EventProperty.START, newStart.toString());
-      shiftedEvent = this.eventEditor.editEvent(shiftedEvent, EventProperty.END, newEnd.toString());
-      result.add(shiftedEvent);
+      result.add(shiftEventTimezoneHelper(shift, oldTimeZoneId, newTimeZoneId, event));
     }
     return result;
   }
+
+  /**
+   * Help shift an event time by {@param shift} and change timezone from {@param oldTimeZoneId} to
+   * {@param newTimeZoneId}.
+   *
+   * @param shift         time shifted
+   * @param oldTimeZoneId original timezone
+   * @param newTimeZoneId target timezone
+   * @param event         event to be shifted
+   * @return shifted event
+   */
+  private EventInterface shiftEventTimezoneHelper(Duration shift, ZoneId oldTimeZoneId,
+                                                  ZoneId newTimeZoneId, EventInterface event) {
+    ZonedDateTime oldStart = event.getStartDateTime().atZone(oldTimeZoneId);
+    ZonedDateTime oldEnd = event.getEndDateTime().atZone(oldTimeZoneId);
+
+    LocalDateTime newStart =
+        oldStart.withZoneSameInstant(newTimeZoneId).toLocalDateTime().plus(shift);
+    LocalDateTime newEnd =
+        oldEnd.withZoneSameInstant(newTimeZoneId).toLocalDateTime().plus(shift);
+
+    return this.eventEditor.editEvent(event, new EventPatch.EventPatchBuilder()
+        .setStartDateTime(newStart)
+        .setEndDateTime(newEnd)
+        .build());
+  }
 }
\ No newline at end of file
@@ -45,12 +45,16 @@ public interface TimezoneCalendarModelInterface extends CalendarModelInterface {
       throws EventExistException;
 
   /**
-   * Shift timezone of {@code this} from {@param oldTimeZoneId} to {@param newTimeZoneId}.
+   * Shift timezone of {@code this} from {@param oldTimeZoneId} to {@param newTimeZoneId}. A Series
+   * without end is shifted as a whole, which needs its events to move by the same amount and stay
+   * on their day.
    *
    * @param oldTimeZoneId old time zone
    * @param newTimeZoneId new time zone
+   * @throws UnsupportedOperationException if a Series without end cannot be shifted as a whole
    */
-  void shiftTimeZone(ZoneId oldTimeZoneId, ZoneId newTimeZoneId);
+  void shiftTimeZone(ZoneId oldTimeZoneId, ZoneId newTimeZoneId)
+      throws UnsupportedOperationException;
 
   /**
    * Get updated events on {@param original} shifted to {@param target}. Meanwhile, transfer event
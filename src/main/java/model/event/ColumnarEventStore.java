@@ -0,0 +1,363 @@
+package model.event;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+/**
+ * This class implements EventStoreInterface as columns of primitives, one row per event: start and
+ * end as epoch minutes in {@code long} arrays, subject, location and description as ids into a
+ * {@link StringPool} of the store, which drops strings no stored event uses, and status as a byte.
+ * Identities are found through an open-addressing table of row numbers, so a stored event costs a
+ * few dozen bytes instead of the event object, its dates and times, and its hash map entry.
+ *
+ * <p>Events are handed out as views reading their row. Removing an event moves the last row into
+ * its place, so a view is only valid until the store next changes; reading it afterward throws
+ * {@link ConcurrentModificationException}. Events must start and end on whole minutes.
+ *
+ * <p>Given to {@link EventManager#EventManager(EventStoreInterface)}, the store holds the stored
+ * events of the manager in place of event objects.
+ */
+public class ColumnarEventStore implements EventStoreInterface {
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int EMPTY = -1;
+  private static final byte NO_STATUS = -1;
+  private static final EventStatus[] STATUSES = EventStatus.values();
+
+  private final StringPool strings;
+  private long[] starts;
+  private long[] ends;
+  private int[] subjects;
+  private int[] locations;
+  private int[] descriptions;
+  private byte[] statuses;
+  private int[] slots;
+  private int size;
+  private int modCount;
+
+  /**
+   * Create an empty ColumnarEventStore.
+   */
+  public ColumnarEventStore() {
+    this.strings = new StringPool();
+    this.starts = new long[INITIAL_CAPACITY];
+    this.ends = new long[INITIAL_CAPACITY];
+    this.subjects = new int[INITIAL_CAPACITY];
+    this.locations = new int[INITIAL_CAPACITY];
+    this.descriptions = new int[INITIAL_CAPACITY];
+    this.statuses = new byte[INITIAL_CAPACITY];
+    this.slots = new int[INITIAL_CAPACITY * 2];
+    Arrays.fill(this.slots, EMPTY);
+    this.size = 0;
+    this.modCount = 0;
+  }
+
+  @Override
+  public void add(EventReadOnlyInterface event) throws EventExistException {
+    long start = toMinutesHelper(event.getStartDateTime());
+    long end = toMinutesHelper(event.getEndDateTime());
+    if (findRowHelper(this.strings.find(event.getSubject()), start, end) != EMPTY) {
+      throw new EventExistException("Event already exists!");
+    }
+
+    growHelper();
+    int row = this.size;
+    this.starts[row] = start;
+    this.ends[row] = end;
+    this.subjects[row] = this.strings.acquire(event.getSubject());
+    this.locations[row] = this.strings.acquire(event.getLocation());
+    this.descriptions[row] = this.strings.acquire(event.getDescription());
+    this.statuses[row] = event.getStatus() == null ? NO_STATUS : (byte) event.getStatus().ordinal();
+    this.size += 1;
+    this.slots[freeSlotHelper(row)] = row;
+    this.modCount += 1;
+  }
+
+  @Override
+  public boolean remove(EventReadOnlyInterface event) {
+    int row = findRowHelper(this.strings.find(event.getSubject()),
+        toMinutesHelper(event.getStartDateTime()), toMinutesHelper(event.getEndDateTime()));
+    if (row == EMPTY) {
+      return false;
+    }
+
+    deleteSlotHelper(slotOfHelper(row));
+    this.strings.release(this.strings.valueOf(this.subjects[row]));
+    this.strings.release(this.strings.valueOf(this.locations[row]));
+    this.strings.release(this.strings.valueOf(this.descriptions[row]));
+    int last = this.size - 1;
+    if (row != last) {
+      this.slots[slotOfHelper(last)] = row;
+      this.starts[row] = this.starts[last];
+      this.ends[row] = this.ends[last];
+      this.subjects[row] = this.subjects[last];
+      this.locations[row] = this.locations[last];
+      this.descriptions[row] = this.descriptions[last];
+      this.statuses[row] = this.statuses[last];
+    }
+    this.size -= 1;
+    this.modCount += 1;
+    return true;
+  }
+
+  @Override
+  public boolean contains(EventReadOnlyInterface event) {
+    return get(EventKey.of(event)) != null;
+  }
+
+  @Override
+  public EventReadOnlyInterface get(EventKey key) {
+    int row = findRowHelper(this.strings.find(key.getSubject()),
+        toMinutesHelper(key.getStartDateTime()), toMinutesHelper(key.getEndDateTime()));
+    return row == EMPTY ? null : new RowView(row);
+  }
+
+  /**
+   * Find the stored events whose closed interval overlaps [{@param start}, {@param end}] by
+   * scanning the start and end columns.
+   *
+   * @param start range start
+   * @param end   range end
+   * @return overlapping events in start order
+   */
+  @Override
+  public List<EventReadOnlyInterface> findOverlapping(LocalDateTime start, LocalDateTime end) {
+    long startSecond = start.toEpochSecond(ZoneOffset.UTC);
+    long from = Math.floorDiv(startSecond + (start.getNano() > 0 ? 1 : 0) + 59, 60);
+    long to = Math.floorDiv(end.toEpochSecond(ZoneOffset.UTC), 60);
+    List<Integer> rows = new ArrayList<>();
+    for (int row = 0; row < this.size; row++) {
+      if (this.starts[row] <= to && this.ends[row] >= from) {
+        rows.add(row);
+      }
+    }
+    rows.sort((first, second) -> this.starts[first] != this.starts[second]
+        ? Long.compare(this.starts[first], this.starts[second])
+        : Long.compare(this.ends[first], this.ends[second]));
+
+    List<EventReadOnlyInterface> result = new ArrayList<>(rows.size());
+    for (int row : rows) {
+      result.add(new RowView(row));
+    }
+    return result;
+  }
+
+  @Override
+  public List<EventReadOnlyInterface> getAll() {
+    return findOverlapping(LocalDateTime.MIN, LocalDateTime.MAX);
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Help find the row of the event with the given identity.
+   *
+   * @param subject subject id, or {@link StringPool#ABSENT_ID}
+   * @param start   start in epoch minutes
+   * @param end     end in epoch minutes
+   * @return row, or {@link #EMPTY} if not stored
+   */
+  private int findRowHelper(int subject, long start, long end) {
+    if (subject == StringPool.ABSENT_ID) {
+      return EMPTY;
+    }
+    int mask = this.slots.length - 1;
+    for (int i = hashHelper(subject, start, end) & mask; this.slots[i] != EMPTY;
+         i = (i + 1) & mask) {
+      int row = this.slots[i];
+      if (this.subjects[row] == subject && this.starts[row] == start && this.ends[row] == end) {
+        return row;
+      }
+    }
+    return EMPTY;
+  }
+
+  /**
+   * Help find the slot holding {@param row}.
+   *
+   * @param row stored row
+   * @return slot index
+   */
+  private int slotOfHelper(int row) {
+    int mask = this.slots.length - 1;
+    int i = homeHelper(row);
+    while (this.slots[i] != row) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  /**
+   * Help find the first free slot from the home slot of {@param row}.
+   *
+   * @param row stored row
+   * @return free slot index
+   */
+  private int freeSlotHelper(int row) {
+    int mask = this.slots.length - 1;
+    int i = homeHelper(row);
+    while (this.slots[i] != EMPTY) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  /**
+   * Help empty slot {@param slot}, shifting later slots of the same probe run back so that every
+   * row stays reachable from its home slot.
+   *
+   * @param slot slot to be emptied
+   */
+  private void deleteSlotHelper(int slot) {
+    int mask = this.slots.length - 1;
+    int hole = slot;
+    for (int i = (hole + 1) & mask; this.slots[i] != EMPTY; i = (i + 1) & mask) {
+      int home = homeHelper(this.slots[i]);
+      if (((i - home) & mask) >= ((i - hole) & mask)) {
+        this.slots[hole] = this.slots[i];
+        hole = i;
+      }
+    }
+    this.slots[hole] = EMPTY;
+  }
+
+  /**
+   * Help grow the columns and the slot table so that one more row fits.
+   */
+  private void growHelper() {
+    if (this.size < this.starts.length) {
+      return;
+    }
+    int capacity = this.starts.length * 2;
+    this.starts = Arrays.copyOf(this.starts, capacity);
+    this.ends = Arrays.copyOf(this.ends, capacity);
+    this.subjects = Arrays.copyOf(this.subjects, capacity);
+    this.locations = Arrays.copyOf(this.locations, capacity);
+    this.descriptions = Arrays.copyOf(this.descriptions, capacity);
+    this.statuses = Arrays.copyOf(this.statuses, capacity);
+
+    this.slots = new int[capacity * 2];
+    Arrays.fill(this.slots, EMPTY);
+    for (int row = 0; row < this.size; row++) {
+      this.slots[freeSlotHelper(row)] = row;
+    }
+  }
+
+  /**
+   * Help get the home slot of the identity stored in {@param row}.
+   *
+   * @param row stored row
+   * @return home slot index
+   */
+  private int homeHelper(int row) {
+    return hashHelper(this.subjects[row], this.starts[row], this.ends[row])
+        & (this.slots.length - 1);
+  }
+
+  /**
+   * Help hash an identity.
+   *
+   * @param subject subject id
+   * @param start   start in epoch minutes
+   * @param end     end in epoch minutes
+   * @return hash
+   */
+  private static int hashHelper(int subject, long start, long end) {
+    long hash = subject * 0x9E3779B97F4A7C15L;
+    hash = (hash ^ start) * 0xC2B2AE3D27D4EB4FL;
+    hash = (hash ^ end) * 0x165667B19E3779F9L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Help convert {@param dateTime} to epoch minutes.
+   *
+   * @param dateTime date and time on a whole minute
+   * @return epoch minutes
+   * @throws IllegalArgumentException if the date and time is not on a whole minute
+   */
+  private static long toMinutesHelper(LocalDateTime dateTime) throws IllegalArgumentException {
+    if (dateTime.getSecond() != 0 || dateTime.getNano() != 0) {
+      throw new IllegalArgumentException("Event times must be on whole minutes");
+    }
+    return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+  }
+
+  /**
+   * Help convert epoch minutes {@param minutes} back to a date and time.
+   *
+   * @param minutes epoch minutes
+   * @return date and time
+   */
+  private static LocalDateTime fromMinutesHelper(long minutes) {
+    return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+  }
+
+  /**
+   * This class represents a read-only view of one row, valid until the store changes.
+   */
+  private class RowView implements EventReadOnlyInterface {
+    private final int row;
+    private final int expectedModCount;
+
+    /**
+     * Create a RowView of {@param row}.
+     *
+     * @param row stored row
+     */
+    private RowView(int row) {
+      this.row = row;
+      this.expectedModCount = modCount;
+    }
+
+    @Override
+    public String getSubject() {
+      return strings.valueOf(subjects[checkedRow()]);
+    }
+
+    @Override
+    public LocalDateTime getStartDateTime() {
+      return fromMinutesHelper(starts[checkedRow()]);
+    }
+
+    @Override
+    public LocalDateTime getEndDateTime() {
+      return fromMinutesHelper(ends[checkedRow()]);
+    }
+
+    @Override
+    public String getLocation() {
+      return strings.valueOf(locations[checkedRow()]);
+    }
+
+    @Override
+    public String getDescription() {
+      return strings.valueOf(descriptions[checkedRow()]);
+    }
+
+    @Override
+    public EventStatus getStatus() {
+      byte status = statuses[checkedRow()];
+      return status == NO_STATUS ? null : STATUSES[status];
+    }
+
+    /**
+     * Help get the row, checking that the store has not changed since the view was created.
+     *
+     * @return row
+     * @throws ConcurrentModificationException if the store has changed
+     */
+    private int checkedRow() throws ConcurrentModificationException {
+      if (modCount != this.expectedModCount) {
+        throw new ConcurrentModificationException("Event store has changed");
+      }
+      return this.row;
+    }
+  }
+}
@@ -0,0 +1,274 @@
+package model.event;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents a batch of changes to events and Series in Calendar: adds, removes,
+ * replacements, and Series attachments and removals. A batch only records changes; it is applied
+ * by {@link EventManager#apply(EventBatch)}, which first checks every recorded change for duplicate
+ * events and then applies all of them, so either the whole batch takes effect or none of it does.
+ * Changes are applied in the order they were recorded.
+ */
+public class EventBatch {
+  private final List<Change> changes;
+
+  /**
+   * Create an empty batch.
+   */
+  public EventBatch() {
+    this.changes = new ArrayList<>();
+  }
+
+  /**
+   * Add new SingleEvents. Each must not exist in Calendar or earlier in this batch.
+   *
+   * @param events events to be added
+   * @return this batch
+   */
+  public EventBatch addEvents(List<EventInterface> events) {
+    for (EventInterface event : events) {
+      this.changes.add(new Change(ChangeType.ADD, null, event, null, true));
+    }
+    return this;
+  }
+
+  /**
+   * Remove events from Calendar and from the Series they belong to.
+   *
+   * @param events events to be removed
+   * @return this batch
+   */
+  public EventBatch removeEvents(List<EventInterface> events) {
+    for (EventInterface event : events) {
+      this.changes.add(new Change(ChangeType.REMOVE, event, null, null, false));
+    }
+    return this;
+  }
+
+  /**
+   * Replace each original event with the updated event at the same position. An updated event
+   * stays in the Series of its original only if its start time is unchanged; otherwise it leaves
+   * the Series and the Series loses an occurrence.
+   *
+   * @param oldEvents       list of original events
+   * @param newEvents       list of updated events
+   * @param checkDuplicates whether updated events must not exist yet (when identifiers change)
+   * @return this batch
+   */
+  public EventBatch replaceEvents(List<EventInterface> oldEvents, List<EventInterface> newEvents,
+                                  boolean checkDuplicates) {
+    for (int i = 0; i < oldEvents.size(); i++) {
+      this.changes.add(new Change(ChangeType.REPLACE, oldEvents.get(i), newEvents.get(i), null,
+          checkDuplicates));
+    }
+    return this;
+  }
+
+  /**
+   * Replace each original event with the updated event at the same position, keeping the updated
+   * event in the Series of its original whatever changed.
+   *
+   * @param oldEvents list of original events
+   * @param newEvents list of updated events
+   * @return this batch
+   */
+  public EventBatch replaceEventsKeepingSeries(List<EventInterface> oldEvents,
+                                               List<EventInterface> newEvents) {
+    for (int i = 0; i < oldEvents.size(); i++) {
+      this.changes.add(new Change(ChangeType.REPLACE_KEEPING_SERIES, oldEvents.get(i),
+          newEvents.get(i), null, false));
+    }
+    return this;
+  }
+
+  /**
+   * Register a new Series whose occurrences follow its rule starting from {@param prototype}. The
+   * occurrences are not materialized; see {@link SeriesRule}.
+   *
+   * @param series          new series
+   * @param prototype       first event of the Series, carrying every property but the date
+   * @param checkDuplicates whether occurrences must not exist yet
+   * @return this batch
+   */
+  public EventBatch addSeries(SeriesInterface series, EventInterface prototype,
+                              boolean checkDuplicates) {
+    this.changes.add(new Change(ChangeType.ADD_SERIES, null, prototype, series, checkDuplicates));
+    return this;
+  }
+
+  /**
+   * Register a Series and attach events to it. These events can be old and new ones.
+   *
+   * @param series series to attach events to
+   * @param events events to be attached
+   * @return this batch
+   */
+  public EventBatch attachSeries(SeriesInterface series, List<EventInterface> events) {
+    this.changes.add(new Change(ChangeType.REGISTER_SERIES, null, null, series, false));
+    for (EventInterface event : events) {
+      this.changes.add(new Change(ChangeType.ATTACH, null, event, series, false));
+    }
+    return this;
+  }
+
+  /**
+   * End a Series before {@param date}: its rule stops before the date and its events on and after
+   * the date are removed. Unlike removing those events one by one, this also ends a Series
+   * without end.
+   *
+   * @param series series to be ended
+   * @param date   first date without events of the Series
+   * @return this batch
+   */
+  public EventBatch endSeries(SeriesInterface series, LocalDate date) {
+    this.changes.add(new Change(ChangeType.END_SERIES, null, null, series, false, date));
+    return this;
+  }
+
+  /**
+   * Remove a Series. Events still attached to it stay in Calendar as SingleEvents, so a Series
+   * without end must be ended first (see {@link #endSeries(SeriesInterface, LocalDate)}).
+   *
+   * @param series series to be removed
+   * @return this batch
+   */
+  public EventBatch removeSeries(SeriesInterface series) {
+    this.changes.add(new Change(ChangeType.REMOVE_SERIES, null, null, series, false));
+    return this;
+  }
+
+  /**
+   * Check whether the batch records no change.
+   *
+   * @return true if empty
+   */
+  public boolean isEmpty() {
+    return this.changes.isEmpty();
+  }
+
+  /**
+   * Get the recorded changes in order.
+   *
+   * @return list of changes
+   */
+  List<Change> getChanges() {
+    return this.changes;
+  }
+
+  /**
+   * Kind of a recorded change.
+   */
+  enum ChangeType {
+    ADD,
+    REMOVE,
+    REPLACE,
+    REPLACE_KEEPING_SERIES,
+    REGISTER_SERIES,
+    ADD_SERIES,
+    ATTACH,
+    END_SERIES,
+    REMOVE_SERIES
+  }
+
+  /**
+   * This class represents one recorded change.
+   */
+  static class Change {
+    private final ChangeType type;
+    private final EventInterface oldEvent;
+    private final EventInterface newEvent;
+    private final SeriesInterface series;
+    private final boolean checkDuplicate;
+    private final LocalDate date;
+
+    /**
+     * Create a change without a date.
+     *
+     * @param type           kind of change
+     * @param oldEvent       event removed or replaced, if any
+     * @param newEvent       event added, attached or replacing, if any
+     * @param series         series registered, attached to, ended or removed, if any
+     * @param checkDuplicate whether {@code newEvent} must not exist yet
+     */
+    private Change(ChangeType type, EventInterface oldEvent, EventInterface newEvent,
+                   SeriesInterface series, boolean checkDuplicate) {
+      this(type, oldEvent, newEvent, series, checkDuplicate, null);
+    }
+
+    /**
+     * Create a change.
+     *
+     * @param type           kind of change
+     * @param oldEvent       event removed or replaced, if any
+     * @param newEvent       event added, attached or replacing, if any
+     * @param series         series registered, attached to, ended or removed, if any
+     * @param checkDuplicate whether {@code newEvent} must not exist yet
+     * @param date           date a Series is ended before, if any
+     */
+    private Change(ChangeType type, EventInterface oldEvent, EventInterface newEvent,
+                   SeriesInterface series, boolean checkDuplicate, LocalDate date) {
+      this.type = type;
+      this.oldEvent = oldEvent;
+      this.newEvent = newEvent;
+      this.series = series;
+      this.checkDuplicate = checkDuplicate;
+      this.date = date;
+    }
+
+    /**
+     * Get the kind of change.
+     *
+     * @return change type
+     */
+    ChangeType getType() {
+      return this.type;
+    }
+
+    /**
+     * Get the event removed or replaced.
+     *
+     * @return old event
+     */
+    EventInterface getOldEvent() {
+      return this.oldEvent;
+    }
+
+    /**
+     * Get the event added, attached or replacing.
+     *
+     * @return new event
+     */
+    EventInterface getNewEvent() {
+      return this.newEvent;
+    }
+
+    /**
+     * Get the series registered, attached to, ended or removed.
+     *
+     * @return series
+     */
+    SeriesInterface getSeries() {
+      return this.series;
+    }
+
+    /**
+     * Get the date a Series is ended before.
+     *
+     * @return date
+     */
+    LocalDate getDate() {
+      return this.date;
+    }
+
+    /**
+     * Check whether the new event must not exist yet.
+     *
+     * @return true if duplicates are checked
+     */
+    boolean isCheckDuplicate() {
+      return this.checkDuplicate;
+    }
+  }
+}
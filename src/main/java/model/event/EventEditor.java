@@ -1,5 +1,6 @@
 package model.event;
 
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.Map;
 import model.event.command.EventCommandInterface;
@@ -12,7 +13,9 @@ import model.event.command.EventStatusCommand;
 import model.event.command.EventSubjectCommand;
 
 /**
- * This class represent the general purposes of editing Event and Series.
+ * This class represent the general purposes of editing Event and Series. Edits are typed
+ * {@link EventPatch}es; text values coming from the user are parsed into a patch once, by the
+ * command of their property.
  */
 public class EventEditor {
   private final Map<EventProperty, EventCommandInterface> eventCommands;
@@ -31,6 +34,33 @@ public class EventEditor {
     this.eventCommands.put(EventProperty.STATUS, new EventStatusCommand());
   }
 
+  /**
+   * Parse {@param newValue} as the new value of {@param property}.
+   *
+   * @param property property to be edited
+   * @param newValue new value for the property, as text
+   * @return patch setting the property
+   * @throws IllegalArgumentException if invalid status value
+   * @throws DateTimeParseException   if invalid date or time value
+   */
+  public EventPatch parse(EventProperty property, String newValue)
+      throws IllegalArgumentException, DateTimeParseException {
+    return this.eventCommands.get(property)
+        .execute(new EventPatch.EventPatchBuilder(), newValue)
+        .build();
+  }
+
+  /**
+   * Edit the properties of a SingleEvent set by {@param patch}.
+   *
+   * @param event event to be edited
+   * @param patch typed new property values
+   * @return edited event
+   */
+  public EventInterface editEvent(EventInterface event, EventPatch patch) {
+    return patch.apply(event);
+  }
+
   /**
    * Edit a property of a SingleEvent.
    *
@@ -39,9 +69,10 @@ public class EventEditor {
    * @param newValue new value for the property
    * @return edited event
    * @throws IllegalArgumentException if invalid status value
+   * @throws DateTimeParseException   if invalid date or time value
    */
   public EventInterface editEvent(EventInterface event, EventProperty property, String newValue)
-      throws IllegalArgumentException {
-    return this.eventCommands.get(property).execute(event, newValue);
+      throws IllegalArgumentException, DateTimeParseException {
+    return parse(property, newValue).apply(event);
   }
 }
@@ -54,4 +54,16 @@ public class EventFactory {
         .setEndDate(endDate)
         .build();
   }
+
+  /**
+   * Create a Series repeating on specified weekdays without an end.
+   *
+   * @param weekdays weekdays event repeat on
+   * @return new series
+   */
+  public static SeriesUnbounded createSeriesWithoutEnd(Set<Weekday> weekdays) {
+    return new SeriesUnbounded.SeriesUnboundedBuilder()
+        .setWeekdays(weekdays)
+        .build();
+  }
 }
@@ -0,0 +1,87 @@
+package model.event;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * This class represents the identity of an event in Calendar: its subject, start date and time,
+ * and end date and time. Two events with the same identity cannot coexist in one Calendar, so the
+ * key can be used to look up an event directly instead of comparing it with every other event.
+ */
+public final class EventKey {
+  private final String subject;
+  private final LocalDateTime startDateTime;
+  private final LocalDateTime endDateTime;
+
+  /**
+   * Create an EventKey with given subject, start date and time, and end date and time.
+   *
+   * @param subject       event subject
+   * @param startDateTime event start date and time
+   * @param endDateTime   event end date and time
+   */
+  public EventKey(String subject, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+    this.subject = subject;
+    this.startDateTime = startDateTime;
+    this.endDateTime = endDateTime;
+  }
+
+  /**
+   * Create the EventKey identifying {@param event}.
+   *
+   * @param event event
+   * @return identity key of the event
+   */
+  public static EventKey of(EventReadOnlyInterface event) {
+    return new EventKey(event.getSubject(), event.getStartDateTime(), event.getEndDateTime());
+  }
+
+  /**
+   * Get the event subject.
+   *
+   * @return event subject
+   */
+  public String getSubject() {
+    return this.subject;
+  }
+
+  /**
+   * Get the event start date and time.
+   *
+   * @return event start date and time
+   */
+  public LocalDateTime getStartDateTime() {
+    return this.startDateTime;
+  }
+
+  /**
+   * Get the event end date and time.
+   *
+   * @return event end date and time
+   */
+  public LocalDateTime getEndDateTime() {
+    return this.endDateTime;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || this.getClass() != o.getClass()) {
+      return false;
+    }
+
+    EventKey that = (EventKey) o;
+    return this.subject.equals(that.subject)
+        && this.startDateTime.equals(that.startDateTime)
+        && this.endDateTime.equals(that.endDateTime);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = Objects.hashCode(this.subject);
+    hash = hash * 31 + this.startDateTime.hashCode();
+    return hash * 31 + this.endDateTime.hashCode();
+  }
+}
@@ -1,36 +1,140 @@
 package model.event;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
 import model.calendar.Weekday;
 
 /**
- * This class represents a manager for events and series in Calendar. It contains Mapping from
- * event identifier to SingleEvent, series id to Series, and event identifier to series id to track
- * Series some SingleEvents associated with.
+ * This class represents a manager for events and series in Calendar. It keeps SingleEvents in an
+ * {@link EventStoreInterface}, Mapping from series id to Series, and event identifier to series id
+ * to track Series some SingleEvents associated with. Each Series is kept as a {@link SeriesRule}
+ * whose occurrences are built on demand; only occurrences edited on their own are stored. Lookups
+ * are expressed as an {@link EventQuery} and answered from indexes on the events and the rules.
  */
 public class EventManager {
+  /**
+   * Default number of Series occurrences kept in the expansion cache.
+   */
+  public static final int DEFAULT_EXPANSION_CACHE_WEIGHT = 100_000;
+  private static final Comparator<EventInterface> START_ORDER =
+      Comparator.comparing(EventInterface::getStartDateTime)
+          .thenComparing(EventInterface::getEndDateTime)
+          .thenComparing(EventInterface::getSubject);
+
   private final Set<EventProperty> eventIdentifier;
-  private final Set<EventInterface> eventSet;
+  private final EventStoreInterface store;
   private final Map<String, SeriesInterface> seriesMap;
   private final Map<EventInterface, String> eventToSeriesMap;
+  private final Map<String, NavigableSet<EventInterface>> seriesEventsMap;
+  private final Map<String, Map<LocalDateTime, Set<EventInterface>>> subjectStartIndex;
+  private final NavigableMap<Long, NavigableSet<EventInterface>> dayIndex;
+  private final SeriesRuleIndex seriesRules;
+  private final OccupancyTracker occupancy;
+  private final Set<String> touchedSeries;
+  private final StringPool strings;
+  private final VersionedSnapshot<EventInterface> snapshot;
 
   /**
-   * Create an EventManager.
+   * Create an EventManager that tracks busy time.
    */
   public EventManager() {
+    this(true);
+  }
+
+  /**
+   * Create an EventManager, tracking busy time as merged intervals if {@param trackOccupancy}.
+   * Without it, availability checks fall back to the time index.
+   *
+   * @param trackOccupancy whether to maintain the occupancy index
+   */
+  public EventManager(boolean trackOccupancy) {
+    this(trackOccupancy, DEFAULT_EXPANSION_CACHE_WEIGHT);
+  }
+
+  /**
+   * Create an EventManager like {@link #EventManager(boolean)}, caching at most
+   * {@param expansionCacheWeight} expanded Series occurrences.
+   *
+   * @param trackOccupancy       whether to maintain the occupancy index
+   * @param expansionCacheWeight maximum number of cached occurrences, 0 to disable caching
+   */
+  public EventManager(boolean trackOccupancy, int expansionCacheWeight) {
+    this(trackOccupancy, expansionCacheWeight, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Create an EventManager like {@link #EventManager(boolean, int)}, expanding windows with many
+   * Series occurrences in parallel on {@param pool}.
+   *
+   * @param trackOccupancy       whether to maintain the occupancy index
+   * @param expansionCacheWeight maximum number of cached occurrences, 0 to disable caching
+   * @param pool                 fork/join pool running parallel expansions
+   */
+  public EventManager(boolean trackOccupancy, int expansionCacheWeight, ForkJoinPool pool) {
+    this(new MapEventStore(), true, trackOccupancy, expansionCacheWeight, pool);
+  }
+
+  /**
+   * Create an EventManager that tracks busy time and keeps its stored events only in
+   * {@param store}. Events already in the store are loaded as single events.
+   *
+   * @param store store of the events
+   */
+  public EventManager(EventStoreInterface store) {
+    this(store, false, true, DEFAULT_EXPANSION_CACHE_WEIGHT, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Create an EventManager over {@param store}, also indexing the event objects by subject and
+   * start and by day if {@param indexEvents}.
+   *
+   * @param store                store of the events
+   * @param indexEvents          whether to keep the subject and day indexes
+   * @param trackOccupancy       whether to maintain the occupancy index
+   * @param expansionCacheWeight maximum number of cached occurrences, 0 to disable caching
+   * @param pool                 fork/join pool running parallel expansions
+   */
+  private EventManager(EventStoreInterface store, boolean indexEvents, boolean trackOccupancy,
+                       int expansionCacheWeight, ForkJoinPool pool) {
     this.eventIdentifier = Set.of(EventProperty.SUBJECT, EventProperty.START, EventProperty.END);
-    this.eventSet = new HashSet<>();
+    this.store = store;
     this.seriesMap = new HashMap<>();
     this.eventToSeriesMap = new HashMap<>();
+    this.seriesEventsMap = new HashMap<>();
+    this.subjectStartIndex = indexEvents ? new HashMap<>() : null;
+    this.dayIndex = indexEvents ? new TreeMap<>() : null;
+    this.seriesRules = new SeriesRuleIndex(expansionCacheWeight, pool);
+    this.occupancy = new OccupancyTracker(store, this.seriesRules, trackOccupancy);
+    this.touchedSeries = new HashSet<>();
+    this.strings = new StringPool();
+    this.snapshot = new VersionedSnapshot<>();
+    for (EventReadOnlyInterface event : store.getAll()) {
+      indexEventHelper(toEventHelper(event));
+    }
   }
 
   /**
@@ -40,10 +144,7 @@ public class EventManager {
    * @throws EventExistException if event has already existed
    */
   public void addSingleEvent(EventInterface event) throws EventExistException {
-    if (this.eventSet.contains(event)) {
-      throw new EventExistException("Event already exists!");
-    }
-    this.eventSet.add(event);
+    apply(new EventBatch().addEvents(List.of(event)));
   }
 
   /**
@@ -53,17 +154,12 @@ public class EventManager {
    * @throws EventExistException if event(s) has already existed
    */
   public void addSingleEventFromList(List<EventInterface> events) throws EventExistException {
-    for (EventInterface event : events) {
-      if (this.eventSet.contains(event)) {
-        throw new EventExistException("Event already exists!");
-      }
-    }
-
-    this.eventSet.addAll(events);
+    apply(new EventBatch().addEvents(events));
   }
 
   /**
-   * Add a new Series to Calendar, and generate a series of SingleEvents associated with it.
+   * Add a new Series to Calendar. Its SingleEvents are not generated up front but follow the rule
+   * of the Series; see {@link SeriesRule}.
    *
    * @param series        new series
    * @param subject       event subject
@@ -74,19 +170,12 @@ public class EventManager {
   public void addSeries(SeriesInterface series, String subject, LocalDateTime startDateTime,
                         LocalTime endTime)
       throws EventExistException {
-    List<EventInterface> seriesEvents = series.generateEvents(subject, startDateTime, endTime);
-
-    for (EventInterface event : seriesEvents) {
-      if (this.eventSet.contains(event)) {
-        throw new EventExistException("Event already exists!");
-      }
-    }
-
-    for (EventInterface event : seriesEvents) {
-      this.eventSet.add(event);
-      this.eventToSeriesMap.put(event, series.getSeriesId());
-    }
-    this.seriesMap.put(series.getSeriesId(), series);
+    EventInterface prototype = new SingleEvent.SingleEventBuilder()
+        .setSubject(subject)
+        .setStartDateTime(startDateTime)
+        .setEndDateTime(LocalDateTime.of(startDateTime.toLocalDate(), endTime))
+        .build();
+    apply(new EventBatch().addSeries(series, prototype, true));
   }
 
   /**
@@ -96,12 +185,7 @@ public class EventManager {
    * @param events    list of events to be attached
    */
   public void attachEventsToNewSeries(SeriesInterface newSeries, List<EventInterface> events) {
-    this.seriesMap.put(newSeries.getSeriesId(), newSeries);
-
-    for (EventInterface event : events) {
-      this.eventSet.add(event);
-      this.eventToSeriesMap.put(event, newSeries.getSeriesId());
-    }
+    applyUnchecked(new EventBatch().attachSeries(newSeries, events));
   }
 
   /**
@@ -110,21 +194,18 @@ public class EventManager {
    * @param events list of events to be removed
    */
   public void removeEvents(List<EventInterface> events) {
-    for (EventInterface event : events) {
-      this.eventSet.remove(event);
-      this.eventToSeriesMap.remove(event);
-    }
+    applyUnchecked(new EventBatch().removeEvents(events));
   }
 
   /**
-   * Remove a Series and all events associated with it.
+   * Remove a Series and all events associated with it. Only the events of this Series are visited,
+   * through the Series to events index.
    *
    * @param series series to be removed
+   * @throws IllegalArgumentException if the Series has no end, so its occurrences cannot be kept
    */
-  public void removeSeries(SeriesInterface series) {
-    this.seriesMap.remove(series.getSeriesId());
-    this.eventToSeriesMap.entrySet()
-        .removeIf(entry -> entry.getValue().equals(series.getSeriesId()));
+  public void removeSeries(SeriesInterface series) throws IllegalArgumentException {
+    applyUnchecked(new EventBatch().removeSeries(series));
   }
 
   /**
@@ -142,19 +223,14 @@ public class EventManager {
   public void updateSingleEvent(EventInterface oldEvent, EventInterface newEvent,
                                 EventProperty property)
       throws EventExistException, UnsupportedOperationException {
-    if (this.eventIdentifier.contains(property)) {
-      if (this.eventSet.contains(newEvent)) {
-        throw new EventExistException("Event already exists!");
-      }
-    }
-
-    if (this.eventToSeriesMap.containsKey(oldEvent)
+    if (seriesIdOfHelper(oldEvent) != null
         && !newEvent.getStartDateTime().toLocalDate()
         .equals(newEvent.getEndDateTime().toLocalDate())) {
       throw new UnsupportedOperationException("Series event cannot span more than one day");
     }
 
-    updateSingleEventHelper(oldEvent, newEvent);
+    apply(new EventBatch().replaceEvents(List.of(oldEvent), List.of(newEvent),
+        this.eventIdentifier.contains(property)));
   }
 
   /**
@@ -170,42 +246,439 @@ public class EventManager {
   public void updateSingleEventsWithList(List<EventInterface> oldEvents,
                                          List<EventInterface> newEvents,
                                          EventProperty property) throws EventExistException {
+    apply(new EventBatch().replaceEvents(oldEvents, newEvents,
+        this.eventIdentifier.contains(property)));
+  }
+
+  /**
+   * Replace all original events with list of new events.
+   *
+   * @param originalEvents list of original events
+   * @param updatedEvents  list of updated events
+   */
+  public void updateAllEventsWithList(List<EventInterface> originalEvents,
+                                      List<EventInterface> updatedEvents) {
+    applyUnchecked(
+        new EventBatch().replaceEventsKeepingSeries(originalEvents, updatedEvents));
+  }
+
+  /**
+   * Update the occurrences of a Series starting from {@param startFrom} in its rule, without
+   * splitting the Series or materializing the occurrences: the rule gets a segment from that date
+   * on whose prototype is {@param edit} applied to the previous one. Occurrences in that range
+   * kept as concrete events are edited one by one, and dropped in favor of the rule when they no
+   * longer diverge from it. A Series without end is edited as a whole this way, since it is never
+   * expanded past {@link SeriesRule#HORIZON}. As when events are replaced one by one, an edit of
+   * the subject or end that leaves an event with its identity finds that event existing.
+   *
+   * @param series    series to be updated
+   * @param startFrom start date and time for events in Series update
+   * @param property  property being updated
+   * @param edit      edit applied to events, keeping their date
+   * @return true if updated, false if the Series has no rule
+   * @throws EventExistException           if we update event identifiers and an updated event has
+   *                                       existed
+   * @throws UnsupportedOperationException if an edited segment or event would end before it starts
+   */
+  public boolean updateSeriesFrom(SeriesInterface series, LocalDateTime startFrom,
+                                  EventProperty property, UnaryOperator<EventInterface> edit)
+      throws EventExistException, UnsupportedOperationException {
+    SeriesRule rule = this.seriesRules.get(series.getSeriesId());
+    LocalDate date = startFrom.toLocalDate();
+    if (rule == null) {
+      return false;
+    }
+    List<EventInterface> members = new ArrayList<>(
+        getSeriesEventsHelper(series).tailSet(startProbeHelper(startFrom), true));
+
+    SeriesRule edited = rule.copy();
+    edited.editFrom(date, edit);
+    for (EventInterface prototype : edited.getPrototypes()) {
+      checkEndAfterStartHelper(prototype);
+    }
+    for (EventInterface member : members) {
+      checkEndAfterStartHelper(edit.apply(member));
+    }
+
     if (this.eventIdentifier.contains(property)) {
-      for (EventInterface newEvent : newEvents) {
-        if (this.eventSet.contains(newEvent)) {
-          throw new EventExistException("Event already exists: " + newEvent);
+      boolean checkSelf = property != EventProperty.START;
+      if (checkSelf && rule.keepsIdentityFrom(date, edit)) {
+        throw new EventExistException("Event already exists!");
+      }
+      for (EventInterface member : members) {
+        EventInterface updated = edit.apply(member);
+        if (checkSelf && EventKey.of(updated).equals(EventKey.of(member))) {
+          throw new EventExistException("Event already exists!");
         }
+        if (edited.isOccurrence(updated)) {
+          edited.restore(member.getStartDateTime().toLocalDate());
+        } else if (!EventKey.of(updated).equals(EventKey.of(member)) && existsHelper(updated)) {
+          throw new EventExistException("Event already exists!");
+        }
+      }
+      if (ruleClashesHelper(edited, date, Set.of(), List.of())) {
+        throw new EventExistException("Event already exists!");
       }
     }
 
-    for (int i = 0; i < oldEvents.size(); i++) {
-      EventInterface oldEvent = oldEvents.get(i);
-      EventInterface newEvent = newEvents.get(i);
+    beginUpdate();
+    try {
+      uninstallRuleHelper(series.getSeriesId());
+      rule.editFrom(date, edit);
+      installRuleHelper(rule);
+      for (EventInterface member : members) {
+        discardEventHelper(member);
+        detachEventHelper(member);
+        EventInterface updated = edit.apply(member);
+        if (rule.isOccurrence(updated)
+            && rule.restore(member.getStartDateTime().toLocalDate())) {
+          this.seriesRules.invalidate(series.getSeriesId());
+          continue;
+        }
+        attachAnyHelper(updated, series.getSeriesId());
+      }
+      this.touchedSeries.remove(series.getSeriesId());
+    } finally {
+      endUpdate();
+    }
+    return true;
+  }
 
-      updateSingleEventHelper(oldEvent, newEvent);
+  /**
+   * Check that {@param event} does not end before it starts.
+   *
+   * @param event event to check
+   * @throws UnsupportedOperationException if the event ends before it starts
+   */
+  private void checkEndAfterStartHelper(EventInterface event)
+      throws UnsupportedOperationException {
+    if (event.getEndDateTime().isBefore(event.getStartDateTime())) {
+      throw new UnsupportedOperationException("Event end time cannot be before start time!");
     }
   }
 
   /**
-   * Replace all original events with list of new events.
+   * Move every event from the wall-clock times of {@param oldTimeZoneId} to those of
+   * {@param newTimeZoneId} at the same instants, with {@param shift} converting one event. Stored
+   * events and the occurrences of Series with an end are converted one by one. A Series without
+   * end keeps its rule instead, whose times of day move by the difference between the zones, so
+   * its occurrences past {@link SeriesRule#HORIZON} move too.
    *
-   * @param originalEvents list of original events
-   * @param updatedEvents  list of updated events
+   * @param oldTimeZoneId old time zone
+   * @param newTimeZoneId new time zone
+   * @param shift         conversion of one event between the zones
+   * @throws UnsupportedOperationException if the occurrences of a Series without end would move
+   *                                       by different amounts or to another day
    */
-  public void updateAllEventsWithList(List<EventInterface> originalEvents,
-                                      List<EventInterface> updatedEvents) {
-    for (int i = 0; i < originalEvents.size(); i++) {
-      EventInterface oldEvent = originalEvents.get(i);
-      EventInterface newEvent = updatedEvents.get(i);
+  public void shiftTimeZone(ZoneId oldTimeZoneId, ZoneId newTimeZoneId,
+                            UnaryOperator<EventInterface> shift)
+      throws UnsupportedOperationException {
+    Map<SeriesRule, Duration> ruleShifts = new HashMap<>();
+    List<EventInterface> events = storedEventsHelper(LocalDateTime.MIN, LocalDateTime.MAX);
+    for (SeriesRule rule : this.seriesRules.getAll()) {
+      if (!rule.isUnbounded()) {
+        events.addAll(rule.expandAll());
+        continue;
+      }
+      Duration difference = zoneDifferenceHelper(rule, oldTimeZoneId, newTimeZoneId);
+      if (difference == null) {
+        throw new UnsupportedOperationException(
+            "A series without end cannot keep its times of day in the new time zone");
+      }
+      ruleShifts.put(rule, difference);
+    }
+    List<EventInterface> shiftedEvents = new ArrayList<>();
+    for (EventInterface event : events) {
+      shiftedEvents.add(shift.apply(event));
+    }
+
+    beginUpdate();
+    try {
+      applyUnchecked(new EventBatch().replaceEventsKeepingSeries(events, shiftedEvents));
+      for (Map.Entry<SeriesRule, Duration> ruleShift : ruleShifts.entrySet()) {
+        SeriesRule rule = ruleShift.getKey();
+        Duration difference = ruleShift.getValue();
+        uninstallRuleHelper(rule.getSeries().getSeriesId());
+        rule.editFrom(LocalDate.MIN, prototype -> prototype.toBuilder()
+            .setStartDateTime(prototype.getStartDateTime().plus(difference))
+            .setEndDateTime(prototype.getEndDateTime().plus(difference))
+            .build());
+        installRuleHelper(rule);
+      }
+    } finally {
+      endUpdate();
+    }
+  }
 
-      this.eventSet.remove(oldEvent);
+  /**
+   * Help find how far the occurrences of the unbounded {@param rule} move from the wall-clock
+   * times of {@param oldTimeZoneId} to those of {@param newTimeZoneId}. The difference between the
+   * offsets of the zones only changes at their transitions, so only the spans between transitions
+   * where it differs from the one at the first occurrence are searched for occurrences. The rule
+   * and the transition rules of both zones repeat every 400 years after their last change, so no
+   * later transition needs to be checked.
+   *
+   * @param rule          unbounded series rule
+   * @param oldTimeZoneId old time zone
+   * @param newTimeZoneId new time zone
+   * @return difference, or null if occurrences would move by different amounts or to another day
+   */
+  private static Duration zoneDifferenceHelper(SeriesRule rule, ZoneId oldTimeZoneId,
+                                               ZoneId newTimeZoneId) {
+    ZoneRules oldRules = oldTimeZoneId.getRules();
+    ZoneRules newRules = newTimeZoneId.getRules();
+    Instant first = rule.getFirstStart().atZone(oldTimeZoneId).toInstant();
+    Duration difference = offsetDifferenceHelper(oldRules, newRules, first);
+    for (EventInterface prototype : rule.getPrototypes()) {
+      LocalDateTime start = prototype.getStartDateTime().plus(difference);
+      LocalDateTime end = prototype.getEndDateTime().plus(difference);
+      if (!start.toLocalDate().equals(prototype.getStartDateTime().toLocalDate())
+          || !end.toLocalDate().equals(start.toLocalDate())) {
+        return null;
+      }
+    }
 
-      if (this.eventToSeriesMap.containsKey(oldEvent)) {
-        String seriesId = this.eventToSeriesMap.remove(oldEvent);
-        this.eventToSeriesMap.put(newEvent, seriesId);
+    LocalDate firstDate = rule.getFirstStart().toLocalDate();
+    LocalDate base = firstDate.isAfter(rule.getLastChange()) ? firstDate : rule.getLastChange();
+    for (ZoneRules rules : List.of(oldRules, newRules)) {
+      List<ZoneOffsetTransition> transitions = rules.getTransitions();
+      if (!transitions.isEmpty()) {
+        LocalDate last =
+            transitions.get(transitions.size() - 1).getDateTimeAfter().toLocalDate();
+        base = last.isAfter(base) ? last : base;
       }
+    }
+    Instant until = base.plusYears(400).atStartOfDay(ZoneOffset.UTC).toInstant();
 
-      this.eventSet.add(newEvent);
+    Instant from = nextTransitionHelper(oldRules, newRules, first);
+    while (from != null && from.isBefore(until)) {
+      Instant to = nextTransitionHelper(oldRules, newRules, from);
+      if (!offsetDifferenceHelper(oldRules, newRules, from).equals(difference)
+          && occursBetweenHelper(rule, LocalDateTime.ofInstant(from, oldTimeZoneId),
+          to == null ? LocalDateTime.MAX : LocalDateTime.ofInstant(to, oldTimeZoneId))) {
+        return null;
+      }
+      from = to;
+    }
+    return difference;
+  }
+
+  /**
+   * Help get the offset of {@param newRules} minus that of {@param oldRules} at {@param instant}.
+   *
+   * @param oldRules rules of the old time zone
+   * @param newRules rules of the new time zone
+   * @param instant  given instant
+   * @return offset difference
+   */
+  private static Duration offsetDifferenceHelper(ZoneRules oldRules, ZoneRules newRules,
+                                                 Instant instant) {
+    return Duration.ofSeconds(newRules.getOffset(instant).getTotalSeconds()
+        - oldRules.getOffset(instant).getTotalSeconds());
+  }
+
+  /**
+   * Help find the first transition of either time zone after {@param instant}.
+   *
+   * @param oldRules rules of the old time zone
+   * @param newRules rules of the new time zone
+   * @param instant  given instant
+   * @return instant of the transition, or null if neither zone has one
+   */
+  private static Instant nextTransitionHelper(ZoneRules oldRules, ZoneRules newRules,
+                                              Instant instant) {
+    ZoneOffsetTransition oldNext = oldRules.nextTransition(instant);
+    ZoneOffsetTransition newNext = newRules.nextTransition(instant);
+    if (oldNext == null) {
+      return newNext == null ? null : newNext.getInstant();
+    }
+    if (newNext == null || oldNext.getInstant().isBefore(newNext.getInstant())) {
+      return oldNext.getInstant();
+    }
+    return newNext.getInstant();
+  }
+
+  /**
+   * Help check whether a live occurrence of {@param rule} overlaps the span from {@param from}
+   * (inclusive) to {@param to} (exclusive).
+   *
+   * @param rule series rule
+   * @param from start of the span
+   * @param to   end of the span
+   * @return true if some occurrence overlaps it
+   */
+  private static boolean occursBetweenHelper(SeriesRule rule, LocalDateTime from,
+                                             LocalDateTime to) {
+    Iterator<EventInterface> occurrences = rule.iterate(from.toLocalDate(), to.toLocalDate());
+    while (occurrences.hasNext()) {
+      EventInterface occurrence = occurrences.next();
+      if (!occurrence.getStartDateTime().isBefore(to)) {
+        return false;
+      }
+      if (!occurrence.getEndDateTime().isBefore(from)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Apply every change recorded in {@param batch}. All new events that must not exist yet are
+   * checked first, against Calendar and against each other, in one pass; only if none of them
+   * exists are the changes applied, in the order they were recorded, so a failing batch leaves
+   * Calendar untouched. Snapshot readers see the whole batch as one version.
+   *
+   * @param batch batch of changes
+   * @throws EventExistException      if a checked event has already existed
+   * @throws IllegalArgumentException if the batch removes a Series without end it has not ended
+   */
+  public void apply(EventBatch batch) throws EventExistException, IllegalArgumentException {
+    Set<EventKey> batchKeys = new HashSet<>();
+    List<SeriesRule> batchRules = new ArrayList<>();
+    Set<String> endedSeries = new HashSet<>();
+    for (EventBatch.Change change : batch.getChanges()) {
+      if (change.getType() == EventBatch.ChangeType.END_SERIES) {
+        endedSeries.add(change.getSeries().getSeriesId());
+      } else if (change.getType() == EventBatch.ChangeType.REMOVE_SERIES
+          && !endedSeries.contains(change.getSeries().getSeriesId())
+          && this.seriesRules.get(change.getSeries().getSeriesId()) != null
+          && this.seriesRules.get(change.getSeries().getSeriesId()).isUnbounded()) {
+        throw new IllegalArgumentException("A series without end must be ended to be removed");
+      }
+      if (!change.isCheckDuplicate()) {
+        continue;
+      }
+      EventInterface newEvent = change.getNewEvent();
+      if (change.getType() == EventBatch.ChangeType.ADD_SERIES) {
+        SeriesRule rule = SeriesRule.of(change.getSeries(), newEvent);
+        if (ruleClashesHelper(rule, LocalDate.MIN, batchKeys, batchRules)) {
+          throw new EventExistException("Event already exists!");
+        }
+        batchRules.add(rule);
+      } else if (existsHelper(newEvent) || !batchKeys.add(EventKey.of(newEvent))
+          || generatedByHelper(batchRules, newEvent)) {
+        throw new EventExistException("Event already exists!");
+      }
+    }
+
+    beginUpdate();
+    try {
+      for (EventBatch.Change change : batch.getChanges()) {
+        applyChangeHelper(change);
+      }
+      List<String> touched = new ArrayList<>(this.touchedSeries);
+      this.touchedSeries.clear();
+      for (String seriesId : touched) {
+        compactSeriesHelper(seriesId);
+      }
+    } finally {
+      endUpdate();
+    }
+  }
+
+  /**
+   * Apply a batch that records no duplicate-checked change, such as removals, Series attachments
+   * and replacements keeping Series, and therefore cannot fail.
+   *
+   * @param batch batch of changes without duplicate checks
+   * @throws IllegalArgumentException if the batch checks duplicates and one already exists, or
+   *                                  removes a Series without end it has not ended
+   */
+  public void applyUnchecked(EventBatch batch) throws IllegalArgumentException {
+    try {
+      apply(batch);
+    } catch (EventExistException e) {
+      throw new IllegalArgumentException("Batch must not check duplicates", e);
+    }
+  }
+
+  /**
+   * Help apply one recorded change to events, Series and all indexes.
+   *
+   * @param change change to be applied
+   */
+  private void applyChangeHelper(EventBatch.Change change) {
+    EventInterface oldEvent = change.getOldEvent();
+    EventInterface newEvent = pooledHelper(change.getNewEvent());
+    switch (change.getType()) {
+      case ADD:
+        storeEventHelper(newEvent);
+        break;
+      case REMOVE:
+        removeAnyHelper(oldEvent);
+        break;
+      case REPLACE:
+        updateSingleEventHelper(oldEvent, newEvent);
+        break;
+      case REPLACE_KEEPING_SERIES:
+        String seriesId = removeAnyHelper(oldEvent);
+        if (seriesId != null) {
+          attachAnyHelper(newEvent, seriesId);
+        } else {
+          storeEventHelper(newEvent);
+        }
+        break;
+      case REGISTER_SERIES:
+        this.seriesMap.put(change.getSeries().getSeriesId(), change.getSeries());
+        this.touchedSeries.add(change.getSeries().getSeriesId());
+        break;
+      case ADD_SERIES:
+        this.seriesMap.put(change.getSeries().getSeriesId(), change.getSeries());
+        installRuleHelper(SeriesRule.of(change.getSeries(), newEvent));
+        break;
+      case ATTACH:
+        attachAnyHelper(newEvent, change.getSeries().getSeriesId());
+        break;
+      case END_SERIES:
+        endSeriesHelper(change.getSeries(), change.getDate());
+        break;
+      case REMOVE_SERIES:
+        removeSeriesHelper(change.getSeries());
+        break;
+      default:
+        throw new IllegalStateException("Unknown change: " + change.getType());
+    }
+  }
+
+  /**
+   * Help end a Series before {@param date}: its rule is cut before the date and its stored events
+   * from the date on are discarded, visiting only its own events.
+   *
+   * @param series series to be ended
+   * @param date   first date without events of the Series
+   */
+  private void endSeriesHelper(SeriesInterface series, LocalDate date) {
+    SeriesRule rule = uninstallRuleHelper(series.getSeriesId());
+    if (rule != null) {
+      installRuleHelper(rule.endBefore(date));
+    }
+    for (EventInterface event : new ArrayList<>(getSeriesEventsHelper(series)
+        .tailSet(startProbeHelper(date.atStartOfDay()), true))) {
+      discardEventHelper(event);
+      detachEventHelper(event);
+    }
+  }
+
+  /**
+   * Help remove a Series, visiting only its own events through the Series to events index. Live
+   * occurrences of its rule stay in Calendar as SingleEvents; the rule is bounded, since
+   * {@link #apply(EventBatch)} only removes a Series without end once it is ended.
+   *
+   * @param series series to be removed
+   */
+  private void removeSeriesHelper(SeriesInterface series) {
+    this.seriesMap.remove(series.getSeriesId());
+    SeriesRule rule = uninstallRuleHelper(series.getSeriesId());
+    if (rule != null) {
+      for (EventInterface occurrence : rule.expandAll()) {
+        storeEventHelper(occurrence);
+      }
+    }
+    NavigableSet<EventInterface> seriesEvents = this.seriesEventsMap.remove(series.getSeriesId());
+    if (seriesEvents != null) {
+      for (EventInterface event : seriesEvents) {
+        this.eventToSeriesMap.remove(event);
+      }
     }
   }
 
@@ -216,96 +689,654 @@ public class EventManager {
    * @param newEvent updated event
    */
   private void updateSingleEventHelper(EventInterface oldEvent, EventInterface newEvent) {
-    this.eventSet.remove(oldEvent);
-    this.eventSet.add(newEvent);
+    String seriesId = removeAnyHelper(oldEvent);
+    if (seriesId == null) {
+      storeEventHelper(newEvent);
+    } else if (oldEvent.getStartDateTime().toLocalTime()
+        .equals(newEvent.getStartDateTime().toLocalTime())) {
+      attachAnyHelper(newEvent, seriesId);
+    } else {
+      storeEventHelper(newEvent);
+      this.seriesMap.get(seriesId).decrementNumberOfOccurrences();
+    }
+  }
+
+  /**
+   * Help remove an event, stored or an occurrence of a Series rule, and detach it from its Series.
+   *
+   * @param event event to be removed
+   * @return id of the Series the event was in, or null if it was not in a Series
+   */
+  private String removeAnyHelper(EventInterface event) {
+    if (this.store.contains(event)) {
+      discardEventHelper(event);
+      return detachEventHelper(event);
+    }
+    SeriesRule rule = this.seriesRules.findGenerating(event.getSubject(), event.getStartDateTime(),
+        event.getEndDateTime());
+    if (rule == null) {
+      return null;
+    }
+    suppressHelper(rule, event.getStartDateTime().toLocalDate());
+    return rule.getSeries().getSeriesId();
+  }
+
+  /**
+   * Help attach an event to a Series, storing it first. An occurrence of another Series rule is
+   * moved out of that rule; an occurrence of the target Series rule is already attached, and an
+   * event equal to a suppressed occurrence of it restores that occurrence instead of being stored,
+   * so only events diverging from the rule are kept.
+   *
+   * @param event    event to be attached
+   * @param seriesId id of the Series
+   */
+  private void attachAnyHelper(EventInterface event, String seriesId) {
+    SeriesRule rule = this.seriesRules.findGenerating(event.getSubject(), event.getStartDateTime(),
+        event.getEndDateTime());
+    if (rule != null) {
+      if (rule.getSeries().getSeriesId().equals(seriesId)) {
+        return;
+      }
+      suppressHelper(rule, event.getStartDateTime().toLocalDate());
+    }
+    SeriesRule own = this.seriesRules.get(seriesId);
+    if (own != null && own.isOccurrence(event)
+        && own.restore(event.getStartDateTime().toLocalDate())) {
+      this.seriesRules.invalidate(seriesId);
+      this.snapshot.advance();
+      this.touchedSeries.add(seriesId);
+      return;
+    }
+    storeEventHelper(event);
+    attachEventHelper(event, seriesId);
+  }
+
+  /**
+   * Help suppress the occurrence of {@param rule} on {@param date}.
+   *
+   * @param rule series rule
+   * @param date occurrence date
+   */
+  private void suppressHelper(SeriesRule rule, LocalDate date) {
+    if (rule.suppress(date)) {
+      this.seriesRules.invalidate(rule.getSeries().getSeriesId());
+      this.snapshot.advance();
+      this.touchedSeries.add(rule.getSeries().getSeriesId());
+    }
+  }
+
+  /**
+   * Help register a Series rule in the rule indexes, unless it has no occurrence.
+   *
+   * @param rule series rule
+   */
+  private void installRuleHelper(SeriesRule rule) {
+    if (!this.seriesRules.install(rule)) {
+      return;
+    }
+    for (EventInterface prototype : rule.getPrototypes()) {
+      acquireStringsHelper(prototype);
+    }
+    this.snapshot.advance();
+  }
+
+  /**
+   * Help remove the rule of a Series from the rule indexes.
+   *
+   * @param seriesId id of the Series
+   * @return removed rule, or null if the Series had none
+   */
+  private SeriesRule uninstallRuleHelper(String seriesId) {
+    SeriesRule rule = this.seriesRules.uninstall(seriesId);
+    if (rule != null) {
+      for (EventInterface prototype : rule.getPrototypes()) {
+        releaseStringsHelper(prototype);
+      }
+      this.snapshot.advance();
+    }
+    return rule;
+  }
+
+  /**
+   * Help turn a Series back into a rule after a batch. A rule with no live occurrence is dropped;
+   * then, if every event of the Series is concrete and they follow a rule, they are replaced by it.
+   *
+   * @param seriesId id of the Series
+   */
+  private void compactSeriesHelper(String seriesId) {
+    SeriesRule rule = this.seriesRules.get(seriesId);
+    if (rule != null && rule.size() == 0) {
+      uninstallRuleHelper(seriesId);
+      rule = null;
+    }
+    NavigableSet<EventInterface> members = this.seriesEventsMap.get(seriesId);
+    if (rule != null || members == null || members.isEmpty()
+        || !this.seriesMap.containsKey(seriesId)) {
+      return;
+    }
+
+    SeriesRule derived = SeriesRule.derive(this.seriesMap.get(seriesId), members);
+    if (derived == null) {
+      return;
+    }
+    for (EventInterface member : new ArrayList<>(members)) {
+      discardEventHelper(member);
+      detachEventHelper(member);
+    }
+    this.touchedSeries.clear();
+    installRuleHelper(derived);
+  }
+
+  /**
+   * Help check whether a live occurrence of {@param rule} on or after {@param from} clashes with an
+   * existing event, without expanding the rule: stored events of its subject are tested against
+   * the rule, and the rule is compared with the other Series rules of its subjects. Stored events
+   * of the rule's own Series and its current rule are skipped.
+   *
+   * @param rule       series rule
+   * @param from       first date to check
+   * @param batchKeys  identities of events added earlier in the same batch
+   * @param batchRules rules added earlier in the same batch
+   * @return true if some occurrence already exists
+   */
+  private boolean ruleClashesHelper(SeriesRule rule, LocalDate from, Set<EventKey> batchKeys,
+                                    List<SeriesRule> batchRules) {
+    String seriesId = rule.getSeries().getSeriesId();
+    Set<SeriesRule> others = new LinkedHashSet<>(batchRules);
+    for (String subject : rule.getSubjects()) {
+      for (EventInterface event : storedWithSubjectHelper(subject)) {
+        if (!event.getStartDateTime().toLocalDate().isBefore(from)
+            && !seriesId.equals(this.eventToSeriesMap.get(event))
+            && rule.generates(event.getSubject(), event.getStartDateTime(),
+            event.getEndDateTime())) {
+          return true;
+        }
+      }
+      others.addAll(this.seriesRules.withSubject(subject));
+    }
+    for (EventKey key : batchKeys) {
+      if (!key.getStartDateTime().toLocalDate().isBefore(from)
+          && rule.generates(key.getSubject(), key.getStartDateTime(), key.getEndDateTime())) {
+        return true;
+      }
+    }
+
+    for (SeriesRule other : others) {
+      if (!seriesId.equals(other.getSeries().getSeriesId())
+          && rule.findClash(other, from) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Help check whether one of {@param rules} has a live occurrence with the identity of
+   * {@param event}.
+   *
+   * @param rules series rules
+   * @param event event
+   * @return true if a rule generates the event
+   */
+  private boolean generatedByHelper(List<SeriesRule> rules, EventReadOnlyInterface event) {
+    for (SeriesRule rule : rules) {
+      if (rule.generates(event.getSubject(), event.getStartDateTime(), event.getEndDateTime())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Help check whether an event with the identity of {@param event} exists, stored or as an
+   * occurrence of a Series rule.
+   *
+   * @param event event
+   * @return true if it exists
+   */
+  private boolean existsHelper(EventReadOnlyInterface event) {
+    return this.store.contains(event)
+        || this.seriesRules.findGenerating(event.getSubject(), event.getStartDateTime(),
+        event.getEndDateTime()) != null;
+  }
+
+  /**
+   * Help get the id of the Series {@param event} belongs to, as a stored event or as an occurrence
+   * of a Series rule.
+   *
+   * @param event event
+   * @return series id, or null if the event is not in a Series
+   */
+  private String seriesIdOfHelper(EventReadOnlyInterface event) {
+    if (event instanceof EventInterface) {
+      String seriesId = this.eventToSeriesMap.get(event);
+      if (seriesId != null) {
+        return seriesId;
+      }
+    }
+    SeriesRule rule = this.seriesRules.findGenerating(event.getSubject(), event.getStartDateTime(),
+        event.getEndDateTime());
+    return rule == null ? null : rule.getSeries().getSeriesId();
+  }
 
-    if (this.eventToSeriesMap.containsKey(oldEvent)) {
-      String seriesId = this.eventToSeriesMap.remove(oldEvent);
-      if (oldEvent.getStartDateTime().toLocalTime()
-          .equals(newEvent.getStartDateTime().toLocalTime())) {
-        this.eventToSeriesMap.put(newEvent, seriesId);
-      } else {
-        this.seriesMap.get(seriesId).decrementNumberOfOccurrences();
+  /**
+   * Help store an event and index it by its time interval and by its subject and start.
+   *
+   * @param event event to be stored
+   */
+  private void storeEventHelper(EventInterface event) {
+    if (!this.store.contains(event)) {
+      this.store.add(event);
+      indexEventHelper(event);
+    }
+  }
+
+  /**
+   * Help index an event already in the store: hold its strings, mark its time busy and, if the
+   * event objects are indexed, add it to the subject and start index and to its day buckets.
+   *
+   * @param event stored event
+   */
+  private void indexEventHelper(EventInterface event) {
+    acquireStringsHelper(event);
+    this.snapshot.advance();
+    this.occupancy.add(event);
+    if (this.subjectStartIndex == null) {
+      return;
+    }
+    this.subjectStartIndex.computeIfAbsent(event.getSubject(), subject -> new HashMap<>())
+        .computeIfAbsent(event.getStartDateTime(), start -> new HashSet<>())
+        .add(event);
+    long lastDay = event.getEndDateTime().toLocalDate().toEpochDay();
+    for (long day = event.getStartDateTime().toLocalDate().toEpochDay(); day <= lastDay; day++) {
+      this.dayIndex.computeIfAbsent(day, epochDay -> new TreeSet<>(START_ORDER)).add(event);
+    }
+  }
+
+  /**
+   * Help discard an event and remove it from the store and the subject and start index.
+   *
+   * @param event event to be discarded
+   */
+  private void discardEventHelper(EventInterface event) {
+    EventReadOnlyInterface stored = this.store.get(EventKey.of(event));
+    if (stored == null) {
+      return;
+    }
+    releaseStringsHelper(stored);
+    this.store.remove(event);
+    this.snapshot.advance();
+    this.occupancy.remove(event);
+    if (this.subjectStartIndex == null) {
+      return;
+    }
+    Map<LocalDateTime, Set<EventInterface>> startMap =
+        this.subjectStartIndex.get(event.getSubject());
+    Set<EventInterface> events = startMap.get(event.getStartDateTime());
+    events.remove(event);
+    if (events.isEmpty()) {
+      startMap.remove(event.getStartDateTime());
+    }
+    if (startMap.isEmpty()) {
+      this.subjectStartIndex.remove(event.getSubject());
+    }
+    long lastDay = event.getEndDateTime().toLocalDate().toEpochDay();
+    for (long day = event.getStartDateTime().toLocalDate().toEpochDay(); day <= lastDay; day++) {
+      NavigableSet<EventInterface> dayEvents = this.dayIndex.get(day);
+      dayEvents.remove(event);
+      if (dayEvents.isEmpty()) {
+        this.dayIndex.remove(day);
       }
     }
   }
 
   /**
-   * Filter all events in Calendar with a given predicate.
+   * Help find the stored events whose closed interval overlaps [{@param start}, {@param end}].
    *
-   * @param predicate filter predicate
-   * @return filtered events
+   * @param start range start
+   * @param end   range end
+   * @return overlapping events in start order
    */
-  public List<EventInterface> filter(Predicate<EventInterface> predicate) {
+  private List<EventInterface> storedEventsHelper(LocalDateTime start, LocalDateTime end) {
+    List<EventInterface> events = new ArrayList<>();
+    for (EventReadOnlyInterface event : this.store.findOverlapping(start, end)) {
+      events.add(toEventHelper(event));
+    }
+    return events;
+  }
+
+  /**
+   * Help find the stored events with subject {@param subject}, from the subject and start index if
+   * the event objects are indexed, otherwise by scanning the store.
+   *
+   * @param subject event subject
+   * @return stored events with that subject
+   */
+  private List<EventInterface> storedWithSubjectHelper(String subject) {
+    List<EventInterface> events = new ArrayList<>();
+    if (this.subjectStartIndex != null) {
+      for (Set<EventInterface> starts : this.subjectStartIndex
+          .getOrDefault(subject, Map.of()).values()) {
+        events.addAll(starts);
+      }
+      return events;
+    }
+    for (EventReadOnlyInterface event : this.store.getAll()) {
+      if (subject.equals(event.getSubject())) {
+        events.add(toEventHelper(event));
+      }
+    }
+    return events;
+  }
+
+  /**
+   * Help get the event handed out by the store as {@param stored}: the object itself if the store
+   * keeps event objects, otherwise a SingleEvent built from the view with the string pool.
+   *
+   * @param stored stored event
+   * @return event
+   */
+  private EventInterface toEventHelper(EventReadOnlyInterface stored) {
+    if (stored instanceof EventInterface) {
+      return (EventInterface) stored;
+    }
+    return buildPooledHelper(stored);
+  }
+
+  /**
+   * Help get {@param event} with the canonical instances of its strings in the string pool, so
+   * events kept by this EventManager share one instance of each string. The event is rebuilt only
+   * if one of its strings is another instance of a pooled string.
+   *
+   * @param event event, possibly null
+   * @return event holding pooled strings, or null if {@param event} is null
+   */
+  private EventInterface pooledHelper(EventInterface event) {
+    if (event == null
+        || this.strings.canonical(event.getSubject()) == event.getSubject()
+        && this.strings.canonical(event.getLocation()) == event.getLocation()
+        && this.strings.canonical(event.getDescription()) == event.getDescription()) {
+      return event;
+    }
+    return buildPooledHelper(event);
+  }
+
+  /**
+   * Help build a SingleEvent with the properties of {@param event} and the canonical instances of
+   * its strings in the string pool.
+   *
+   * @param event event
+   * @return SingleEvent
+   */
+  private EventInterface buildPooledHelper(EventReadOnlyInterface event) {
+    return new SingleEvent.SingleEventBuilder(this.strings)
+        .setSubject(event.getSubject())
+        .setStartDateTime(event.getStartDateTime())
+        .setEndDateTime(event.getEndDateTime())
+        .setDescription(event.getDescription())
+        .setLocation(event.getLocation())
+        .setStatus(event.getStatus())
+        .build();
+  }
+
+  /**
+   * Help hold the subject, location and description of {@param event} in the string pool.
+   *
+   * @param event stored event or rule prototype
+   */
+  private void acquireStringsHelper(EventReadOnlyInterface event) {
+    this.strings.acquire(event.getSubject());
+    this.strings.acquire(event.getLocation());
+    this.strings.acquire(event.getDescription());
+  }
+
+  /**
+   * Help release the strings held for {@param event} by
+   * {@link #acquireStringsHelper(EventReadOnlyInterface)}.
+   *
+   * @param event event or rule prototype no longer kept
+   */
+  private void releaseStringsHelper(EventReadOnlyInterface event) {
+    this.strings.release(event.getSubject());
+    this.strings.release(event.getLocation());
+    this.strings.release(event.getDescription());
+  }
+
+  /**
+   * Help attach an event to a Series, moving it out of the Series it was attached to before.
+   *
+   * @param event    event to be attached
+   * @param seriesId id of the Series
+   */
+  private void attachEventHelper(EventInterface event, String seriesId) {
+    String previousSeriesId = this.eventToSeriesMap.put(event, seriesId);
+    if (previousSeriesId != null && this.seriesEventsMap.containsKey(previousSeriesId)) {
+      this.seriesEventsMap.get(previousSeriesId).remove(event);
+      this.touchedSeries.add(previousSeriesId);
+    }
+    this.seriesEventsMap.computeIfAbsent(seriesId, id -> new TreeSet<>(START_ORDER)).add(event);
+    this.touchedSeries.add(seriesId);
+  }
+
+  /**
+   * Help detach an event from the Series it is attached to.
+   *
+   * @param event event to be detached
+   * @return id of the Series the event was attached to, or null if it was not in a Series
+   */
+  private String detachEventHelper(EventInterface event) {
+    String seriesId = this.eventToSeriesMap.remove(event);
+    if (seriesId != null && this.seriesEventsMap.containsKey(seriesId)) {
+      this.seriesEventsMap.get(seriesId).remove(event);
+      this.touchedSeries.add(seriesId);
+    }
+    return seriesId;
+  }
+
+  /**
+   * Get the start-time ordered events of a Series.
+   *
+   * @param series series events belong to
+   * @return ordered events of the Series (empty if it has none)
+   */
+  private NavigableSet<EventInterface> getSeriesEventsHelper(SeriesInterface series) {
+    return this.seriesEventsMap.getOrDefault(series.getSeriesId(), new TreeSet<>(START_ORDER));
+  }
+
+  /**
+   * Create a probe event ordered before every Series event starting at {@param dateTime}, to be
+   * used as a bound when slicing the ordered events of a Series.
+   *
+   * @param dateTime start date and time
+   * @return probe event
+   */
+  private EventInterface startProbeHelper(LocalDateTime dateTime) {
+    return EventFactory.createSingleEvent("", dateTime, LocalDateTime.MIN);
+  }
+
+  /**
+   * Check whether any event is happening at the given date and time.
+   *
+   * @param dateTime given date and time
+   * @return true if some event starts at or before and ends at or after {@param dateTime}
+   */
+  public boolean hasEventAt(LocalDateTime dateTime) {
+    return this.occupancy.isBusy(dateTime);
+  }
+
+  /**
+   * Filter all events matching {@param query}. Candidates are read from the most selective index
+   * the query can use (subject and start, Series, day buckets or time intervals, subject) and only
+   * the remaining constraints are checked on them; a full scan is used only when the query
+   * constrains nothing that is indexed. Occurrences of Series rules are expanded only over the
+   * dates the query can match, from the rules chosen the same way.
+   *
+   * @param query event query
+   * @return matching events, at most {@code query.getLimit()} of them, in the requested order
+   */
+  public List<EventInterface> query(EventQuery query) {
+    List<EventInterface> virtual = expandRulesHelper(query);
+    boolean sorted = query.getSortOrder() != QuerySortOrder.NONE || !virtual.isEmpty();
     List<EventInterface> result = new ArrayList<>();
-    for (EventInterface event : this.eventSet) {
-      if (predicate.test(event)) {
+    for (EventInterface event : planQueryHelper(query)) {
+      if (query.matches(event) && matchesSeriesHelper(query, event)) {
         result.add(event);
+        if (!sorted && result.size() == query.getLimit()) {
+          return result;
+        }
       }
     }
+    result.addAll(virtual);
+
+    if (query.getSortOrder() == QuerySortOrder.START_DESCENDING) {
+      result.sort(START_ORDER.reversed());
+    } else if (sorted) {
+      result.sort(START_ORDER);
+    }
+    if (result.size() > query.getLimit()) {
+      return new ArrayList<>(result.subList(0, query.getLimit()));
+    }
     return result;
   }
 
   /**
-   * Filter SingleEvents of a Series in Calendar starting from given date and time.
+   * Help choose the candidate events for {@param query} from the most selective index it can use.
+   * Every candidate is still checked against the full query afterward.
    *
-   * @param series        series events belong to
-   * @param startDateTime starting date and time
-   * @return list of SeriesEvents
+   * @param query event query
+   * @return candidate events, a superset of the matching ones
    */
-  public List<EventInterface> filterEventsInSeriesStartingFrom(SeriesInterface series,
-                                                               LocalDateTime startDateTime) {
-    return filter(event -> this.eventToSeriesMap.containsKey(event)
-        && this.eventToSeriesMap.get(event).equals(series.getSeriesId())
-        && !event.getStartDateTime().isBefore(startDateTime)
-    );
+  private Collection<EventInterface> planQueryHelper(EventQuery query) {
+    if (query.getSubject() != null && query.getStartDateTime() != null
+        && this.subjectStartIndex != null) {
+      Map<LocalDateTime, Set<EventInterface>> startMap =
+          this.subjectStartIndex.getOrDefault(query.getSubject(), Map.of());
+      return startMap.getOrDefault(query.getStartDateTime(), Set.of());
+    }
+    if (query.getSeries() != null) {
+      return sliceSeriesEventsHelper(query);
+    }
+    if (query.getWindowStart() != null) {
+      if (query.isDayAligned() && this.dayIndex != null) {
+        Set<EventInterface> candidates = new LinkedHashSet<>();
+        for (Set<EventInterface> dayEvents : this.dayIndex.subMap(
+            query.getWindowStart().toLocalDate().toEpochDay(), true,
+            query.getWindowEnd().toLocalDate().toEpochDay(), true).values()) {
+          candidates.addAll(dayEvents);
+        }
+        return candidates;
+      }
+      return storedEventsHelper(query.getWindowStart(), query.getWindowEnd());
+    }
+    if (query.getStartDateTime() != null) {
+      return storedEventsHelper(query.getStartDateTime(), query.getStartDateTime());
+    }
+    if (query.getSubject() != null) {
+      return storedWithSubjectHelper(query.getSubject());
+    }
+    if (query.getStartFrom() != null && query.getStartBefore() != null) {
+      return storedEventsHelper(query.getStartFrom(), query.getStartBefore());
+    }
+    if (query.getMembership() == SeriesMembership.SERIES) {
+      return this.eventToSeriesMap.keySet();
+    }
+    return storedEventsHelper(LocalDateTime.MIN, LocalDateTime.MAX);
   }
 
   /**
-   * Filter SingleEvents of a Series in Calendar before given date and time.
+   * Help expand the live occurrences of Series rules matching {@param query}. Rules are chosen from
+   * the subject, Series or span index the query can use, and each is expanded only over the dates
+   * allowed by the query's time constraints.
    *
-   * @param series   series events belong to
-   * @param dateTime date and time we need events to happen before
-   * @return list of SeriesEvents
+   * @param query event query
+   * @return matching occurrences
    */
-  public List<EventInterface> filterEventsInSeriesBefore(SeriesInterface series,
-                                                         LocalDateTime dateTime) {
-    return filter(event -> this.eventToSeriesMap.containsKey(event)
-        && this.eventToSeriesMap.get(event).equals(series.getSeriesId())
-        && event.getStartDateTime().isBefore(dateTime)
-    );
+  private List<EventInterface> expandRulesHelper(EventQuery query) {
+    List<EventInterface> result = new ArrayList<>();
+    if (query.getMembership() == SeriesMembership.SINGLE || this.seriesRules.isEmpty()) {
+      return result;
+    }
+
+    Collection<SeriesRule> rules;
+    LocalDateTime from = query.getStartFrom();
+    LocalDateTime to = query.getStartBefore();
+    if (query.getStartDateTime() != null) {
+      from = query.getStartDateTime();
+      to = query.getStartDateTime();
+    } else if (query.getWindowStart() != null) {
+      from = from == null || from.isBefore(query.getWindowStart()) ? query.getWindowStart() : from;
+      to = to == null || to.isAfter(query.getWindowEnd()) ? query.getWindowEnd() : to;
+    }
+    if (query.getSubject() != null) {
+      rules = this.seriesRules.withSubject(query.getSubject());
+    } else if (query.getSeries() != null) {
+      SeriesRule rule = this.seriesRules.get(query.getSeries().getSeriesId());
+      rules = rule == null ? List.of() : List.of(rule);
+    } else if (from != null && to != null) {
+      rules = this.seriesRules.findOverlapping(from, to);
+    } else {
+      rules = this.seriesRules.getAll();
+    }
+
+    List<SeriesRule> selected = new ArrayList<>();
+    for (SeriesRule rule : rules) {
+      if (query.getSeries() == null
+          || query.getSeries().getSeriesId().equals(rule.getSeries().getSeriesId())) {
+        selected.add(rule);
+      }
+    }
+    for (EventInterface occurrence : this.seriesRules.expand(selected,
+        from == null ? LocalDate.MIN : from.toLocalDate(),
+        to == null ? LocalDate.MAX : to.toLocalDate())) {
+      if (query.matches(occurrence)) {
+        result.add(occurrence);
+      }
+    }
+    return result;
   }
 
   /**
-   * Filter a SingleEvent of a Series in Calendar starting at given date and time.
+   * Help slice the start-time ordered events of the Series in {@param query} by the query's bounds
+   * on start date and time.
    *
-   * @param series   series events belong to
-   * @param dateTime event start date and time
-   * @return event in {@code series} starting at {@code dateTIme}
+   * @param query event query with a Series
+   * @return events of the Series within the start bounds
    */
-  public EventInterface filterEventsInSeriesStartAt(SeriesInterface series,
-                                                    LocalDateTime dateTime) {
-    List<EventInterface> eventsInSeries = filterEventsInSeries(series);
-    EventInterface result = null;
-    for (EventInterface event : eventsInSeries) {
-      if (event.getStartDateTime().equals(dateTime)) {
-        result = event;
-        break;
-      }
+  private NavigableSet<EventInterface> sliceSeriesEventsHelper(EventQuery query) {
+    NavigableSet<EventInterface> events = getSeriesEventsHelper(query.getSeries());
+    LocalDateTime exact = query.getStartDateTime();
+    if (exact != null) {
+      return events.subSet(startProbeHelper(exact), true,
+          startProbeHelper(exact.plusNanos(1)), false);
     }
-    return result;
+    if (query.getStartFrom() != null) {
+      events = events.tailSet(startProbeHelper(query.getStartFrom()), true);
+    }
+    if (query.getStartBefore() != null) {
+      events = events.headSet(startProbeHelper(query.getStartBefore()), false);
+    }
+    return events;
   }
 
   /**
-   * Filter all SingleEvents of a Series in Calendar.
+   * Help check the Series constraints of {@param query} on {@param event}.
    *
-   * @param series series events belong to
-   * @return list of SeriesEvents
+   * @param query event query
+   * @param event event to be checked
+   * @return true if the event has the Series membership the query requires
    */
-  public List<EventInterface> filterEventsInSeries(SeriesInterface series) {
-    return filter(event -> this.eventToSeriesMap.containsKey(event)
-        && this.eventToSeriesMap.get(event).equals(series.getSeriesId())
-    );
+  private boolean matchesSeriesHelper(EventQuery query, EventInterface event) {
+    String seriesId = seriesIdOfHelper(event);
+    if (query.getSeries() != null && !query.getSeries().getSeriesId().equals(seriesId)) {
+      return false;
+    }
+    if (query.getMembership() == SeriesMembership.SINGLE) {
+      return seriesId == null;
+    }
+    if (query.getMembership() == SeriesMembership.SERIES) {
+      return seriesId != null;
+    }
+    return true;
   }
 
   /**
@@ -317,7 +1348,7 @@ public class EventManager {
   public List<EventInterface> filterSingleEventsFromList(List<EventInterface> events) {
     List<EventInterface> result = new ArrayList<>();
     for (EventInterface event : events) {
-      if (!this.eventToSeriesMap.containsKey(event)) {
+      if (seriesIdOfHelper(event) == null) {
         result.add(event);
       }
     }
@@ -333,31 +1364,17 @@ public class EventManager {
   public List<SeriesInterface> filterSeriesListFromList(List<EventInterface> events) {
     Set<SeriesInterface> seriesList = new HashSet<>();
     for (EventInterface event : events) {
-      if (this.eventToSeriesMap.containsKey(event)) {
-        String seriesId = this.eventToSeriesMap.get(event);
+      String seriesId = seriesIdOfHelper(event);
+      if (seriesId != null) {
         seriesList.add(this.seriesMap.get(seriesId));
       }
     }
     return new ArrayList<>(seriesList);
   }
 
-  /**
-   * Filter SingleEvents (not in Series) between {@param start} and {@param end}.
-   *
-   * @param start interval start date
-   * @param end   interval end date
-   * @return list of SingleEvents
-   */
-  public List<EventInterface> filterSingleEventsBetween(LocalDate start, LocalDate end) {
-    return filter(event ->
-        !event.getStartDateTime().toLocalDate().isAfter(end)
-            && !event.getEndDateTime().toLocalDate().isBefore(start)
-            && !this.eventToSeriesMap.containsKey(event));
-  }
-
   /**
    * Filter Series Events between {@param start} and {@param end} and return a map mapping series to
-   * its event list.
+   * its event list in start order.
    *
    * @param start interval start date
    * @param end   interval end date
@@ -366,15 +1383,15 @@ public class EventManager {
   public Map<SeriesInterface, List<EventInterface>> filterSeriesEventsBetween(LocalDate start,
                                                                               LocalDate end) {
     Map<SeriesInterface, List<EventInterface>> result = new HashMap<>();
-    for (EventInterface event : this.eventSet) {
-      if (!event.getStartDateTime().toLocalDate().isAfter(end)
-          && !event.getEndDateTime().toLocalDate().isBefore(start)
-          && this.eventToSeriesMap.containsKey(event)) {
-        String seriesId = this.eventToSeriesMap.get(event);
-        SeriesInterface series = this.seriesMap.get(seriesId);
-        result.putIfAbsent(series, new ArrayList<>());
-        result.get(series).add(event);
-      }
+    EventQuery query = new EventQuery.EventQueryBuilder()
+        .setDates(start, end)
+        .setMembership(SeriesMembership.SERIES)
+        .setSortOrder(QuerySortOrder.START_ASCENDING)
+        .build();
+    for (EventInterface event : query(query)) {
+      SeriesInterface series = this.seriesMap.get(seriesIdOfHelper(event));
+      result.putIfAbsent(series, new ArrayList<>());
+      result.get(series).add(event);
     }
     return result;
   }
@@ -390,54 +1407,120 @@ public class EventManager {
    */
   public EventInterface findEvent(String subject, LocalDateTime startDateTime,
                                   LocalDateTime endDateTime) throws EventNotFoundException {
-    EventInterface result = null;
-    for (EventInterface event : this.eventSet) {
-      if (event.getSubject().equals(subject)) {
-        if (event.getStartDateTime().equals(startDateTime)) {
-          if (event.getEndDateTime().equals(endDateTime)) {
-            result = event;
-            break;
-          }
-        }
-      }
+    EventReadOnlyInterface result =
+        this.store.get(new EventKey(subject, startDateTime, endDateTime));
+    if (result != null) {
+      return toEventHelper(result);
     }
-    if (result == null) {
+    SeriesRule rule = this.seriesRules.findGenerating(subject, startDateTime, endDateTime);
+    if (rule == null) {
       throw new EventNotFoundException("Event not found!");
     }
-    return result;
+    return rule.occurrenceOn(startDateTime.toLocalDate());
   }
 
   /**
-   * Export all SingleEvents.
+   * Export all SingleEvents as an immutable snapshot ordered by start date and time, including
+   * every occurrence of Series rules. The same snapshot is returned until events change; inside an
+   * update scope the snapshot published before the scope opened is returned. A new snapshot is a
+   * full copy of the events, built at most once per version. The returned list can be read from
+   * any thread, but this method itself, like every other one, must not run concurrently with a
+   * change.
    *
-   * @return list of events
+   * @return unmodifiable list of events
    */
   public List<EventInterface> getAllEvents() {
-    return new ArrayList<>(this.eventSet);
+    return this.snapshot.get(() -> {
+      List<EventInterface> events = storedEventsHelper(LocalDateTime.MIN, LocalDateTime.MAX);
+      if (!this.seriesRules.isEmpty()) {
+        events.addAll(this.seriesRules.expand(this.seriesRules.getAll(), LocalDate.MIN,
+            LocalDate.MAX));
+        events.sort(START_ORDER);
+      }
+      return events;
+    });
   }
 
   /**
-   * Export all SingleEvents Readonly.
+   * Export all SingleEvents Readonly, as a view of the snapshot returned by
+   * {@link #getAllEvents()}.
    *
-   * @return list of readonly events
+   * @return unmodifiable list of readonly events
    */
   public List<EventReadOnlyInterface> getAllEventsReadOnly() {
-    return new ArrayList<>(this.eventSet);
+    return Collections.unmodifiableList(getAllEvents());
+  }
+
+  /**
+   * Get the number of events stored one by one. Live occurrences of Series rules are not stored,
+   * so this counts SingleEvents and the Series events that diverge from their rule.
+   *
+   * @return number of stored events
+   */
+  public int getStoredEventCount() {
+    return this.store.size();
+  }
+
+  /**
+   * Get the number of Series windows read from the expansion cache.
+   *
+   * @return cache hit count
+   */
+  public long getExpansionCacheHitCount() {
+    return this.seriesRules.getCacheHitCount();
   }
 
   /**
-   * Update the property of a list of events with {@param newValue}.
+   * Get the number of Series windows expanded because they were not in the expansion cache.
+   *
+   * @return cache miss count
+   */
+  public long getExpansionCacheMissCount() {
+    return this.seriesRules.getCacheMissCount();
+  }
+
+  /**
+   * Get the version of events in Calendar. It changes whenever an event is added or removed, so a
+   * reader can tell whether a snapshot it holds is still current.
+   *
+   * @return current version
+   */
+  public long getVersion() {
+    return this.snapshot.getVersion();
+  }
+
+  /**
+   * Open an update scope. Until the matching {@link #endUpdate()}, snapshot reads keep returning
+   * the version published before the scope opened. Scopes can be nested. Only
+   * {@link #getAllEvents()} is held back: queries and the other reads see every change as soon as
+   * it is made, including the changes of an open scope.
+   */
+  public void beginUpdate() {
+    this.snapshot.beginUpdate();
+  }
+
+  /**
+   * Close an update scope. Closing the outermost scope lets the next snapshot read publish every
+   * change made inside it as one version.
+   *
+   * @throws IllegalStateException if no update scope is open
+   */
+  public void endUpdate() throws IllegalStateException {
+    this.snapshot.endUpdate();
+  }
+
+  /**
+   * Update the property of a list of events with {@param patch}.
    *
    * @param events   list events to be updated
    * @param property property to be updated
-   * @param newValue new property value
-   * @param editor   event editor to update old events
+   * @param patch    new property value
    */
   public void updateEventsProperty(List<EventInterface> events, EventProperty property,
-                                   String newValue, EventEditor editor) {
+                                   EventPatch patch) {
     List<EventInterface> updated = new ArrayList<>();
     for (EventInterface oldEvent : events) {
-      updated.add(editor.editEvent(oldEvent, property, newValue));
+      updated.add(patch.apply(oldEvent));
     }
     this.updateSingleEventsWithList(events, updated, property);
   }
@@ -449,7 +1532,7 @@ public class EventManager {
    * @return true if event belongs to a series, false otherwise
    */
   public boolean isSeriesEvent(EventReadOnlyInterface event) {
-    return this.eventToSeriesMap.containsKey((EventInterface) event);
+    return seriesIdOfHelper(event) != null;
   }
 
   /**
@@ -459,7 +1542,7 @@ public class EventManager {
    * @return set of weekdays
    */
   public Set<Weekday> getSeriesWeekdays(EventReadOnlyInterface event) {
-    String seriesId = this.eventToSeriesMap.get((EventInterface) event);
+    String seriesId = seriesIdOfHelper(event);
     return Set.copyOf(this.seriesMap.get(seriesId).getWeekdays());
   }
 
@@ -470,7 +1553,7 @@ public class EventManager {
    * @return series end date
    */
   public LocalDate getSeriesUntilEnd(EventReadOnlyInterface event) {
-    String seriesId = this.eventToSeriesMap.get((EventInterface) event);
+    String seriesId = seriesIdOfHelper(event);
     return this.seriesMap.get(seriesId).getEndDate();
   }
 
@@ -481,7 +1564,87 @@ public class EventManager {
    * @return number of occurrences, or null if series is end-date based
    */
   public Integer getSeriesOccurrence(EventReadOnlyInterface event) {
-    String seriesId = this.eventToSeriesMap.get((EventInterface) event);
+    String seriesId = seriesIdOfHelper(event);
     return this.seriesMap.get(seriesId).getNumberOfOccurrences();
   }
+
+  /**
+   * Count the occurrences currently in the Series associated with the given event, from its rule
+   * and its stored events, without building any occurrence.
+   *
+   * @param event event belonging to a series
+   * @return number of occurrences, or null if the series never ends
+   * @throws IllegalArgumentException if the event is not in a series
+   */
+  public Integer getSeriesOccurrenceCount(EventReadOnlyInterface event)
+      throws IllegalArgumentException {
+    return getSeriesRemainingCount(event, LocalDate.MIN);
+  }
+
+  /**
+   * Count the occurrences of the Series associated with the given event on dates after
+   * {@param date}, from its rule and its stored events, without building any occurrence.
+   *
+   * @param event event belonging to a series
+   * @param date  date after which occurrences are counted
+   * @return number of remaining occurrences, or null if the series never ends
+   * @throws IllegalArgumentException if the event is not in a series
+   */
+  public Integer getSeriesRemainingCount(EventReadOnlyInterface event, LocalDate date)
+      throws IllegalArgumentException {
+    String seriesId = requireSeriesIdHelper(event);
+    SeriesRule rule = this.seriesRules.get(seriesId);
+    if (rule != null && rule.isUnbounded()) {
+      return null;
+    }
+
+    LocalDate from = LocalDate.MIN.equals(date) ? date : date.plusDays(1);
+    long count = rule == null ? 0 : rule.countBetween(from, LocalDate.MAX);
+    NavigableSet<EventInterface> members = this.seriesEventsMap.get(seriesId);
+    if (members != null) {
+      count += members.tailSet(startProbeHelper(from.atStartOfDay()), true).size();
+    }
+    return (int) count;
+  }
+
+  /**
+   * Get the date of the last occurrence of the Series associated with the given event, from its
+   * rule and its stored events.
+   *
+   * @param event event belonging to a series
+   * @return last occurrence date, or null if the series never ends or has no occurrence
+   * @throws IllegalArgumentException if the event is not in a series
+   */
+  public LocalDate getSeriesLastDate(EventReadOnlyInterface event)
+      throws IllegalArgumentException {
+    String seriesId = requireSeriesIdHelper(event);
+    SeriesRule rule = this.seriesRules.get(seriesId);
+    if (rule != null && rule.isUnbounded()) {
+      return null;
+    }
+
+    LocalDate last = rule == null ? null : rule.getLastLiveDate();
+    NavigableSet<EventInterface> members = this.seriesEventsMap.get(seriesId);
+    if (members != null && !members.isEmpty()) {
+      LocalDate stored = members.last().getStartDateTime().toLocalDate();
+      last = last == null || stored.isAfter(last) ? stored : last;
+    }
+    return last;
+  }
+
+  /**
+   * Help get the id of the Series {@param event} belongs to.
+   *
+   * @param event event
+   * @return series id
+   * @throws IllegalArgumentException if the event is not in a series
+   */
+  private String requireSeriesIdHelper(EventReadOnlyInterface event)
+      throws IllegalArgumentException {
+    String seriesId = seriesIdOfHelper(event);
+    if (seriesId == null) {
+      throw new IllegalArgumentException("Event is not in a series");
+    }
+    return seriesId;
+  }
 }
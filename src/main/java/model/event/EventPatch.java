@@ -0,0 +1,231 @@
+package model.event;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * This class represents a typed edit of one or more properties of an event. Applying a patch
+ * copies the event through a single builder pass, however many properties it sets, and its values
+ * are already typed, so nothing is parsed on the way. Unset properties keep their values.
+ */
+public class EventPatch {
+  private final Set<EventProperty> properties;
+  private final String subject;
+  private final LocalDateTime startDateTime;
+  private final LocalDateTime endDateTime;
+  private final LocalTime endTime;
+  private final String description;
+  private final String location;
+  private final EventStatus status;
+
+  /**
+   * Create an EventPatch from a builder.
+   *
+   * @param builder builder holding the new property values
+   */
+  private EventPatch(EventPatchBuilder builder) {
+    this.properties = Collections.unmodifiableSet(EnumSet.copyOf(builder.properties));
+    this.subject = builder.subject;
+    this.startDateTime = builder.startDateTime;
+    this.endDateTime = builder.endDateTime;
+    this.endTime = builder.endTime;
+    this.description = builder.description;
+    this.location = builder.location;
+    this.status = builder.status;
+  }
+
+  /**
+   * Get the properties the patch sets.
+   *
+   * @return unmodifiable set of properties
+   */
+  public Set<EventProperty> getProperties() {
+    return this.properties;
+  }
+
+  /**
+   * Get the new start date and time.
+   *
+   * @return new start date and time, or null if the patch does not set it
+   */
+  public LocalDateTime getStartDateTime() {
+    return this.startDateTime;
+  }
+
+  /**
+   * Get the new end date and time.
+   *
+   * @return new end date and time, or null if the patch does not set it
+   */
+  public LocalDateTime getEndDateTime() {
+    return this.endDateTime;
+  }
+
+  /**
+   * Create a builder holding the values of this patch.
+   *
+   * @return builder
+   */
+  public EventPatchBuilder toBuilder() {
+    EventPatchBuilder builder = new EventPatchBuilder();
+    builder.properties.addAll(this.properties);
+    builder.subject = this.subject;
+    builder.startDateTime = this.startDateTime;
+    builder.endDateTime = this.endDateTime;
+    builder.endTime = this.endTime;
+    builder.description = this.description;
+    builder.location = this.location;
+    builder.status = this.status;
+    return builder;
+  }
+
+  /**
+   * Create a copy of {@param event} with the properties of this patch. The end time, if set, is
+   * applied on the end date after the start and end date and time.
+   *
+   * @param event event to be edited
+   * @return edited event
+   */
+  public EventInterface apply(EventInterface event) {
+    EventBuilderInterface builder = event.toBuilder();
+    if (this.properties.contains(EventProperty.SUBJECT)) {
+      builder.setSubject(this.subject);
+    }
+    if (this.properties.contains(EventProperty.START)) {
+      builder.setStartDateTime(this.startDateTime);
+    }
+    if (this.properties.contains(EventProperty.END)) {
+      builder.setEndDateTime(this.endDateTime);
+    }
+    if (this.properties.contains(EventProperty.END_TIME)) {
+      builder.setEndTime(this.endTime);
+    }
+    if (this.properties.contains(EventProperty.DESCRIPTION)) {
+      builder.setDescription(this.description);
+    }
+    if (this.properties.contains(EventProperty.LOCATION)) {
+      builder.setLocation(this.location);
+    }
+    if (this.properties.contains(EventProperty.STATUS)) {
+      builder.setStatus(this.status);
+    }
+    return builder.build();
+  }
+
+  /**
+   * This class represents a builder of EventPatch.
+   */
+  public static class EventPatchBuilder {
+    private final Set<EventProperty> properties;
+    private String subject;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+    private LocalTime endTime;
+    private String description;
+    private String location;
+    private EventStatus status;
+
+    /**
+     * Create a builder setting no property.
+     */
+    public EventPatchBuilder() {
+      this.properties = EnumSet.noneOf(EventProperty.class);
+    }
+
+    /**
+     * Set the new subject.
+     *
+     * @param subject event subject
+     * @return this builder
+     */
+    public EventPatchBuilder setSubject(String subject) {
+      this.subject = subject;
+      this.properties.add(EventProperty.SUBJECT);
+      return this;
+    }
+
+    /**
+     * Set the new start date and time.
+     *
+     * @param startDateTime event start date and time
+     * @return this builder
+     */
+    public EventPatchBuilder setStartDateTime(LocalDateTime startDateTime) {
+      this.startDateTime = startDateTime;
+      this.properties.add(EventProperty.START);
+      return this;
+    }
+
+    /**
+     * Set the new end date and time.
+     *
+     * @param endDateTime event end date and time
+     * @return this builder
+     */
+    public EventPatchBuilder setEndDateTime(LocalDateTime endDateTime) {
+      this.endDateTime = endDateTime;
+      this.properties.add(EventProperty.END);
+      return this;
+    }
+
+    /**
+     * Set the new end time, keeping the end date.
+     *
+     * @param endTime event end time
+     * @return this builder
+     */
+    public EventPatchBuilder setEndTime(LocalTime endTime) {
+      this.endTime = endTime;
+      this.properties.add(EventProperty.END_TIME);
+      return this;
+    }
+
+    /**
+     * Set the new description.
+     *
+     * @param description event description
+     * @return this builder
+     */
+    public EventPatchBuilder setDescription(String description) {
+      this.description = description;
+      this.properties.add(EventProperty.DESCRIPTION);
+      return this;
+    }
+
+    /**
+     * Set the new location.
+     *
+     * @param location event location
+     * @return this builder
+     */
+    public EventPatchBuilder setLocation(String location) {
+      this.location = location;
+      this.properties.add(EventProperty.LOCATION);
+      return this;
+    }
+
+    /**
+     * Set the new status.
+     *
+     * @param status event status
+     * @return this builder
+     */
+    public EventPatchBuilder setStatus(EventStatus status) {
+      this.status = status;
+      this.properties.add(EventProperty.STATUS);
+      return this;
+    }
+
+    /**
+     * Build the EventPatch.
+     *
+     * @return event patch
+     */
+    public EventPatch build() {
+      return new EventPatch(this);
+    }
+  }
+}
@@ -0,0 +1,361 @@
+package model.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * This class represents a typed query over events in Calendar. Unlike an opaque predicate, every
+ * constraint of a query is visible to {@link EventManager}, which answers it from the most
+ * selective index available and only checks the remaining constraints on the candidates it reads.
+ * Unset constraints match every event.
+ */
+public class EventQuery {
+  private final LocalDateTime windowStart;
+  private final LocalDateTime windowEnd;
+  private final boolean dayAligned;
+  private final String subject;
+  private final LocalDateTime startDateTime;
+  private final LocalDateTime startFrom;
+  private final LocalDateTime startBefore;
+  private final SeriesInterface series;
+  private final SeriesMembership membership;
+  private final String location;
+  private final EventStatus status;
+  private final int limit;
+  private final QuerySortOrder sortOrder;
+
+  /**
+   * Create an EventQuery from a builder.
+   *
+   * @param builder builder holding query constraints
+   */
+  private EventQuery(EventQueryBuilder builder) {
+    this.windowStart = builder.windowStart;
+    this.windowEnd = builder.windowEnd;
+    this.dayAligned = builder.dayAligned;
+    this.subject = builder.subject;
+    this.startDateTime = builder.startDateTime;
+    this.startFrom = builder.startFrom;
+    this.startBefore = builder.startBefore;
+    this.series = builder.series;
+    this.membership = builder.membership;
+    this.location = builder.location;
+    this.status = builder.status;
+    this.limit = builder.limit;
+    this.sortOrder = builder.sortOrder;
+  }
+
+  /**
+   * Get the start of the time window events must overlap.
+   *
+   * @return window start, or null if the query has no time window
+   */
+  public LocalDateTime getWindowStart() {
+    return this.windowStart;
+  }
+
+  /**
+   * Get the end of the time window events must overlap.
+   *
+   * @return window end, or null if the query has no time window
+   */
+  public LocalDateTime getWindowEnd() {
+    return this.windowEnd;
+  }
+
+  /**
+   * Check whether the time window covers whole days.
+   *
+   * @return true if the window was given as a range of dates
+   */
+  public boolean isDayAligned() {
+    return this.dayAligned;
+  }
+
+  /**
+   * Get the subject events must have.
+   *
+   * @return event subject, or null if any subject matches
+   */
+  public String getSubject() {
+    return this.subject;
+  }
+
+  /**
+   * Get the exact start date and time events must have.
+   *
+   * @return event start date and time, or null if any start matches
+   */
+  public LocalDateTime getStartDateTime() {
+    return this.startDateTime;
+  }
+
+  /**
+   * Get the inclusive lower bound on event start date and time.
+   *
+   * @return lower bound, or null if unbounded
+   */
+  public LocalDateTime getStartFrom() {
+    return this.startFrom;
+  }
+
+  /**
+   * Get the exclusive upper bound on event start date and time.
+   *
+   * @return upper bound, or null if unbounded
+   */
+  public LocalDateTime getStartBefore() {
+    return this.startBefore;
+  }
+
+  /**
+   * Get the Series events must belong to.
+   *
+   * @return series, or null if events of any Series or no Series match
+   */
+  public SeriesInterface getSeries() {
+    return this.series;
+  }
+
+  /**
+   * Get the Series membership events must have.
+   *
+   * @return series membership
+   */
+  public SeriesMembership getMembership() {
+    return this.membership;
+  }
+
+  /**
+   * Get the maximum number of events to return.
+   *
+   * @return result limit
+   */
+  public int getLimit() {
+    return this.limit;
+  }
+
+  /**
+   * Get the order in which events are returned.
+   *
+   * @return sort order
+   */
+  public QuerySortOrder getSortOrder() {
+    return this.sortOrder;
+  }
+
+  /**
+   * Check whether {@param event} satisfies every constraint of this query that depends only on the
+   * event itself. Series constraints are checked by {@link EventManager}.
+   *
+   * @param event event to be checked
+   * @return true if the event matches
+   */
+  public boolean matches(EventReadOnlyInterface event) {
+    LocalDateTime start = event.getStartDateTime();
+    if (this.windowStart != null
+        && (start.isAfter(this.windowEnd) || event.getEndDateTime().isBefore(this.windowStart))) {
+      return false;
+    }
+    if (this.subject != null && !this.subject.equals(event.getSubject())) {
+      return false;
+    }
+    if (this.startDateTime != null && !this.startDateTime.equals(start)) {
+      return false;
+    }
+    if (this.startFrom != null && start.isBefore(this.startFrom)) {
+      return false;
+    }
+    if (this.startBefore != null && !start.isBefore(this.startBefore)) {
+      return false;
+    }
+    if (this.location != null && !this.location.equals(event.getLocation())) {
+      return false;
+    }
+    return this.status == null || this.status == event.getStatus();
+  }
+
+  /**
+   * This class builds an EventQuery.
+   */
+  public static class EventQueryBuilder {
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    private boolean dayAligned;
+    private String subject;
+    private LocalDateTime startDateTime;
+    private LocalDateTime startFrom;
+    private LocalDateTime startBefore;
+    private SeriesInterface series;
+    private SeriesMembership membership;
+    private String location;
+    private EventStatus status;
+    private int limit;
+    private QuerySortOrder sortOrder;
+
+    /**
+     * Create a builder for a query matching every event.
+     */
+    public EventQueryBuilder() {
+      this.dayAligned = false;
+      this.membership = SeriesMembership.ANY;
+      this.limit = Integer.MAX_VALUE;
+      this.sortOrder = QuerySortOrder.NONE;
+    }
+
+    /**
+     * Select events that partly or completely lie in the interval between {@param start} and
+     * {@param end} (both inclusive).
+     *
+     * @param start interval start date and time
+     * @param end   interval end date and time
+     * @return this builder
+     */
+    public EventQueryBuilder setWindow(LocalDateTime start, LocalDateTime end) {
+      this.windowStart = Objects.requireNonNull(start);
+      this.windowEnd = Objects.requireNonNull(end);
+      this.dayAligned = false;
+      return this;
+    }
+
+    /**
+     * Select events that partly or completely lie on the dates between {@param start} and
+     * {@param end} (both inclusive).
+     *
+     * @param start interval start date
+     * @param end   interval end date
+     * @return this builder
+     */
+    public EventQueryBuilder setDates(LocalDate start, LocalDate end) {
+      this.windowStart = start.atStartOfDay();
+      this.windowEnd = end.atTime(LocalTime.MAX);
+      this.dayAligned = true;
+      return this;
+    }
+
+    /**
+     * Select events with the given subject.
+     *
+     * @param subject event subject
+     * @return this builder
+     */
+    public EventQueryBuilder setSubject(String subject) {
+      this.subject = subject;
+      return this;
+    }
+
+    /**
+     * Select events starting exactly at the given date and time.
+     *
+     * @param startDateTime event start date and time
+     * @return this builder
+     */
+    public EventQueryBuilder setStartDateTime(LocalDateTime startDateTime) {
+      this.startDateTime = startDateTime;
+      return this;
+    }
+
+    /**
+     * Select events starting at or after the given date and time.
+     *
+     * @param startFrom inclusive lower bound on start date and time
+     * @return this builder
+     */
+    public EventQueryBuilder setStartFrom(LocalDateTime startFrom) {
+      this.startFrom = startFrom;
+      return this;
+    }
+
+    /**
+     * Select events starting before the given date and time.
+     *
+     * @param startBefore exclusive upper bound on start date and time
+     * @return this builder
+     */
+    public EventQueryBuilder setStartBefore(LocalDateTime startBefore) {
+      this.startBefore = startBefore;
+      return this;
+    }
+
+    /**
+     * Select events belonging to the given Series.
+     *
+     * @param series series events belong to
+     * @return this builder
+     */
+    public EventQueryBuilder setSeries(SeriesInterface series) {
+      this.series = series;
+      return this;
+    }
+
+    /**
+     * Select events by whether they belong to a Series.
+     *
+     * @param membership series membership
+     * @return this builder
+     */
+    public EventQueryBuilder setMembership(SeriesMembership membership) {
+      this.membership = Objects.requireNonNull(membership);
+      return this;
+    }
+
+    /**
+     * Select events with the given location.
+     *
+     * @param location event location
+     * @return this builder
+     */
+    public EventQueryBuilder setLocation(String location) {
+      this.location = location;
+      return this;
+    }
+
+    /**
+     * Select events with the given status.
+     *
+     * @param status event status
+     * @return this builder
+     */
+    public EventQueryBuilder setStatus(EventStatus status) {
+      this.status = status;
+      return this;
+    }
+
+    /**
+     * Return at most {@param limit} events.
+     *
+     * @param limit maximum number of events
+     * @return this builder
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public EventQueryBuilder setLimit(int limit) throws IllegalArgumentException {
+      if (limit <= 0) {
+        throw new IllegalArgumentException("Query limit must be positive");
+      }
+      this.limit = limit;
+      return this;
+    }
+
+    /**
+     * Return events in the given order.
+     *
+     * @param sortOrder sort order
+     * @return this builder
+     */
+    public EventQueryBuilder setSortOrder(QuerySortOrder sortOrder) {
+      this.sortOrder = Objects.requireNonNull(sortOrder);
+      return this;
+    }
+
+    /**
+     * Build the query.
+     *
+     * @return EventQuery
+     */
+    public EventQuery build() {
+      return new EventQuery(this);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package model.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * This interface represents a store of SingleEvents keyed by their identity (subject, start date
+ * and time, end date and time). A store hands out read-only events; whether they are the objects
+ * that were added or views over the store's own representation is up to the implementation.
+ */
+public interface EventStoreInterface {
+  /**
+   * Add {@param event} to the store.
+   *
+   * @param event event to be added
+   * @throws EventExistException if an event with the same identity is already stored
+   */
+  void add(EventReadOnlyInterface event) throws EventExistException;
+
+  /**
+   * Remove the event with the identity of {@param event}.
+   *
+   * @param event event to be removed
+   * @return true if an event was removed
+   */
+  boolean remove(EventReadOnlyInterface event);
+
+  /**
+   * Check whether an event with the identity of {@param event} is stored.
+   *
+   * @param event event
+   * @return true if stored
+   */
+  boolean contains(EventReadOnlyInterface event);
+
+  /**
+   * Get the stored event with identity {@param key}.
+   *
+   * @param key event identity
+   * @return stored event, or null if none
+   */
+  EventReadOnlyInterface get(EventKey key);
+
+  /**
+   * Find the stored events whose closed interval overlaps [{@param start}, {@param end}].
+   *
+   * @param start range start
+   * @param end   range end
+   * @return overlapping events in start order
+   */
+  List<EventReadOnlyInterface> findOverlapping(LocalDateTime start, LocalDateTime end);
+
+  /**
+   * Get every stored event.
+   *
+   * @return all events in start order
+   */
+  List<EventReadOnlyInterface> getAll();
+
+  /**
+   * Get the number of stored events.
+   *
+   * @return number of events
+   */
+  int size();
+}
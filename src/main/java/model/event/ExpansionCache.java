@@ -0,0 +1,226 @@
+package model.event;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * This class represents a bounded cache of expanded Series windows: the occurrences of one Series
+ * between two dates, keyed by Series id and window. Entries are weighted by their number of
+ * occurrences and the least recently used ones are evicted once the total weight exceeds the
+ * limit. A window heavier than the whole limit is expanded but not kept.
+ *
+ * <p>The cache does not watch the Series: the owner invalidates every window of a Series whenever
+ * its rule or its suppressed occurrences change. Hits and misses are counted so the limit can be
+ * tuned.
+ */
+public class ExpansionCache {
+  private final int maxWeight;
+  private final LinkedHashMap<Window, List<EventInterface>> entries;
+  private final Map<String, Set<Window>> windowsBySeries;
+  private int weight;
+  private long hitCount;
+  private long missCount;
+
+  /**
+   * Create an empty ExpansionCache holding at most {@param maxWeight} occurrences.
+   *
+   * @param maxWeight maximum total number of cached occurrences
+   * @throws IllegalArgumentException if maxWeight is negative
+   */
+  public ExpansionCache(int maxWeight) throws IllegalArgumentException {
+    if (maxWeight < 0) {
+      throw new IllegalArgumentException("Cache weight cannot be negative");
+    }
+    this.maxWeight = maxWeight;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    this.windowsBySeries = new HashMap<>();
+    this.weight = 0;
+    this.hitCount = 0;
+    this.missCount = 0;
+  }
+
+  /**
+   * Get the occurrences of Series {@param seriesId} between {@param from} and {@param to},
+   * expanding them with {@param expand} on a miss.
+   *
+   * @param seriesId id of the Series
+   * @param from     first date of the window
+   * @param to       last date of the window
+   * @param expand   expansion of the window, called on a miss
+   * @return unmodifiable list of occurrences
+   */
+  public List<EventInterface> get(String seriesId, LocalDate from, LocalDate to,
+                                  Supplier<List<EventInterface>> expand) {
+    List<EventInterface> cached = getIfPresent(seriesId, from, to);
+    return cached != null ? cached : put(seriesId, from, to, expand.get());
+  }
+
+  /**
+   * Get the cached occurrences of Series {@param seriesId} between {@param from} and {@param to},
+   * counting a hit or a miss.
+   *
+   * @param seriesId id of the Series
+   * @param from     first date of the window
+   * @param to       last date of the window
+   * @return unmodifiable list of occurrences, or null if the window is not cached
+   */
+  public List<EventInterface> getIfPresent(String seriesId, LocalDate from, LocalDate to) {
+    List<EventInterface> cached = this.entries.get(new Window(seriesId, from, to));
+    if (cached != null) {
+      this.hitCount += 1;
+    } else {
+      this.missCount += 1;
+    }
+    return cached;
+  }
+
+  /**
+   * Cache {@param occurrences} as the window of Series {@param seriesId} between {@param from} and
+   * {@param to}, evicting the least recently used windows if needed.
+   *
+   * @param seriesId    id of the Series
+   * @param from        first date of the window
+   * @param to          last date of the window
+   * @param occurrences occurrences of the window
+   * @return unmodifiable list of occurrences
+   */
+  public List<EventInterface> put(String seriesId, LocalDate from, LocalDate to,
+                                  List<EventInterface> occurrences) {
+    List<EventInterface> expanded = Collections.unmodifiableList(occurrences);
+    if (weightOf(expanded) > this.maxWeight) {
+      return expanded;
+    }
+    Window window = new Window(seriesId, from, to);
+    List<EventInterface> previous = this.entries.put(window, expanded);
+    if (previous != null) {
+      this.weight -= weightOf(previous);
+    }
+    this.windowsBySeries.computeIfAbsent(seriesId, id -> new HashSet<>()).add(window);
+    this.weight += weightOf(expanded);
+    evictHelper();
+    return expanded;
+  }
+
+  /**
+   * Drop every cached window of Series {@param seriesId}.
+   *
+   * @param seriesId id of the Series
+   */
+  public void invalidate(String seriesId) {
+    Set<Window> windows = this.windowsBySeries.remove(seriesId);
+    if (windows == null) {
+      return;
+    }
+    for (Window window : windows) {
+      this.weight -= weightOf(this.entries.remove(window));
+    }
+  }
+
+  /**
+   * Get the number of cached windows.
+   *
+   * @return number of windows
+   */
+  public int size() {
+    return this.entries.size();
+  }
+
+  /**
+   * Get the total weight of cached windows.
+   *
+   * @return number of cached occurrences, each window counting at least one
+   */
+  public int getWeight() {
+    return this.weight;
+  }
+
+  /**
+   * Get the number of lookups answered from the cache.
+   *
+   * @return hit count
+   */
+  public long getHitCount() {
+    return this.hitCount;
+  }
+
+  /**
+   * Get the number of lookups that had to expand their window.
+   *
+   * @return miss count
+   */
+  public long getMissCount() {
+    return this.missCount;
+  }
+
+  /**
+   * Help evict the least recently used windows until the total weight is within the limit.
+   */
+  private void evictHelper() {
+    Iterator<Map.Entry<Window, List<EventInterface>>> eldest = this.entries.entrySet().iterator();
+    while (this.weight > this.maxWeight && eldest.hasNext()) {
+      Map.Entry<Window, List<EventInterface>> entry = eldest.next();
+      eldest.remove();
+      this.weight -= weightOf(entry.getValue());
+      Set<Window> windows = this.windowsBySeries.get(entry.getKey().seriesId);
+      windows.remove(entry.getKey());
+      if (windows.isEmpty()) {
+        this.windowsBySeries.remove(entry.getKey().seriesId);
+      }
+    }
+  }
+
+  /**
+   * Help get the weight of a cached window, so that empty windows still count.
+   *
+   * @param occurrences occurrences of the window
+   * @return weight
+   */
+  private static int weightOf(List<EventInterface> occurrences) {
+    return Math.max(1, occurrences.size());
+  }
+
+  /**
+   * This class represents the key of a cached window.
+   */
+  private static final class Window {
+    private final String seriesId;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Create a Window of Series {@param seriesId} from {@param from} to {@param to}.
+     *
+     * @param seriesId id of the Series
+     * @param from     first date
+     * @param to       last date
+     */
+    private Window(String seriesId, LocalDate from, LocalDate to) {
+      this.seriesId = seriesId;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Window)) {
+        return false;
+      }
+      Window other = (Window) o;
+      return this.seriesId.equals(other.seriesId) && this.from.equals(other.from)
+          && this.to.equals(other.to);
+    }
+
+    @Override
+    public int hashCode() {
+      return (this.seriesId.hashCode() * 31 + this.from.hashCode()) * 31 + this.to.hashCode();
+    }
+  }
+}
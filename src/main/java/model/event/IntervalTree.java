@@ -0,0 +1,344 @@
+package model.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This class represents an augmented interval tree over closed time intervals. It is a balanced
+ * (AVL) binary search tree ordered by interval start and end, where every node also records the
+ * latest end time in its subtree. That extra value lets overlap queries skip whole subtrees, so
+ * finding the k items overlapping a window costs O(log n + k) instead of a full scan.
+ *
+ * <p>Items sharing the same start and end are kept together in a single node.
+ *
+ * @param <T> type of items stored in the tree
+ */
+public class IntervalTree<T> {
+  private final Function<T, LocalDateTime> startOf;
+  private final Function<T, LocalDateTime> endOf;
+  private Node<T> root;
+  private int size;
+
+  /**
+   * Create an empty IntervalTree reading item intervals with the given functions.
+   *
+   * @param startOf function returning the start of an item's interval
+   * @param endOf   function returning the end of an item's interval
+   */
+  public IntervalTree(Function<T, LocalDateTime> startOf, Function<T, LocalDateTime> endOf) {
+    this.startOf = startOf;
+    this.endOf = endOf;
+    this.root = null;
+    this.size = 0;
+  }
+
+  /**
+   * Insert an item into the tree.
+   *
+   * @param item item to be inserted
+   */
+  public void insert(T item) {
+    this.root = insertHelper(this.root, item, this.startOf.apply(item), this.endOf.apply(item));
+    this.size += 1;
+  }
+
+  /**
+   * Remove an item (compared with {@code equals}) from the tree.
+   *
+   * @param item item to be removed
+   * @return true if the item was in the tree, false otherwise
+   */
+  public boolean remove(T item) {
+    int previousSize = this.size;
+    this.root = removeHelper(this.root, item, this.startOf.apply(item), this.endOf.apply(item));
+    return this.size < previousSize;
+  }
+
+  /**
+   * Get all items whose interval overlaps the closed window [{@param start}, {@param end}], in
+   * ascending order of start time.
+   *
+   * @param start window start
+   * @param end   window end
+   * @return list of overlapping items
+   */
+  public List<T> findOverlapping(LocalDateTime start, LocalDateTime end) {
+    List<T> result = new ArrayList<>();
+    findOverlappingHelper(this.root, start, end, result);
+    return result;
+  }
+
+  /**
+   * Check whether any item overlaps the closed window [{@param start}, {@param end}]. This stops at
+   * the first match and does not build a result list.
+   *
+   * @param start window start
+   * @param end   window end
+   * @return true if at least one item overlaps the window
+   */
+  public boolean hasOverlapping(LocalDateTime start, LocalDateTime end) {
+    Node<T> current = this.root;
+    while (current != null && !current.maxEnd.isBefore(start)) {
+      if (!current.start.isAfter(end) && !current.end.isBefore(start)) {
+        return true;
+      }
+      if (current.left != null && !current.left.maxEnd.isBefore(start)) {
+        current = current.left;
+      } else if (!current.start.isAfter(end)) {
+        current = current.right;
+      } else {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Get the number of items in the tree.
+   *
+   * @return number of items
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Help insert an item into the subtree rooted at {@param node}.
+   *
+   * @param node  subtree root
+   * @param item  item to be inserted
+   * @param start item start
+   * @param end   item end
+   * @return new subtree root
+   */
+  private Node<T> insertHelper(Node<T> node, T item, LocalDateTime start, LocalDateTime end) {
+    if (node == null) {
+      return new Node<>(item, start, end);
+    }
+
+    int comparison = compareKey(start, end, node);
+    if (comparison == 0) {
+      node.items.add(item);
+      return node;
+    } else if (comparison < 0) {
+      node.left = insertHelper(node.left, item, start, end);
+    } else {
+      node.right = insertHelper(node.right, item, start, end);
+    }
+    return rebalance(node);
+  }
+
+  /**
+   * Help remove an item from the subtree rooted at {@param node}.
+   *
+   * @param node  subtree root
+   * @param item  item to be removed
+   * @param start item start
+   * @param end   item end
+   * @return new subtree root
+   */
+  private Node<T> removeHelper(Node<T> node, T item, LocalDateTime start, LocalDateTime end) {
+    if (node == null) {
+      return null;
+    }
+
+    int comparison = compareKey(start, end, node);
+    if (comparison < 0) {
+      node.left = removeHelper(node.left, item, start, end);
+    } else if (comparison > 0) {
+      node.right = removeHelper(node.right, item, start, end);
+    } else {
+      if (!node.items.remove(item)) {
+        return node;
+      }
+      this.size -= 1;
+      if (!node.items.isEmpty()) {
+        return node;
+      }
+      if (node.left == null) {
+        return node.right;
+      }
+      if (node.right == null) {
+        return node.left;
+      }
+      Node<T> successor = node.right;
+      while (successor.left != null) {
+        successor = successor.left;
+      }
+      node.right = removeNodeHelper(node.right, successor);
+      successor.left = node.left;
+      successor.right = node.right;
+      return rebalance(successor);
+    }
+    return rebalance(node);
+  }
+
+  /**
+   * Help detach {@param target} (the leftmost node) from the subtree rooted at {@param node}.
+   *
+   * @param node   subtree root
+   * @param target leftmost node of the subtree
+   * @return new subtree root
+   */
+  private Node<T> removeNodeHelper(Node<T> node, Node<T> target) {
+    if (node == target) {
+      return node.right;
+    }
+    node.left = removeNodeHelper(node.left, target);
+    return rebalance(node);
+  }
+
+  /**
+   * Help collect items overlapping the window from the subtree rooted at {@param node}.
+   *
+   * @param node   subtree root
+   * @param start  window start
+   * @param end    window end
+   * @param result list collecting overlapping items
+   */
+  private void findOverlappingHelper(Node<T> node, LocalDateTime start, LocalDateTime end,
+                                     List<T> result) {
+    if (node == null || node.maxEnd.isBefore(start)) {
+      return;
+    }
+
+    findOverlappingHelper(node.left, start, end, result);
+    if (node.start.isAfter(end)) {
+      return;
+    }
+    if (!node.end.isBefore(start)) {
+      result.addAll(node.items);
+    }
+    findOverlappingHelper(node.right, start, end, result);
+  }
+
+  /**
+   * Compare an interval key with the key of {@param node}.
+   *
+   * @param start interval start
+   * @param end   interval end
+   * @param node  node to compare with
+   * @return negative, zero or positive as the key is before, equal to or after the node key
+   */
+  private int compareKey(LocalDateTime start, LocalDateTime end, Node<T> node) {
+    int comparison = start.compareTo(node.start);
+    if (comparison == 0) {
+      comparison = end.compareTo(node.end);
+    }
+    return comparison;
+  }
+
+  /**
+   * Restore the AVL balance of {@param node} and refresh its augmented values.
+   *
+   * @param node unbalanced node
+   * @return new subtree root
+   */
+  private Node<T> rebalance(Node<T> node) {
+    update(node);
+    int balance = height(node.left) - height(node.right);
+    if (balance > 1) {
+      if (height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+      return rotateRight(node);
+    }
+    if (balance < -1) {
+      if (height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+      return rotateLeft(node);
+    }
+    return node;
+  }
+
+  /**
+   * Rotate the subtree rooted at {@param node} to the right.
+   *
+   * @param node subtree root
+   * @return new subtree root
+   */
+  private Node<T> rotateRight(Node<T> node) {
+    Node<T> pivot = node.left;
+    node.left = pivot.right;
+    pivot.right = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  /**
+   * Rotate the subtree rooted at {@param node} to the left.
+   *
+   * @param node subtree root
+   * @return new subtree root
+   */
+  private Node<T> rotateLeft(Node<T> node) {
+    Node<T> pivot = node.right;
+    node.right = pivot.left;
+    pivot.left = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  /**
+   * Recompute height and subtree max end of {@param node} from its children.
+   *
+   * @param node node to be updated
+   */
+  private void update(Node<T> node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    LocalDateTime maxEnd = node.end;
+    if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+      maxEnd = node.left.maxEnd;
+    }
+    if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+      maxEnd = node.right.maxEnd;
+    }
+    node.maxEnd = maxEnd;
+  }
+
+  /**
+   * Get the height of {@param node}, where an empty subtree has height 0.
+   *
+   * @param node node
+   * @return node height
+   */
+  private int height(Node<T> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  /**
+   * This class represents a tree node holding all items sharing one interval.
+   *
+   * @param <T> type of items stored in the node
+   */
+  private static class Node<T> {
+    private final List<T> items;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private LocalDateTime maxEnd;
+    private int height;
+    private Node<T> left;
+    private Node<T> right;
+
+    /**
+     * Create a leaf node holding a single item.
+     *
+     * @param item  item
+     * @param start item start
+     * @param end   item end
+     */
+    private Node(T item, LocalDateTime start, LocalDateTime end) {
+      this.items = new ArrayList<>(1);
+      this.items.add(item);
+      this.start = start;
+      this.end = end;
+      this.maxEnd = end;
+      this.height = 1;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package model.event;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class implements EventStoreInterface with event objects: a hash map from identity to event
+ * and an {@link IntervalTree} over their time intervals. Stored events are handed out as they were
+ * added.
+ */
+public class MapEventStore implements EventStoreInterface {
+  private final Map<EventKey, EventReadOnlyInterface> events;
+  private final IntervalTree<EventReadOnlyInterface> timeIndex;
+
+  /**
+   * Create an empty MapEventStore.
+   */
+  public MapEventStore() {
+    this.events = new HashMap<>();
+    this.timeIndex = new IntervalTree<>(EventReadOnlyInterface::getStartDateTime,
+        EventReadOnlyInterface::getEndDateTime);
+  }
+
+  @Override
+  public void add(EventReadOnlyInterface event) throws EventExistException {
+    if (this.events.putIfAbsent(EventKey.of(event), event) != null) {
+      throw new EventExistException("Event already exists!");
+    }
+    this.timeIndex.insert(event);
+  }
+
+  @Override
+  public boolean remove(EventReadOnlyInterface event) {
+    EventReadOnlyInterface stored = this.events.remove(EventKey.of(event));
+    return stored != null && this.timeIndex.remove(stored);
+  }
+
+  @Override
+  public boolean contains(EventReadOnlyInterface event) {
+    return this.events.containsKey(EventKey.of(event));
+  }
+
+  @Override
+  public EventReadOnlyInterface get(EventKey key) {
+    return this.events.get(key);
+  }
+
+  @Override
+  public List<EventReadOnlyInterface> findOverlapping(LocalDateTime start, LocalDateTime end) {
+    return this.timeIndex.findOverlapping(start, end);
+  }
+
+  @Override
+  public List<EventReadOnlyInterface> getAll() {
+    return this.timeIndex.findOverlapping(LocalDateTime.MIN, LocalDateTime.MAX);
+  }
+
+  @Override
+  public int size() {
+    return this.events.size();
+  }
+}
@@ -0,0 +1,696 @@
+package model.event;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class implements EventStoreInterface off the heap, in two memory-mapped files of a
+ * directory. {@value #RECORDS_FILE} holds one fixed-width record per event: start and end as epoch
+ * minutes, the offsets of its subject, location and description, and its status. Strings live in
+ * {@value #STRINGS_FILE}, each written once as its length and UTF-8 bytes. Both files are mapped in
+ * chunks on first use, so the operating system pages in only the records and strings that lookups
+ * and queries read, and the store is found again when the directory is reopened.
+ *
+ * <p>On the heap the store keeps an open-addressing table of row numbers for identities, the rows
+ * in start order for range queries, and the offsets of the distinct strings: a few bytes per event
+ * and nothing per event object. Removing an event moves the last record into its place, so events
+ * are handed out as views that are only valid until the store next changes; reading one afterward
+ * throws {@link ConcurrentModificationException}. Strings stay in their file after the last event
+ * using them is removed, and are reused if an event uses them again. Changes reach the files when
+ * the operating system writes the pages back, or when the store is closed. Events must start and
+ * end on whole minutes.
+ *
+ * <p>Given to {@link EventManager#EventManager(EventStoreInterface)}, the store holds the stored
+ * events of the manager off the heap, and a manager over the reopened directory finds them again.
+ */
+public class MappedEventStore implements EventStoreInterface, Closeable {
+  static final String RECORDS_FILE = "events.seg";
+  static final String STRINGS_FILE = "strings.seg";
+
+  private static final int MAGIC = 0x45565453;
+  private static final int FORMAT_VERSION = 1;
+  private static final int RECORD_BYTES = 48;
+  private static final int ROWS_PER_CHUNK_SHIFT = 16;
+  private static final int ROWS_PER_CHUNK = 1 << ROWS_PER_CHUNK_SHIFT;
+  private static final long RECORD_CHUNK_BYTES = (long) ROWS_PER_CHUNK * RECORD_BYTES;
+  private static final int STRING_CHUNK_BYTES = 1 << 22;
+  private static final int STRING_PADDING = -1;
+
+  private static final int HEADER_MAGIC = 0;
+  private static final int HEADER_VERSION = 4;
+  private static final int HEADER_SIZE = 8;
+  private static final int HEADER_STRING_END = 16;
+  private static final int HEADER_MAX_DURATION = 24;
+
+  private static final int START = 0;
+  private static final int END = 8;
+  private static final int SUBJECT = 16;
+  private static final int LOCATION = 24;
+  private static final int DESCRIPTION = 32;
+  private static final int STATUS = 40;
+
+  private static final long NO_STRING = -1;
+  private static final int EMPTY = -1;
+  private static final byte NO_STATUS = -1;
+  private static final EventStatus[] STATUSES = EventStatus.values();
+
+  private final FileChannel records;
+  private final FileChannel strings;
+  private final List<MappedByteBuffer> recordChunks;
+  private final List<MappedByteBuffer> stringChunks;
+  private final Map<String, Long> stringOffsets;
+  private int[] order;
+  private int[] slots;
+  private int size;
+  private long stringEnd;
+  private long maxDuration;
+  private int modCount;
+
+  /**
+   * Open the MappedEventStore kept in {@param directory}, creating it if the directory holds none.
+   *
+   * @param directory directory of the store files
+   * @throws IOException if the files cannot be opened or are not a store
+   */
+  public MappedEventStore(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    this.records = FileChannel.open(directory.resolve(RECORDS_FILE), StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    this.strings = FileChannel.open(directory.resolve(STRINGS_FILE), StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    this.recordChunks = new ArrayList<>();
+    this.stringChunks = new ArrayList<>();
+    this.stringOffsets = new HashMap<>();
+    this.modCount = 0;
+    try {
+      loadHelper();
+    } catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  @Override
+  public void add(EventReadOnlyInterface event) throws EventExistException {
+    long start = toMinutesHelper(event.getStartDateTime());
+    long end = toMinutesHelper(event.getEndDateTime());
+    Long subject = this.stringOffsets.get(event.getSubject());
+    if (subject != null && findRowHelper(subject, start, end) != EMPTY) {
+      throw new EventExistException("Event already exists!");
+    }
+
+    growHelper();
+    int row = this.size;
+    MappedByteBuffer chunk = recordChunkHelper(row);
+    int base = recordBaseHelper(row);
+    chunk.putLong(base + START, start);
+    chunk.putLong(base + END, end);
+    chunk.putLong(base + SUBJECT, writeStringHelper(event.getSubject()));
+    chunk.putLong(base + LOCATION, writeStringHelper(event.getLocation()));
+    chunk.putLong(base + DESCRIPTION, writeStringHelper(event.getDescription()));
+    chunk.put(base + STATUS,
+        event.getStatus() == null ? NO_STATUS : (byte) event.getStatus().ordinal());
+
+    int position = lowerBoundHelper(start, end);
+    System.arraycopy(this.order, position, this.order, position + 1, this.size - position);
+    this.order[position] = row;
+    this.size += 1;
+    this.slots[freeSlotHelper(row)] = row;
+    this.maxDuration = Math.max(this.maxDuration, end - start);
+    writeHeaderHelper();
+    this.modCount += 1;
+  }
+
+  @Override
+  public boolean remove(EventReadOnlyInterface event) {
+    Long subject = this.stringOffsets.get(event.getSubject());
+    if (subject == null) {
+      return false;
+    }
+    int row = findRowHelper(subject, toMinutesHelper(event.getStartDateTime()),
+        toMinutesHelper(event.getEndDateTime()));
+    if (row == EMPTY) {
+      return false;
+    }
+
+    deleteSlotHelper(slotOfHelper(row));
+    int position = positionOfHelper(row);
+    System.arraycopy(this.order, position + 1, this.order, position, this.size - position - 1);
+    this.size -= 1;
+    int last = this.size;
+    if (row != last) {
+      this.slots[slotOfHelper(last)] = row;
+      this.order[positionOfHelper(last)] = row;
+      MappedByteBuffer from = recordChunkHelper(last);
+      MappedByteBuffer to = recordChunkHelper(row);
+      int fromBase = recordBaseHelper(last);
+      int toBase = recordBaseHelper(row);
+      for (int offset = 0; offset < RECORD_BYTES; offset += Long.BYTES) {
+        to.putLong(toBase + offset, from.getLong(fromBase + offset));
+      }
+    }
+    writeHeaderHelper();
+    this.modCount += 1;
+    return true;
+  }
+
+  @Override
+  public boolean contains(EventReadOnlyInterface event) {
+    return get(EventKey.of(event)) != null;
+  }
+
+  @Override
+  public EventReadOnlyInterface get(EventKey key) {
+    Long subject = this.stringOffsets.get(key.getSubject());
+    if (subject == null) {
+      return null;
+    }
+    int row = findRowHelper(subject, toMinutesHelper(key.getStartDateTime()),
+        toMinutesHelper(key.getEndDateTime()));
+    return row == EMPTY ? null : new RecordView(row);
+  }
+
+  /**
+   * Find the stored events whose closed interval overlaps [{@param start}, {@param end}]. Only the
+   * records starting between {@param start} minus the longest stored duration and {@param end} are
+   * read.
+   *
+   * @param start range start
+   * @param end   range end
+   * @return overlapping events in start order
+   */
+  @Override
+  public List<EventReadOnlyInterface> findOverlapping(LocalDateTime start, LocalDateTime end) {
+    long startSecond = start.toEpochSecond(ZoneOffset.UTC);
+    long from = Math.floorDiv(startSecond + (start.getNano() > 0 ? 1 : 0) + 59, 60);
+    long to = Math.floorDiv(end.toEpochSecond(ZoneOffset.UTC), 60);
+    List<EventReadOnlyInterface> result = new ArrayList<>();
+    for (int i = lowerBoundHelper(from - this.maxDuration, Long.MIN_VALUE); i < this.size; i++) {
+      int row = this.order[i];
+      if (readLongHelper(row, START) > to) {
+        break;
+      }
+      if (readLongHelper(row, END) >= from) {
+        result.add(new RecordView(row));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public List<EventReadOnlyInterface> getAll() {
+    return findOverlapping(LocalDateTime.MIN, LocalDateTime.MAX);
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Write the mapped chunks back to the files and close them. Views handed out before become
+   * unreadable.
+   *
+   * @throws IOException if the files cannot be written or closed
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      for (MappedByteBuffer chunk : this.recordChunks) {
+        chunk.force();
+      }
+      for (MappedByteBuffer chunk : this.stringChunks) {
+        chunk.force();
+      }
+    } finally {
+      this.recordChunks.clear();
+      this.stringChunks.clear();
+      this.modCount += 1;
+      try {
+        this.records.close();
+      } finally {
+        this.strings.close();
+      }
+    }
+  }
+
+  /**
+   * Help read the header, writing it for a new store, then rebuild the string offsets, the start
+   * order and the identity table from the files.
+   *
+   * @throws IOException if the files cannot be mapped or are not a store
+   */
+  private void loadHelper() throws IOException {
+    MappedByteBuffer header = recordChunkHelper(-1);
+    if (header.getInt(HEADER_MAGIC) == 0 && header.getInt(HEADER_VERSION) == 0) {
+      header.putInt(HEADER_MAGIC, MAGIC);
+      header.putInt(HEADER_VERSION, FORMAT_VERSION);
+    }
+    if (header.getInt(HEADER_MAGIC) != MAGIC
+        || header.getInt(HEADER_VERSION) != FORMAT_VERSION) {
+      throw new IOException("Not an event store: " + RECORDS_FILE);
+    }
+    this.size = (int) header.getLong(HEADER_SIZE);
+    this.stringEnd = header.getLong(HEADER_STRING_END);
+    this.maxDuration = header.getLong(HEADER_MAX_DURATION);
+
+    long offset = 0;
+    while (offset < this.stringEnd) {
+      int inChunk = (int) (offset % STRING_CHUNK_BYTES);
+      MappedByteBuffer chunk = stringChunkHelper(offset);
+      if (STRING_CHUNK_BYTES - inChunk < Integer.BYTES
+          || chunk.getInt(inChunk) == STRING_PADDING) {
+        offset += STRING_CHUNK_BYTES - inChunk;
+        continue;
+      }
+      this.stringOffsets.put(readStringHelper(offset), offset);
+      offset += Integer.BYTES + chunk.getInt(inChunk);
+    }
+
+    int capacity = Integer.highestOneBit(Math.max(this.size, 8) * 2 - 1);
+    Integer[] rows = new Integer[this.size];
+    for (int row = 0; row < this.size; row++) {
+      rows[row] = row;
+    }
+    Arrays.sort(rows, (first, second) -> compareHelper(first, readLongHelper(second, START),
+        readLongHelper(second, END)));
+    this.order = new int[capacity];
+    for (int i = 0; i < this.size; i++) {
+      this.order[i] = rows[i];
+    }
+    rehashHelper(capacity * 2);
+  }
+
+  /**
+   * Help write the number of records, the end of the strings and the longest duration to the
+   * header.
+   */
+  private void writeHeaderHelper() {
+    MappedByteBuffer header = recordChunkHelper(-1);
+    header.putLong(HEADER_SIZE, this.size);
+    header.putLong(HEADER_STRING_END, this.stringEnd);
+    header.putLong(HEADER_MAX_DURATION, this.maxDuration);
+  }
+
+  /**
+   * Help get the chunk holding the record of {@param row}, mapping it on first use. Row -1 is the
+   * header, which comes before the first record.
+   *
+   * @param row stored row, or -1 for the header
+   * @return mapped chunk
+   * @throws UncheckedIOException if the chunk cannot be mapped
+   */
+  private MappedByteBuffer recordChunkHelper(int row) throws UncheckedIOException {
+    int index = (row + 1) >>> ROWS_PER_CHUNK_SHIFT;
+    while (this.recordChunks.size() <= index) {
+      long position = this.recordChunks.size() * RECORD_CHUNK_BYTES;
+      this.recordChunks.add(mapHelper(this.records, position, RECORD_CHUNK_BYTES));
+    }
+    return this.recordChunks.get(index);
+  }
+
+  /**
+   * Help get the position of the record of {@param row} in its chunk.
+   *
+   * @param row stored row, or -1 for the header
+   * @return byte position in the chunk
+   */
+  private static int recordBaseHelper(int row) {
+    return ((row + 1) & (ROWS_PER_CHUNK - 1)) * RECORD_BYTES;
+  }
+
+  /**
+   * Help read the {@code long} field at {@param field} of the record of {@param row}.
+   *
+   * @param row   stored row
+   * @param field field position in the record
+   * @return field value
+   */
+  private long readLongHelper(int row, int field) {
+    return recordChunkHelper(row).getLong(recordBaseHelper(row) + field);
+  }
+
+  /**
+   * Help get the chunk holding string offset {@param offset}, mapping it on first use.
+   *
+   * @param offset string offset
+   * @return mapped chunk
+   * @throws UncheckedIOException if the chunk cannot be mapped
+   */
+  private MappedByteBuffer stringChunkHelper(long offset) throws UncheckedIOException {
+    int index = (int) (offset / STRING_CHUNK_BYTES);
+    while (this.stringChunks.size() <= index) {
+      long position = (long) this.stringChunks.size() * STRING_CHUNK_BYTES;
+      this.stringChunks.add(mapHelper(this.strings, position, STRING_CHUNK_BYTES));
+    }
+    return this.stringChunks.get(index);
+  }
+
+  /**
+   * Help map {@param length} bytes of {@param channel} from {@param position}, growing the file if
+   * needed.
+   *
+   * @param channel  file channel
+   * @param position start of the mapped region
+   * @param length   length of the mapped region
+   * @return mapped region
+   * @throws UncheckedIOException if the region cannot be mapped
+   */
+  private static MappedByteBuffer mapHelper(FileChannel channel, long position, long length)
+      throws UncheckedIOException {
+    try {
+      return channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Help get the offset of {@param value}, appending it to the strings file if it is not there
+   * yet. A string that does not fit in the rest of the current chunk starts the next one.
+   *
+   * @param value string, possibly null
+   * @return string offset, or {@link #NO_STRING} for null
+   * @throws IllegalArgumentException if the string is longer than a chunk
+   */
+  private long writeStringHelper(String value) throws IllegalArgumentException {
+    if (value == null) {
+      return NO_STRING;
+    }
+    Long known = this.stringOffsets.get(value);
+    if (known != null) {
+      return known;
+    }
+
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > STRING_CHUNK_BYTES - Integer.BYTES) {
+      throw new IllegalArgumentException("Event string is too long to be stored");
+    }
+    int inChunk = (int) (this.stringEnd % STRING_CHUNK_BYTES);
+    if (STRING_CHUNK_BYTES - inChunk < Integer.BYTES + bytes.length) {
+      if (STRING_CHUNK_BYTES - inChunk >= Integer.BYTES) {
+        stringChunkHelper(this.stringEnd).putInt(inChunk, STRING_PADDING);
+      }
+      this.stringEnd += STRING_CHUNK_BYTES - inChunk;
+      inChunk = 0;
+    }
+
+    long offset = this.stringEnd;
+    MappedByteBuffer chunk = stringChunkHelper(offset);
+    chunk.putInt(inChunk, bytes.length);
+    chunk.put(inChunk + Integer.BYTES, bytes);
+    this.stringEnd += Integer.BYTES + bytes.length;
+    this.stringOffsets.put(value, offset);
+    return offset;
+  }
+
+  /**
+   * Help read the string at {@param offset}.
+   *
+   * @param offset string offset, or {@link #NO_STRING}
+   * @return string, or null for {@link #NO_STRING}
+   */
+  private String readStringHelper(long offset) {
+    if (offset == NO_STRING) {
+      return null;
+    }
+    MappedByteBuffer chunk = stringChunkHelper(offset);
+    int inChunk = (int) (offset % STRING_CHUNK_BYTES);
+    byte[] bytes = new byte[chunk.getInt(inChunk)];
+    chunk.get(inChunk + Integer.BYTES, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Help find the first position in the start order whose record does not come before
+   * ({@param start}, {@param end}).
+   *
+   * @param start start in epoch minutes
+   * @param end   end in epoch minutes
+   * @return position in the start order
+   */
+  private int lowerBoundHelper(long start, long end) {
+    int low = 0;
+    int high = this.size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (compareHelper(this.order[middle], start, end) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Help find the position of {@param row} in the start order.
+   *
+   * @param row stored row
+   * @return position in the start order
+   */
+  private int positionOfHelper(int row) {
+    int position = lowerBoundHelper(readLongHelper(row, START), readLongHelper(row, END));
+    while (this.order[position] != row) {
+      position += 1;
+    }
+    return position;
+  }
+
+  /**
+   * Help compare the record of {@param row} with ({@param start}, {@param end}) by start, then end.
+   *
+   * @param row   stored row
+   * @param start start in epoch minutes
+   * @param end   end in epoch minutes
+   * @return negative, zero or positive as the record comes before, with or after
+   */
+  private int compareHelper(int row, long start, long end) {
+    long rowStart = readLongHelper(row, START);
+    return rowStart != start ? Long.compare(rowStart, start)
+        : Long.compare(readLongHelper(row, END), end);
+  }
+
+  /**
+   * Help find the row of the event with the given identity.
+   *
+   * @param subject subject offset
+   * @param start   start in epoch minutes
+   * @param end     end in epoch minutes
+   * @return row, or {@link #EMPTY} if not stored
+   */
+  private int findRowHelper(long subject, long start, long end) {
+    int mask = this.slots.length - 1;
+    for (int i = hashHelper(subject, start, end) & mask; this.slots[i] != EMPTY;
+         i = (i + 1) & mask) {
+      int row = this.slots[i];
+      if (readLongHelper(row, SUBJECT) == subject && readLongHelper(row, START) == start
+          && readLongHelper(row, END) == end) {
+        return row;
+      }
+    }
+    return EMPTY;
+  }
+
+  /**
+   * Help find the slot holding {@param row}.
+   *
+   * @param row stored row
+   * @return slot index
+   */
+  private int slotOfHelper(int row) {
+    int mask = this.slots.length - 1;
+    int i = homeHelper(row);
+    while (this.slots[i] != row) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  /**
+   * Help find the first free slot from the home slot of {@param row}.
+   *
+   * @param row stored row
+   * @return free slot index
+   */
+  private int freeSlotHelper(int row) {
+    int mask = this.slots.length - 1;
+    int i = homeHelper(row);
+    while (this.slots[i] != EMPTY) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  /**
+   * Help empty slot {@param slot}, shifting later slots of the same probe run back so that every
+   * row stays reachable from its home slot.
+   *
+   * @param slot slot to be emptied
+   */
+  private void deleteSlotHelper(int slot) {
+    int mask = this.slots.length - 1;
+    int hole = slot;
+    for (int i = (hole + 1) & mask; this.slots[i] != EMPTY; i = (i + 1) & mask) {
+      int home = homeHelper(this.slots[i]);
+      if (((i - home) & mask) >= ((i - hole) & mask)) {
+        this.slots[hole] = this.slots[i];
+        hole = i;
+      }
+    }
+    this.slots[hole] = EMPTY;
+  }
+
+  /**
+   * Help grow the start order and the slot table so that one more row fits.
+   */
+  private void growHelper() {
+    if (this.size < this.order.length) {
+      return;
+    }
+    int capacity = this.order.length * 2;
+    this.order = Arrays.copyOf(this.order, capacity);
+    rehashHelper(capacity * 2);
+  }
+
+  /**
+   * Help rebuild the slot table with {@param length} slots.
+   *
+   * @param length number of slots, a power of two
+   */
+  private void rehashHelper(int length) {
+    this.slots = new int[length];
+    Arrays.fill(this.slots, EMPTY);
+    for (int row = 0; row < this.size; row++) {
+      this.slots[freeSlotHelper(row)] = row;
+    }
+  }
+
+  /**
+   * Help get the home slot of the identity stored in {@param row}.
+   *
+   * @param row stored row
+   * @return home slot index
+   */
+  private int homeHelper(int row) {
+    return hashHelper(readLongHelper(row, SUBJECT), readLongHelper(row, START),
+        readLongHelper(row, END)) & (this.slots.length - 1);
+  }
+
+  /**
+   * Help hash an identity.
+   *
+   * @param subject subject offset
+   * @param start   start in epoch minutes
+   * @param end     end in epoch minutes
+   * @return hash
+   */
+  private static int hashHelper(long subject, long start, long end) {
+    long hash = subject * 0x9E3779B97F4A7C15L;
+    hash = (hash ^ start) * 0xC2B2AE3D27D4EB4FL;
+    hash = (hash ^ end) * 0x165667B19E3779F9L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Help convert {@param dateTime} to epoch minutes.
+   *
+   * @param dateTime date and time on a whole minute
+   * @return epoch minutes
+   * @throws IllegalArgumentException if the date and time is not on a whole minute
+   */
+  private static long toMinutesHelper(LocalDateTime dateTime) throws IllegalArgumentException {
+    if (dateTime.getSecond() != 0 || dateTime.getNano() != 0) {
+      throw new IllegalArgumentException("Event times must be on whole minutes");
+    }
+    return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+  }
+
+  /**
+   * Help convert epoch minutes {@param minutes} back to a date and time.
+   *
+   * @param minutes epoch minutes
+   * @return date and time
+   */
+  private static LocalDateTime fromMinutesHelper(long minutes) {
+    return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+  }
+
+  /**
+   * This class represents a read-only view of one record, valid until the store changes.
+   */
+  private class RecordView implements EventReadOnlyInterface {
+    private final int row;
+    private final int expectedModCount;
+
+    /**
+     * Create a RecordView of {@param row}.
+     *
+     * @param row stored row
+     */
+    private RecordView(int row) {
+      this.row = row;
+      this.expectedModCount = modCount;
+    }
+
+    @Override
+    public String getSubject() {
+      return readStringHelper(readLongHelper(checkedRow(), SUBJECT));
+    }
+
+    @Override
+    public LocalDateTime getStartDateTime() {
+      return fromMinutesHelper(readLongHelper(checkedRow(), START));
+    }
+
+    @Override
+    public LocalDateTime getEndDateTime() {
+      return fromMinutesHelper(readLongHelper(checkedRow(), END));
+    }
+
+    @Override
+    public String getLocation() {
+      return readStringHelper(readLongHelper(checkedRow(), LOCATION));
+    }
+
+    @Override
+    public String getDescription() {
+      return readStringHelper(readLongHelper(checkedRow(), DESCRIPTION));
+    }
+
+    @Override
+    public EventStatus getStatus() {
+      int current = checkedRow();
+      byte status = recordChunkHelper(current).get(recordBaseHelper(current) + STATUS);
+      return status == NO_STATUS ? null : STATUSES[status];
+    }
+
+    /**
+     * Help get the row, checking that the store has not changed since the view was created.
+     *
+     * @return row
+     * @throws ConcurrentModificationException if the store has changed
+     */
+    private int checkedRow() throws ConcurrentModificationException {
+      if (modCount != this.expectedModCount) {
+        throw new ConcurrentModificationException("Event store has changed");
+      }
+      return this.row;
+    }
+  }
+}
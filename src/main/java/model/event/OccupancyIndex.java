@@ -0,0 +1,126 @@
+package model.event;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * This class represents the busy time of a Calendar as run-length encoded intervals: the closed
+ * intervals of all items, merged wherever they overlap or touch, kept in a map ordered by start.
+ * Checking whether a point in time is busy is a single floor lookup among the merged runs and never
+ * touches the items themselves.
+ *
+ * <p>The index is derived from a source finding the items that overlap an interval, such as an
+ * {@link IntervalTree} or an {@link EventStoreInterface} over the same items. Removing an item
+ * keeps the parts of its run before and after the item, which the other items of the run still
+ * cover, and merges back only the items of the source overlapping the removed interval.
+ *
+ * @param <T> type of items occupying time
+ */
+public class OccupancyIndex<T> {
+  private final BiFunction<LocalDateTime, LocalDateTime, ? extends Collection<T>> source;
+  private final Function<T, LocalDateTime> startOf;
+  private final Function<T, LocalDateTime> endOf;
+  private final TreeMap<LocalDateTime, LocalDateTime> runs;
+
+  /**
+   * Create an empty OccupancyIndex derived from {@param source}.
+   *
+   * @param source  function finding the items overlapping a closed interval, holding the same
+   *                items as this index
+   * @param startOf function returning the start of an item's interval
+   * @param endOf   function returning the end of an item's interval
+   */
+  public OccupancyIndex(BiFunction<LocalDateTime, LocalDateTime, ? extends Collection<T>> source,
+                        Function<T, LocalDateTime> startOf, Function<T, LocalDateTime> endOf) {
+    this.source = source;
+    this.startOf = startOf;
+    this.endOf = endOf;
+    this.runs = new TreeMap<>();
+  }
+
+  /**
+   * Mark the interval of an item as busy, merging it with the runs it overlaps or touches.
+   *
+   * @param item item occupying time
+   */
+  public void add(T item) {
+    addHelper(this.startOf.apply(item), this.endOf.apply(item));
+  }
+
+  /**
+   * Release the interval of an item that has already been removed from the source. The parts
+   * of the run containing it that lie before and after the item stay busy, and only the remaining
+   * items of the source overlapping the item's interval are merged back into them.
+   *
+   * @param item item no longer occupying time
+   */
+  public void remove(T item) {
+    LocalDateTime start = this.startOf.apply(item);
+    LocalDateTime end = this.endOf.apply(item);
+    Map.Entry<LocalDateTime, LocalDateTime> run = this.runs.floorEntry(start);
+    if (run == null || run.getValue().isBefore(start)) {
+      return;
+    }
+
+    this.runs.remove(run.getKey());
+    if (run.getKey().isBefore(start)) {
+      this.runs.put(run.getKey(), start.minusNanos(1));
+    }
+    if (run.getValue().isAfter(end)) {
+      this.runs.put(end.plusNanos(1), run.getValue());
+    }
+    for (T remaining : this.source.apply(start, end)) {
+      add(remaining);
+    }
+  }
+
+  /**
+   * Check whether {@param dateTime} lies in some busy run.
+   *
+   * @param dateTime given date and time
+   * @return true if busy
+   */
+  public boolean isBusy(LocalDateTime dateTime) {
+    Map.Entry<LocalDateTime, LocalDateTime> run = this.runs.floorEntry(dateTime);
+    return run != null && !run.getValue().isBefore(dateTime);
+  }
+
+  /**
+   * Get the number of disjoint busy runs.
+   *
+   * @return number of runs
+   */
+  public int size() {
+    return this.runs.size();
+  }
+
+  /**
+   * Help merge the closed interval [{@param start}, {@param end}] into the busy runs.
+   *
+   * @param start interval start
+   * @param end   interval end
+   */
+  private void addHelper(LocalDateTime start, LocalDateTime end) {
+    Map.Entry<LocalDateTime, LocalDateTime> previous = this.runs.floorEntry(start);
+    if (previous != null && !previous.getValue().isBefore(start)) {
+      if (!previous.getValue().isBefore(end)) {
+        return;
+      }
+      start = previous.getKey();
+    }
+
+    Map.Entry<LocalDateTime, LocalDateTime> next = this.runs.ceilingEntry(start);
+    while (next != null && !next.getKey().isAfter(end)) {
+      if (next.getValue().isAfter(end)) {
+        end = next.getValue();
+      }
+      this.runs.remove(next.getKey());
+      next = this.runs.higherEntry(next.getKey());
+    }
+    this.runs.put(start, end);
+  }
+}
@@ -0,0 +1,73 @@
+package model.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * This class represents the busy time of an EventManager: the stored events of its
+ * {@link EventStoreInterface} and the occurrences of its Series rules. The busy time of stored
+ * events can be tracked as merged intervals in an {@link OccupancyIndex}, so that availability
+ * checks do not touch events at all; without it, they read the time index of the store. Rules are
+ * always checked through their span index.
+ *
+ * <p>The owner reports every event it indexes or discards, after adding it to the store and after
+ * removing it from the store respectively.
+ */
+class OccupancyTracker {
+  private final EventStoreInterface store;
+  private final SeriesRuleIndex seriesRules;
+  private final OccupancyIndex<EventReadOnlyInterface> occupancy;
+
+  /**
+   * Create an OccupancyTracker over {@param store} and {@param seriesRules}, keeping merged
+   * intervals of the stored events if {@param trackOccupancy}.
+   *
+   * @param store          store of the events
+   * @param seriesRules    installed Series rules
+   * @param trackOccupancy whether to maintain the occupancy index
+   */
+  OccupancyTracker(EventStoreInterface store, SeriesRuleIndex seriesRules,
+                   boolean trackOccupancy) {
+    this.store = store;
+    this.seriesRules = seriesRules;
+    this.occupancy = trackOccupancy
+        ? new OccupancyIndex<>(store::findOverlapping, EventReadOnlyInterface::getStartDateTime,
+        EventReadOnlyInterface::getEndDateTime)
+        : null;
+  }
+
+  /**
+   * Mark the time of an event just added to the store as busy.
+   *
+   * @param event stored event
+   */
+  void add(EventReadOnlyInterface event) {
+    if (this.occupancy != null) {
+      this.occupancy.add(event);
+    }
+  }
+
+  /**
+   * Release the time of an event just removed from the store, keeping the time other stored events
+   * still cover.
+   *
+   * @param event discarded event
+   */
+  void remove(EventReadOnlyInterface event) {
+    if (this.occupancy != null) {
+      this.occupancy.remove(event);
+    }
+  }
+
+  /**
+   * Check whether a stored event or a live occurrence is happening at {@param dateTime}.
+   *
+   * @param dateTime date and time
+   * @return true if some event starts at or before and ends at or after {@param dateTime}
+   */
+  boolean isBusy(LocalDateTime dateTime) {
+    boolean busy = this.occupancy != null
+        ? this.occupancy.isBusy(dateTime)
+        : !this.store.findOverlapping(dateTime, dateTime).isEmpty();
+    return busy || this.seriesRules.coversAt(dateTime);
+  }
+}
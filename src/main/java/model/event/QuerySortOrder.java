@@ -0,0 +1,10 @@
+package model.event;
+
+/**
+ * Order in which an {@link EventQuery} returns the events it selects.
+ */
+public enum QuerySortOrder {
+  NONE,
+  START_ASCENDING,
+  START_DESCENDING
+}
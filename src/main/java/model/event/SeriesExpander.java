@@ -0,0 +1,145 @@
+package model.event;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class is a collaborator to help expand the occurrences of many Series rules over one date
+ * window. When the window holds fewer occurrences than a threshold, rules are expanded one after
+ * another on the calling thread; otherwise each rule is expanded as a task of a
+ * {@link ForkJoinPool}, and a rule with more occurrences than the threshold is split further into
+ * date sub-ranges whose results are joined back in date order, so every rule's occurrences stay in
+ * start order.
+ *
+ * <p>Rules are only read while they are expanded; the caller must not change them until
+ * {@link #expand(List, LocalDate, LocalDate)} returns.
+ */
+public class SeriesExpander {
+  /**
+   * Default number of occurrences below which expansion stays sequential.
+   */
+  public static final int DEFAULT_THRESHOLD = 4_096;
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+
+  /**
+   * Create a SeriesExpander running on {@param pool} once a window holds at least
+   * {@param threshold} occurrences.
+   *
+   * @param pool      fork/join pool running parallel expansions
+   * @param threshold number of occurrences below which expansion stays sequential
+   * @throws IllegalArgumentException if threshold is not positive
+   */
+  public SeriesExpander(ForkJoinPool pool, int threshold) throws IllegalArgumentException {
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("Threshold must be positive");
+    }
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Expand every rule of {@param rules} between {@param from} and {@param to}, both inclusive.
+   *
+   * @param rules series rules
+   * @param from  first date
+   * @param to    last date
+   * @return occurrences of each rule in start order, at the position of the rule
+   */
+  public List<List<EventInterface>> expand(List<SeriesRule> rules, LocalDate from, LocalDate to) {
+    long count = 0;
+    for (SeriesRule rule : rules) {
+      count += rule.countBetween(from, to);
+    }
+
+    List<List<EventInterface>> result = new ArrayList<>(rules.size());
+    if (count < this.threshold) {
+      for (SeriesRule rule : rules) {
+        result.add(rule.expand(from, to));
+      }
+      return result;
+    }
+
+    List<ExpandTask> tasks = new ArrayList<>(rules.size());
+    for (SeriesRule rule : rules) {
+      tasks.add(new ExpandTask(rule, from, rule.lastDateUpTo(from, to)));
+    }
+    this.pool.invoke(new JoinTask(tasks));
+    for (ExpandTask task : tasks) {
+      result.add(task.join());
+    }
+    return result;
+  }
+
+  /**
+   * This class represents the parallel expansion of several rules at once.
+   */
+  private static class JoinTask extends RecursiveTask<Void> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<ExpandTask> tasks;
+
+    /**
+     * Create a JoinTask running {@param tasks}.
+     *
+     * @param tasks expansions of single rules
+     */
+    private JoinTask(List<ExpandTask> tasks) {
+      this.tasks = tasks;
+    }
+
+    @Override
+    protected Void compute() {
+      invokeAll(this.tasks);
+      return null;
+    }
+  }
+
+  /**
+   * This class represents the expansion of one rule over a date range, split in halves while the
+   * range holds more occurrences than the threshold.
+   */
+  private class ExpandTask extends RecursiveTask<List<EventInterface>> {
+    private static final long serialVersionUID = 1L;
+
+    private final SeriesRule rule;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Create an ExpandTask of {@param rule} from {@param from} to {@param to}.
+     *
+     * @param rule series rule
+     * @param from first date
+     * @param to   last date, already bounded by the rule
+     */
+    private ExpandTask(SeriesRule rule, LocalDate from, LocalDate to) {
+      this.rule = rule;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<EventInterface> compute() {
+      if (this.rule.countBetween(this.from, this.to) <= threshold) {
+        return this.rule.expand(this.from, this.to);
+      }
+
+      LocalDate firstDate = this.rule.getFirstStart().toLocalDate();
+      LocalDate first = this.from.isBefore(firstDate) ? firstDate : this.from;
+      LocalDate middle = first.plusDays(ChronoUnit.DAYS.between(first, this.to) / 2);
+      ExpandTask left = new ExpandTask(this.rule, first, middle);
+      ExpandTask right = new ExpandTask(this.rule, middle.plusDays(1), this.to);
+      left.fork();
+      List<EventInterface> rightResult = right.compute();
+      List<EventInterface> result = new ArrayList<>(left.join());
+      result.addAll(rightResult);
+      return result;
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package model.event;
+
+/**
+ * Series membership an {@link EventQuery} requires of the events it selects.
+ */
+public enum SeriesMembership {
+  ANY,
+  SINGLE,
+  SERIES
+}
@@ -0,0 +1,78 @@
+package model.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is a collaborator to help copy Series occurrences into another Calendar. The copied
+ * occurrences keep their times of day, converted to the target timezone, and are laid onto the
+ * weekdays of their Series starting from a target date. Target dates are found from the weekday
+ * mask of the Series in constant time each, so a list of occurrences is remapped in one pass,
+ * without sorting it again or stepping through the calendar day by day.
+ */
+public class SeriesRemapper {
+  private final ZoneId oldTimeZoneId;
+  private final ZoneId newTimeZoneId;
+  private final LocalDate targetStart;
+
+  /**
+   * Create a SeriesRemapper from {@param oldTimeZoneId} to {@param newTimeZoneId} laying
+   * occurrences from {@param targetStart} on.
+   *
+   * @param oldTimeZoneId timezone of the source Calendar
+   * @param newTimeZoneId timezone of the target Calendar
+   * @param targetStart   first date occurrences can be laid onto
+   */
+  public SeriesRemapper(ZoneId oldTimeZoneId, ZoneId newTimeZoneId, LocalDate targetStart) {
+    this.oldTimeZoneId = oldTimeZoneId;
+    this.newTimeZoneId = newTimeZoneId;
+    this.targetStart = targetStart;
+  }
+
+  /**
+   * Remap {@param events} of {@param series}, given in start order, onto the weekdays of the Series
+   * from the target date on. The n-th event lands on the n-th matching date; converting between
+   * timezones keeps the start order, so the result is in start order too.
+   *
+   * @param series series the events belong to
+   * @param events events of the series in start order
+   * @return remapped events
+   * @throws UnsupportedOperationException if an event spans more than one day in the target
+   *                                       timezone
+   */
+  public List<EventInterface> remap(SeriesInterface series, List<EventInterface> events)
+      throws UnsupportedOperationException {
+    WeekdayMask weekdays = WeekdayMask.of(series.getWeekdays());
+    List<EventInterface> result = new ArrayList<>(events.size());
+    LocalDate date = this.targetStart;
+    for (EventInterface event : events) {
+      LocalDateTime start = convertHelper(event.getStartDateTime());
+      LocalDateTime end = convertHelper(event.getEndDateTime());
+      if (!start.toLocalDate().equals(end.toLocalDate())) {
+        throw new UnsupportedOperationException("Series events cannot span more than one day");
+      }
+
+      date = weekdays.next(date);
+      result.add(event.toBuilder()
+          .setStartDateTime(LocalDateTime.of(date, start.toLocalTime()))
+          .setEndDateTime(LocalDateTime.of(date, end.toLocalTime()))
+          .build());
+      date = date.plusDays(1);
+    }
+    return result;
+  }
+
+  /**
+   * Help convert {@param dateTime} from the old timezone to the new one.
+   *
+   * @param dateTime local date and time in the old timezone
+   * @return local date and time in the new timezone
+   */
+  private LocalDateTime convertHelper(LocalDateTime dateTime) {
+    return dateTime.atZone(this.oldTimeZoneId).withZoneSameInstant(this.newTimeZoneId)
+        .toLocalDateTime();
+  }
+}
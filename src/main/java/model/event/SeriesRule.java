@@ -0,0 +1,646 @@
+package model.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+import model.calendar.Weekday;
+
+/**
+ * This class represents the occurrences of a Series as a recurrence rule rather than as stored
+ * events: a prototype event (subject, times of day, description, location, status), the weekdays it
+ * repeats on, and the first and last dates it occurs on. Occurrences are only built when they are
+ * read, and an occurrence that is removed or replaced by a concrete event is suppressed by date, so
+ * memory is proportional to rules plus exceptions rather than to occurrences.
+ *
+ * <p>The dates a rule generates are fixed when it is created and are independent of the display
+ * counter of its Series, which {@link SeriesInterface#decrementNumberOfOccurrences()} changes.
+ *
+ * <p>Editing the occurrences from a date on does not split the Series: the rule keeps a new
+ * segment from that date whose prototype is the edited one, so occurrences before and after the
+ * date differ only in the prototype they are built from, their subject included.
+ *
+ * <p>A Series with neither an end date nor a number of occurrences has an unbounded rule. Reads
+ * with an upper bound expand it up to that bound; reads without one, such as expanding all
+ * occurrences, stop at {@link #HORIZON} after the latest of its first occurrence, its last change
+ * and the lower bound, so they do not depend on the current date. Clashes with other events are
+ * found from the rules themselves (see {@link #findClash(SeriesRule, LocalDate)}) rather than by
+ * expanding them.
+ */
+public class SeriesRule {
+  /**
+   * How far an unbounded rule is expanded when a read has no upper bound.
+   */
+  public static final Period HORIZON = Period.ofYears(1);
+
+  private final SeriesInterface series;
+  private final NavigableMap<LocalDate, EventInterface> segments;
+  private final WeekdayMask weekdays;
+  private final LocalDate firstDate;
+  private final LocalDate lastDate;
+  private final int total;
+  private final NavigableSet<LocalDate> suppressed;
+
+  /**
+   * Create a SeriesRule occurring on {@param weekdays} from {@param firstDate} to
+   * {@param lastDate}.
+   *
+   * @param series    series the occurrences belong to
+   * @param prototype event every occurrence copies
+   * @param weekdays  weekdays occurrences repeat on
+   * @param firstDate date of the first occurrence
+   * @param lastDate  date of the last occurrence
+   * @param total     number of occurrences between the first and last date
+   */
+  private SeriesRule(SeriesInterface series, EventInterface prototype, WeekdayMask weekdays,
+                     LocalDate firstDate, LocalDate lastDate, int total) {
+    this.series = series;
+    this.segments = new TreeMap<>();
+    this.segments.put(LocalDate.MIN, prototype);
+    this.weekdays = weekdays;
+    this.firstDate = firstDate;
+    this.lastDate = lastDate;
+    this.total = total;
+    this.suppressed = new TreeSet<>();
+  }
+
+  /**
+   * Create a copy of {@param other} that can be edited on its own, occurring up to
+   * {@param lastDate}.
+   *
+   * @param other    rule to be copied
+   * @param lastDate date of the last occurrence, not after that of {@code other}
+   * @param total    number of occurrences between the first and last date
+   */
+  private SeriesRule(SeriesRule other, LocalDate lastDate, int total) {
+    this.series = other.series;
+    this.segments = new TreeMap<>(other.segments.headMap(lastDate, true));
+    this.weekdays = other.weekdays;
+    this.firstDate = other.firstDate;
+    this.lastDate = lastDate;
+    this.total = total;
+    this.suppressed = total == 0
+        ? new TreeSet<>() : new TreeSet<>(other.suppressed.headSet(lastDate, true));
+  }
+
+  /**
+   * Create the rule of {@param series} starting from {@param prototype}. A Series with an end date
+   * occurs on its weekdays up to that date, a Series with a number of occurrences occurs that many
+   * times, and a Series with neither never ends.
+   *
+   * @param series    series the occurrences belong to
+   * @param prototype first event of the Series, whose date may precede the first occurrence
+   * @return rule of the Series
+   */
+  public static SeriesRule of(SeriesInterface series, EventInterface prototype) {
+    WeekdayMask weekdays = WeekdayMask.of(series.getWeekdays());
+    LocalDate startDate = prototype.getStartDateTime().toLocalDate();
+    LocalDate firstDate = weekdays.next(startDate);
+    if (firstDate != null && series.getEndDate() == null
+        && series.getNumberOfOccurrences() == null) {
+      return new SeriesRule(series, prototype, weekdays, firstDate, LocalDate.MAX,
+          Integer.MAX_VALUE);
+    }
+    LocalDate lastDate =
+        weekdays.last(startDate, series.getNumberOfOccurrences(), series.getEndDate());
+    if (lastDate == null) {
+      return new SeriesRule(series, prototype, weekdays, firstDate, firstDate, 0);
+    }
+    int total = Math.toIntExact(weekdays.countBetween(firstDate, lastDate));
+    return new SeriesRule(series, prototype, weekdays, firstDate, lastDate, total);
+  }
+
+  /**
+   * Derive the rule generating exactly {@param events} for {@param series}, if there is one. The
+   * events, in start order, must share subject, description, location, status and times of day,
+   * each lie on a single day, and fall on consecutive matches of the weekdays they occur on.
+   *
+   * @param series series the occurrences belong to
+   * @param events events of the Series in start order
+   * @return rule generating the events, or null if they do not follow a rule
+   */
+  public static SeriesRule derive(SeriesInterface series, Iterable<EventInterface> events) {
+    List<EventInterface> ordered = new ArrayList<>();
+    Set<Weekday> weekdays = EnumSet.noneOf(Weekday.class);
+    for (EventInterface event : events) {
+      ordered.add(event);
+      weekdays.add(WeekdayMask.weekdayOf(event.getStartDateTime().toLocalDate()));
+    }
+    if (ordered.isEmpty()) {
+      return null;
+    }
+
+    WeekdayMask mask = WeekdayMask.of(weekdays);
+    EventInterface prototype = ordered.get(0);
+    LocalDate expected = prototype.getStartDateTime().toLocalDate();
+    for (EventInterface event : ordered) {
+      if (!expected.equals(event.getStartDateTime().toLocalDate())
+          || !sameTemplate(prototype, event)) {
+        return null;
+      }
+      expected = mask.next(expected.plusDays(1));
+    }
+    LocalDate lastDate = ordered.get(ordered.size() - 1).getStartDateTime().toLocalDate();
+    return new SeriesRule(series, prototype, mask,
+        prototype.getStartDateTime().toLocalDate(), lastDate, ordered.size());
+  }
+
+  /**
+   * Get the Series the occurrences belong to.
+   *
+   * @return series
+   */
+  public SeriesInterface getSeries() {
+    return this.series;
+  }
+
+  /**
+   * Create a copy of this rule that can be edited without changing it.
+   *
+   * @return copy of the rule
+   */
+  public SeriesRule copy() {
+    return new SeriesRule(this, this.lastDate, this.total);
+  }
+
+  /**
+   * Create a copy of this rule whose occurrences stop before {@param date}. Ending an unbounded
+   * rule this way makes it bounded.
+   *
+   * @param date first date without occurrences
+   * @return ended copy of the rule
+   */
+  public SeriesRule endBefore(LocalDate date) {
+    if (this.total == 0 || date.isAfter(this.lastDate)) {
+      return copy();
+    }
+    LocalDate last = this.weekdays.previous(date.minusDays(1));
+    if (last.isBefore(this.firstDate)) {
+      return new SeriesRule(this, this.firstDate, 0);
+    }
+    return new SeriesRule(this, last,
+        Math.toIntExact(this.weekdays.countBetween(this.firstDate, last)));
+  }
+
+  /**
+   * Check whether the rule never ends.
+   *
+   * @return true if unbounded
+   */
+  public boolean isUnbounded() {
+    return LocalDate.MAX.equals(this.lastDate);
+  }
+
+  /**
+   * Get the subjects occurrences are built with, one per segment that changed it.
+   *
+   * @return event subjects in segment order
+   */
+  public Set<String> getSubjects() {
+    Set<String> subjects = new LinkedHashSet<>();
+    for (EventInterface prototype : this.segments.values()) {
+      subjects.add(prototype.getSubject());
+    }
+    return subjects;
+  }
+
+  /**
+   * Get the start date and time of the first occurrence.
+   *
+   * @return first start, or null if the rule has no occurrence
+   */
+  public LocalDateTime getFirstStart() {
+    return this.total == 0 ? null : occurrenceOn(this.firstDate).getStartDateTime();
+  }
+
+  /**
+   * Get the end date and time of the last occurrence.
+   *
+   * @return last end, on {@link LocalDate#MAX} if unbounded, or null if the rule has no occurrence
+   */
+  public LocalDateTime getLastEnd() {
+    return this.total == 0 ? null : occurrenceOn(this.lastDate).getEndDateTime();
+  }
+
+  /**
+   * Get the number of occurrences that have not been suppressed.
+   *
+   * @return number of live occurrences, close to {@link Integer#MAX_VALUE} if unbounded
+   */
+  public int size() {
+    return this.total - this.suppressed.size();
+  }
+
+  /**
+   * Get the date of the last live occurrence, stepping back over suppressed dates only.
+   *
+   * @return last live date, or null if the rule has none or never ends
+   */
+  public LocalDate getLastLiveDate() {
+    if (this.total == 0 || isUnbounded()) {
+      return null;
+    }
+    LocalDate date = this.lastDate;
+    while (date != null && !date.isBefore(this.firstDate) && this.suppressed.contains(date)) {
+      date = this.weekdays.previous(date.minusDays(1));
+    }
+    return date == null || date.isBefore(this.firstDate) ? null : date;
+  }
+
+  /**
+   * Check whether a live occurrence falls on {@param date}.
+   *
+   * @param date given date
+   * @return true if the rule occurs on the date
+   */
+  public boolean occursOn(LocalDate date) {
+    return this.total > 0
+        && !date.isBefore(this.firstDate) && !date.isAfter(this.lastDate)
+        && this.weekdays.contains(date)
+        && !this.suppressed.contains(date);
+  }
+
+  /**
+   * Check whether the rule has a live occurrence with the given identity.
+   *
+   * @param subject       event subject
+   * @param startDateTime event start date and time
+   * @param endDateTime   event end date and time
+   * @return true if the rule generates such an occurrence
+   */
+  public boolean generates(String subject, LocalDateTime startDateTime,
+                           LocalDateTime endDateTime) {
+    LocalDate date = startDateTime.toLocalDate();
+    EventInterface prototype = segmentOn(date);
+    return prototype.getSubject().equals(subject)
+        && prototype.getStartDateTime().toLocalTime().equals(startDateTime.toLocalTime())
+        && LocalDateTime.of(date, prototype.getEndDateTime().toLocalTime()).equals(endDateTime)
+        && occursOn(date);
+  }
+
+  /**
+   * Check whether a live occurrence is happening at {@param dateTime}.
+   *
+   * @param dateTime given date and time
+   * @return true if an occurrence starts at or before and ends at or after the date and time
+   */
+  public boolean coversAt(LocalDateTime dateTime) {
+    LocalTime time = dateTime.toLocalTime();
+    EventInterface prototype = segmentOn(dateTime.toLocalDate());
+    return occursOn(dateTime.toLocalDate())
+        && !time.isBefore(prototype.getStartDateTime().toLocalTime())
+        && !time.isAfter(prototype.getEndDateTime().toLocalTime());
+  }
+
+  /**
+   * Check whether {@param event} is exactly what the rule builds on its date, live or suppressed,
+   * so keeping it as a concrete event would store nothing that diverges from the rule.
+   *
+   * @param event event to be checked
+   * @return true if the event equals the occurrence of the rule on its date in every property
+   */
+  public boolean isOccurrence(EventInterface event) {
+    LocalDate date = event.getStartDateTime().toLocalDate();
+    return this.total > 0
+        && !date.isBefore(this.firstDate) && !date.isAfter(this.lastDate)
+        && this.weekdays.contains(date)
+        && sameTemplate(segmentOn(date), event);
+  }
+
+  /**
+   * Build the occurrence on {@param date}, whether or not the rule occurs on it.
+   *
+   * @param date occurrence date
+   * @return occurrence event
+   */
+  public EventInterface occurrenceOn(LocalDate date) {
+    EventInterface prototype = segmentOn(date);
+    return prototype.toBuilder()
+        .setStartDateTime(LocalDateTime.of(date, prototype.getStartDateTime().toLocalTime()))
+        .setEndDateTime(LocalDateTime.of(date, prototype.getEndDateTime().toLocalTime()))
+        .build();
+  }
+
+  /**
+   * Build the live occurrences on the dates between {@param from} and {@param to} (both
+   * inclusive), in start order. An unbounded rule read up to {@link LocalDate#MAX} stops at
+   * {@link #HORIZON} after the latest of {@code from}, its first occurrence and its last change.
+   *
+   * @param from first date
+   * @param to   last date
+   * @return occurrences on those dates
+   */
+  public List<EventInterface> expand(LocalDate from, LocalDate to) {
+    List<EventInterface> result = new ArrayList<>();
+    iterate(from, to).forEachRemaining(result::add);
+    return result;
+  }
+
+  /**
+   * Walk the live occurrences on the dates between {@param from} and {@param to} like
+   * {@link #expand(LocalDate, LocalDate)}, building each occurrence only when it is reached, so a
+   * caller can stop early without building the rest.
+   *
+   * @param from first date
+   * @param to   last date
+   * @return iterator over occurrences in start order
+   */
+  public Iterator<EventInterface> iterate(LocalDate from, LocalDate to) {
+    if (this.total == 0) {
+      return Collections.emptyIterator();
+    }
+    return new OccurrenceIterator(this.weekdays.next(latest(from, this.firstDate)),
+        lastDateUpTo(from, to));
+  }
+
+  /**
+   * Get the last date a read from {@param from} to {@param to} covers: {@code to} or the last date
+   * of the rule, whichever is earlier, and for an unbounded rule read up to {@link LocalDate#MAX}
+   * its horizon. Splitting a read at dates up to this one gives the same occurrences as the whole
+   * read.
+   *
+   * @param from first date
+   * @param to   last date
+   * @return last covered date
+   */
+  public LocalDate lastDateUpTo(LocalDate from, LocalDate to) {
+    LocalDate last = to.isAfter(this.lastDate) ? this.lastDate : to;
+    if (LocalDate.MAX.equals(last)) {
+      last = latest(latest(from, this.firstDate), getLastChange()).plus(HORIZON);
+    }
+    return last;
+  }
+
+  /**
+   * Count the live occurrences between {@param from} and {@param to} (both inclusive) without
+   * building them, bounded like {@link #expand(LocalDate, LocalDate)}.
+   *
+   * @param from first date
+   * @param to   last date
+   * @return number of occurrences
+   */
+  public long countBetween(LocalDate from, LocalDate to) {
+    if (this.total == 0) {
+      return 0;
+    }
+    LocalDate first = latest(from, this.firstDate);
+    LocalDate last = lastDateUpTo(from, to);
+    if (last.isBefore(first)) {
+      return 0;
+    }
+    return this.weekdays.countBetween(first, last)
+        - this.suppressed.subSet(first, true, last, true).size();
+  }
+
+  /**
+   * Build every live occurrence in start order.
+   *
+   * @return all occurrences
+   */
+  public List<EventInterface> expandAll() {
+    return this.total == 0 ? new ArrayList<>() : expand(this.firstDate, this.lastDate);
+  }
+
+  /**
+   * Suppress the occurrence on {@param date}, because it was removed or replaced by a concrete
+   * event.
+   *
+   * @param date occurrence date
+   * @return true if a live occurrence was suppressed
+   */
+  public boolean suppress(LocalDate date) {
+    return occursOn(date) && this.suppressed.add(date);
+  }
+
+  /**
+   * Restore the suppressed occurrence on {@param date}, because the concrete event that replaced
+   * it was removed in favor of the rule.
+   *
+   * @param date occurrence date
+   * @return true if a suppressed occurrence was restored
+   */
+  public boolean restore(LocalDate date) {
+    return this.suppressed.remove(date);
+  }
+
+  /**
+   * Edit the occurrences on and after {@param date}: every segment from that date on gets
+   * {@param edit} applied to its prototype. The edit must keep the date of the prototype it is
+   * given.
+   *
+   * @param date first date to edit
+   * @param edit edit applied to prototypes
+   */
+  public void editFrom(LocalDate date, UnaryOperator<EventInterface> edit) {
+    LocalDate from = this.firstDate == null || !date.isAfter(this.firstDate) ? LocalDate.MIN : date;
+    EventInterface edited = edit.apply(segmentOn(from));
+    for (Map.Entry<LocalDate, EventInterface> segment
+        : this.segments.tailMap(from, false).entrySet()) {
+      segment.setValue(edit.apply(segment.getValue()));
+    }
+    Map.Entry<LocalDate, EventInterface> previous = this.segments.lowerEntry(from);
+    if (previous != null && sameTemplate(previous.getValue(), edited)) {
+      this.segments.remove(from);
+    } else {
+      this.segments.put(from, edited);
+    }
+  }
+
+  /**
+   * Check whether {@param edit} would leave a live occurrence on or after {@param date} with the
+   * same subject, start and end, as {@link #editFrom(LocalDate, UnaryOperator)} applies it.
+   *
+   * @param date first date to edit
+   * @param edit edit applied to prototypes
+   * @return true if some occurrence keeps its identity
+   */
+  public boolean keepsIdentityFrom(LocalDate date, UnaryOperator<EventInterface> edit) {
+    if (this.total == 0) {
+      return false;
+    }
+    for (Map.Entry<LocalDate, EventInterface> segment
+        : this.segments.tailMap(this.segments.floorKey(date), true).entrySet()) {
+      EventInterface prototype = segment.getValue();
+      EventInterface edited = edit.apply(prototype);
+      LocalDate next = this.segments.higherKey(segment.getKey());
+      if (prototype.getSubject().equals(edited.getSubject())
+          && prototype.getStartDateTime().toLocalTime()
+          .equals(edited.getStartDateTime().toLocalTime())
+          && prototype.getEndDateTime().toLocalTime()
+          .equals(edited.getEndDateTime().toLocalTime())
+          && iterate(latest(segment.getKey(), date),
+          next == null ? this.lastDate : next.minusDays(1)).hasNext()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Get the prototype of every segment, the first one included.
+   *
+   * @return unmodifiable collection of prototypes in date order
+   */
+  public Collection<EventInterface> getPrototypes() {
+    return Collections.unmodifiableCollection(this.segments.values());
+  }
+
+  /**
+   * Get the number of segments, the first one included.
+   *
+   * @return number of segments
+   */
+  public int getSegmentCount() {
+    return this.segments.size();
+  }
+
+  /**
+   * Find the first date on or after {@param from} on which both rules have a live occurrence with
+   * the same subject, start and end. Only the dates up to the last change of either rule (a segment
+   * or a suppressed date) and the first common date after it are checked, since both rules repeat
+   * unchanged from there on, so unbounded rules are compared without being expanded.
+   *
+   * @param other other rule
+   * @param from  first date to check
+   * @return first clashing date, or null if the rules never clash
+   */
+  public LocalDate findClash(SeriesRule other, LocalDate from) {
+    if (this.total == 0 || other.total == 0) {
+      return null;
+    }
+    WeekdayMask common = this.weekdays.intersect(other.weekdays);
+    LocalDate start = latest(from, latest(this.firstDate, other.firstDate));
+    LocalDate end = this.lastDate.isBefore(other.lastDate) ? this.lastDate : other.lastDate;
+    LocalDate stable = latest(start, latest(getLastChange(), other.getLastChange()));
+
+    LocalDate date = common.next(start);
+    while (date != null && !date.isAfter(end)) {
+      EventInterface occurrence = occurrenceOn(date);
+      if (occursOn(date) && other.generates(occurrence.getSubject(),
+          occurrence.getStartDateTime(), occurrence.getEndDateTime())) {
+        return date;
+      }
+      if (date.isAfter(stable)) {
+        return null;
+      }
+      date = common.next(date.plusDays(1));
+    }
+    return null;
+  }
+
+  /**
+   * Get the date of the last change to the rule, a segment start or a suppressed date. The rule
+   * repeats unchanged after it.
+   *
+   * @return last change date, or {@link LocalDate#MIN} if there is none
+   */
+  public LocalDate getLastChange() {
+    LocalDate segment = this.segments.lastKey();
+    return this.suppressed.isEmpty() ? segment : latest(segment, this.suppressed.last());
+  }
+
+  /**
+   * Help get the later of two dates.
+   *
+   * @param first  first date
+   * @param second second date
+   * @return later date
+   */
+  private static LocalDate latest(LocalDate first, LocalDate second) {
+    return first.isAfter(second) ? first : second;
+  }
+
+  /**
+   * Help get the prototype of the segment {@param date} falls in.
+   *
+   * @param date given date
+   * @return prototype event
+   */
+  private EventInterface segmentOn(LocalDate date) {
+    return this.segments.floorEntry(date).getValue();
+  }
+
+  /**
+   * Check whether {@param event} could be an occurrence of a rule with {@param prototype}.
+   *
+   * @param prototype prototype event
+   * @param event     event to be checked
+   * @return true if they share every property but the date
+   */
+  private static boolean sameTemplate(EventInterface prototype, EventInterface event) {
+    LocalDateTime start = event.getStartDateTime();
+    return start.toLocalDate().equals(event.getEndDateTime().toLocalDate())
+        && prototype.getStartDateTime().toLocalTime().equals(start.toLocalTime())
+        && prototype.getEndDateTime().toLocalTime()
+        .equals(event.getEndDateTime().toLocalTime())
+        && prototype.getSubject().equals(event.getSubject())
+        && Objects.equals(prototype.getDescription(), event.getDescription())
+        && Objects.equals(prototype.getLocation(), event.getLocation())
+        && prototype.getStatus() == event.getStatus();
+  }
+
+  /**
+   * This class represents a walk over the live occurrences of the rule up to a last date.
+   */
+  private class OccurrenceIterator implements Iterator<EventInterface> {
+    private final LocalDate last;
+    private LocalDate date;
+
+    /**
+     * Create an OccurrenceIterator starting at the matching date {@param date}.
+     *
+     * @param date first matching date, or null if there is none
+     * @param last last date
+     */
+    private OccurrenceIterator(LocalDate date, LocalDate last) {
+      this.last = last;
+      this.date = skipHelper(date);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.date != null;
+    }
+
+    @Override
+    public EventInterface next() {
+      if (this.date == null) {
+        throw new NoSuchElementException();
+      }
+      EventInterface occurrence = occurrenceOn(this.date);
+      this.date = skipHelper(weekdays.next(this.date.plusDays(1)));
+      return occurrence;
+    }
+
+    /**
+     * Help move from the matching date {@param candidate} to the first live one not after the
+     * last date.
+     *
+     * @param candidate matching date, or null
+     * @return live date, or null if the walk is over
+     */
+    private LocalDate skipHelper(LocalDate candidate) {
+      while (candidate != null && !candidate.isAfter(this.last)
+          && suppressed.contains(candidate)) {
+        candidate = weekdays.next(candidate.plusDays(1));
+      }
+      return candidate == null || candidate.isAfter(this.last) ? null : candidate;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package model.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class represents the Series rules installed in an EventManager, indexed by Series id, by
+ * subject and by the span they cover, together with the cache of their expanded windows. Windows
+ * missing from the cache are expanded by a {@link SeriesExpander}, in parallel when they are large.
+ *
+ * <p>The index does not watch its rules: the owner uninstalls a rule before changing its segments
+ * and installs it again afterward, and invalidates its cached windows when only its suppressed
+ * occurrences change.
+ */
+class SeriesRuleIndex {
+  private final Map<String, SeriesRule> rules;
+  private final Map<String, List<SeriesRule>> subjectRules;
+  private final IntervalTree<SeriesRule> spanIndex;
+  private final ExpansionCache expansionCache;
+  private final SeriesExpander expander;
+
+  /**
+   * Create an empty SeriesRuleIndex caching at most {@param expansionCacheWeight} occurrences and
+   * expanding large windows on {@param pool}.
+   *
+   * @param expansionCacheWeight maximum number of cached occurrences, 0 to disable caching
+   * @param pool                 fork/join pool running parallel expansions
+   */
+  SeriesRuleIndex(int expansionCacheWeight, ForkJoinPool pool) {
+    this.rules = new HashMap<>();
+    this.subjectRules = new HashMap<>();
+    this.spanIndex = new IntervalTree<>(SeriesRule::getFirstStart, SeriesRule::getLastEnd);
+    this.expansionCache = new ExpansionCache(expansionCacheWeight);
+    this.expander = new SeriesExpander(pool, SeriesExpander.DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Install {@param rule} in every index, unless it has no occurrence.
+   *
+   * @param rule series rule
+   * @return true if the rule was installed
+   */
+  boolean install(SeriesRule rule) {
+    if (rule.size() == 0) {
+      return false;
+    }
+    this.rules.put(rule.getSeries().getSeriesId(), rule);
+    for (String subject : rule.getSubjects()) {
+      this.subjectRules.computeIfAbsent(subject, key -> new ArrayList<>()).add(rule);
+    }
+    this.spanIndex.insert(rule);
+    this.expansionCache.invalidate(rule.getSeries().getSeriesId());
+    return true;
+  }
+
+  /**
+   * Remove the rule of a Series from every index.
+   *
+   * @param seriesId id of the Series
+   * @return removed rule, or null if the Series had none
+   */
+  SeriesRule uninstall(String seriesId) {
+    SeriesRule rule = this.rules.remove(seriesId);
+    if (rule != null) {
+      for (String subject : rule.getSubjects()) {
+        List<SeriesRule> subjectRules = this.subjectRules.get(subject);
+        subjectRules.remove(rule);
+        if (subjectRules.isEmpty()) {
+          this.subjectRules.remove(subject);
+        }
+      }
+      this.spanIndex.remove(rule);
+      this.expansionCache.invalidate(seriesId);
+    }
+    return rule;
+  }
+
+  /**
+   * Drop the cached windows of a Series whose suppressed occurrences changed.
+   *
+   * @param seriesId id of the Series
+   */
+  void invalidate(String seriesId) {
+    this.expansionCache.invalidate(seriesId);
+  }
+
+  /**
+   * Get the rule of a Series.
+   *
+   * @param seriesId id of the Series
+   * @return rule, or null if the Series has none
+   */
+  SeriesRule get(String seriesId) {
+    return this.rules.get(seriesId);
+  }
+
+  /**
+   * Get every installed rule.
+   *
+   * @return unmodifiable view of the rules
+   */
+  Collection<SeriesRule> getAll() {
+    return Collections.unmodifiableCollection(this.rules.values());
+  }
+
+  /**
+   * Check whether no rule is installed.
+   *
+   * @return true if there is no rule
+   */
+  boolean isEmpty() {
+    return this.rules.isEmpty();
+  }
+
+  /**
+   * Get the rules with a segment of {@param subject}.
+   *
+   * @param subject event subject
+   * @return rules of the subject
+   */
+  List<SeriesRule> withSubject(String subject) {
+    return this.subjectRules.getOrDefault(subject, List.of());
+  }
+
+  /**
+   * Get the rules whose span overlaps the closed interval from {@param start} to {@param end}.
+   *
+   * @param start interval start
+   * @param end   interval end
+   * @return overlapping rules
+   */
+  List<SeriesRule> findOverlapping(LocalDateTime start, LocalDateTime end) {
+    return this.spanIndex.findOverlapping(start, end);
+  }
+
+  /**
+   * Find the rule with a live occurrence of the given identity.
+   *
+   * @param subject       event subject
+   * @param startDateTime event start date and time
+   * @param endDateTime   event end date and time
+   * @return rule generating the occurrence, or null if no rule does
+   */
+  SeriesRule findGenerating(String subject, LocalDateTime startDateTime,
+                            LocalDateTime endDateTime) {
+    for (SeriesRule rule : withSubject(subject)) {
+      if (rule.generates(subject, startDateTime, endDateTime)) {
+        return rule;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Check whether a live occurrence of some rule is happening at {@param dateTime}.
+   *
+   * @param dateTime date and time
+   * @return true if an occurrence covers it
+   */
+  boolean coversAt(LocalDateTime dateTime) {
+    for (SeriesRule rule : this.spanIndex.findOverlapping(dateTime, dateTime)) {
+      if (rule.coversAt(dateTime)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Expand the live occurrences of installed {@param rules} between {@param from} and {@param to}.
+   * Windows found in the expansion cache are reused; the others are expanded and then cached. A
+   * window of an unbounded rule cut at its horizon lacks the later occurrences and is not cached.
+   *
+   * @param rules series rules
+   * @param from  first date
+   * @param to    last date
+   * @return occurrences of all rules, each rule's in start order
+   */
+  List<EventInterface> expand(Collection<SeriesRule> rules, LocalDate from, LocalDate to) {
+    List<EventInterface> result = new ArrayList<>();
+    List<SeriesRule> missing = new ArrayList<>();
+    for (SeriesRule rule : rules) {
+      List<EventInterface> cached = isCacheableHelper(rule, to)
+          ? this.expansionCache.getIfPresent(rule.getSeries().getSeriesId(), from, to)
+          : null;
+      if (cached != null) {
+        result.addAll(cached);
+      } else {
+        missing.add(rule);
+      }
+    }
+
+    List<List<EventInterface>> expanded = this.expander.expand(missing, from, to);
+    for (int i = 0; i < missing.size(); i++) {
+      SeriesRule rule = missing.get(i);
+      if (isCacheableHelper(rule, to)) {
+        this.expansionCache.put(rule.getSeries().getSeriesId(), from, to, expanded.get(i));
+      }
+      result.addAll(expanded.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Get the number of windows read from the expansion cache.
+   *
+   * @return cache hit count
+   */
+  long getCacheHitCount() {
+    return this.expansionCache.getHitCount();
+  }
+
+  /**
+   * Get the number of windows expanded because they were not in the expansion cache.
+   *
+   * @return cache miss count
+   */
+  long getCacheMissCount() {
+    return this.expansionCache.getMissCount();
+  }
+
+  /**
+   * Help check whether the window of {@param rule} up to {@param to} can be cached.
+   *
+   * @param rule series rule
+   * @param to   last date of the window
+   * @return false if the window is cut at the horizon of an unbounded rule
+   */
+  private static boolean isCacheableHelper(SeriesRule rule, LocalDate to) {
+    return !rule.isUnbounded() || !LocalDate.MAX.equals(to);
+  }
+}
@@ -0,0 +1,59 @@
+package model.event;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import model.calendar.Weekday;
+
+/**
+ * This class represents Series recurring on specified weekdays without an end. It has neither an
+ * end date nor a number of occurrences, so its SingleEvents cannot all be generated; they are only
+ * expanded from its rule inside the range being read (see {@link SeriesRule}).
+ */
+public class SeriesUnbounded extends SeriesImpl {
+  /**
+   * Create a SeriesUnbounded with generated unique series id and repeating weekdays.
+   *
+   * @param seriesId unique series id
+   * @param weekdays weekdays events repeat on
+   */
+  private SeriesUnbounded(UUID seriesId, Set<Weekday> weekdays) {
+    super(seriesId, weekdays);
+  }
+
+  /**
+   * An unbounded Series has no last event, so generating all of its events is not supported.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public List<EventInterface> generateEvents(String subject, LocalDateTime eventStartDateTime,
+                                             LocalTime eventEndTime)
+      throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("An unbounded series cannot generate all events");
+  }
+
+  @Override
+  public SeriesUnbounded copy() {
+    return new SeriesUnboundedBuilder()
+        .setWeekdays(this.weekdays)
+        .build();
+  }
+
+  /**
+   * This class extends SeriesBuilder to build SeriesUnbounded.
+   */
+  public static class SeriesUnboundedBuilder extends SeriesBuilder<SeriesUnboundedBuilder> {
+    @Override
+    protected SeriesUnboundedBuilder returnBuilder() {
+      return this;
+    }
+
+    @Override
+    public SeriesUnbounded build() {
+      return new SeriesUnbounded(UUID.randomUUID(), this.weekdays);
+    }
+  }
+}
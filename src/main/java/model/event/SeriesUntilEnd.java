@@ -34,20 +34,18 @@ public class SeriesUntilEnd extends SeriesImpl {
   public List<EventInterface> generateEvents(String subject, LocalDateTime eventStartDateTime,
                                              LocalTime eventEndTime) {
     List<EventInterface> events = new ArrayList<>();
-    LocalDate currentDate = eventStartDateTime.toLocalDate();
+    WeekdayMask mask = WeekdayMask.of(this.weekdays);
+    LocalDate currentDate = mask.next(eventStartDateTime.toLocalDate());
     LocalTime eventStartTime = eventStartDateTime.toLocalTime();
 
-    while (!currentDate.isAfter(this.endDate)) {
-      Weekday currentWeekday = Weekday.valueOf(currentDate.getDayOfWeek().toString());
-      if (this.weekdays.contains(currentWeekday)) {
-        EventInterface event = new SingleEvent.SingleEventBuilder()
-            .setSubject(subject)
-            .setStartDateTime(LocalDateTime.of(currentDate, eventStartTime))
-            .setEndDateTime(LocalDateTime.of(currentDate, eventEndTime))
-            .build();
-        events.add(event);
-      }
-      currentDate = currentDate.plusDays(1);
+    while (currentDate != null && !currentDate.isAfter(this.endDate)) {
+      EventInterface event = new SingleEvent.SingleEventBuilder()
+          .setSubject(subject)
+          .setStartDateTime(LocalDateTime.of(currentDate, eventStartTime))
+          .setEndDateTime(LocalDateTime.of(currentDate, eventEndTime))
+          .build();
+      events.add(event);
+      currentDate = mask.next(currentDate.plusDays(1));
     }
     return events;
   }
@@ -5,10 +5,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import model.calendar.Weekday;
 
 /**
  * This class is a collaborator to help update Series for Calendar. It handles Series updating and
@@ -31,40 +28,52 @@ public class SeriesUpdater {
 
   /**
    * Update the property {@param property} of events in {@param series} starting from
-   * {@param startFrom} with {@param newValue}.
+   * {@param startFrom} with {@param patch}.
    *
    * @param series    series to be updated
    * @param property  property to be updated
    * @param startFrom start date and time for events in Series update
-   * @param newValue  new property value
+   * @param patch     new property value
    */
   public void updateSeriesStartFrom(SeriesInterface series, EventProperty property,
-                                    LocalDateTime startFrom, String newValue) {
-    if (property == EventProperty.START) {
-      handleSeriesStartFromUpdateEventStartDateTimeHelper(series, startFrom, newValue);
-    } else if (property == EventProperty.END) {
-      handleSeriesStartFromUpdateEventEndDateTimeHelper(series, startFrom, newValue);
-    } else {
-      handleSeriesStartFromUpdateEventPropertyHelper(series, property, startFrom, newValue);
+                                    LocalDateTime startFrom, EventPatch patch) {
+    this.eventManager.beginUpdate();
+    try {
+      if (property == EventProperty.START) {
+        handleSeriesStartFromUpdateEventStartDateTimeHelper(series, startFrom,
+            patch.getStartDateTime());
+      } else if (property == EventProperty.END) {
+        handleSeriesStartFromUpdateEventEndDateTimeHelper(series, startFrom,
+            patch.getEndDateTime());
+      } else {
+        handleSeriesStartFromUpdateEventPropertyHelper(series, property, startFrom, patch);
+      }
+    } finally {
+      this.eventManager.endUpdate();
     }
   }
 
   /**
-   * Update the property {@param property} of all events in {@param series} with {@param newValue}.
+   * Update the property {@param property} of all events in {@param series} with {@param patch}.
    *
    * @param series   series to be updated
    * @param property property to be updated
    * @param startAt  start date and time of the target event in the Series
-   * @param newValue new property value
+   * @param patch    new property value
    */
   public void updateSeriesAll(SeriesInterface series, EventProperty property, LocalDateTime startAt,
-                              String newValue) {
-    if (property == EventProperty.START) {
-      handleSeriesAllUpdateEventStartDateTimeHelper(series, startAt, newValue);
-    } else if (property == EventProperty.END) {
-      handleSeriesAllUpdateEventEndDateTimeHelper(series, startAt, newValue);
-    } else {
-      handleSeriesAllUpdateEventPropertyHelper(series, property, newValue);
+                              EventPatch patch) {
+    this.eventManager.beginUpdate();
+    try {
+      if (property == EventProperty.START) {
+        handleSeriesAllUpdateEventStartDateTimeHelper(series, startAt, patch.getStartDateTime());
+      } else if (property == EventProperty.END) {
+        handleSeriesAllUpdateEventEndDateTimeHelper(series, startAt, patch.getEndDateTime());
+      } else {
+        handleSeriesAllUpdateEventPropertyHelper(series, property, patch);
+      }
+    } finally {
+      this.eventManager.endUpdate();
     }
   }
 
@@ -75,15 +84,17 @@ public class SeriesUpdater {
    * will become a Series ending at one day before given date. The latter will remain as a new
    * Series repeating N times or Series until original end date.
    *
-   * @param series    series to be updated
-   * @param startFrom start date and time for events in Series update
-   * @param newValue  new start date and time
+   * @param series           series to be updated
+   * @param startFrom        start date and time for events in Series update
+   * @param newStartDateTime new start date and time
    */
   private void handleSeriesStartFromUpdateEventStartDateTimeHelper(SeriesInterface series,
                                                                    LocalDateTime startFrom,
-                                                                   String newValue) {
-    handlePastEventsHelper(series, startFrom);
-    handleAfterwardEventsHelper(series, startFrom, newValue);
+                                                                   LocalDateTime newStartDateTime) {
+    EventBatch batch = new EventBatch();
+    handlePastEventsHelper(series, startFrom, batch);
+    handleAfterwardEventsHelper(series, startFrom, newStartDateTime, batch);
+    this.eventManager.applyUnchecked(batch);
   }
 
   /**
@@ -92,43 +103,53 @@ public class SeriesUpdater {
    *
    * @param series    series to be updated
    * @param startFrom start date and time for events in Series update
+   * @param batch     batch collecting the changes
    */
-  private void handlePastEventsHelper(SeriesInterface series, LocalDateTime startFrom) {
+  private void handlePastEventsHelper(SeriesInterface series, LocalDateTime startFrom,
+                                      EventBatch batch) {
     List<EventInterface> pastEvents =
-        this.eventManager.filterEventsInSeriesBefore(series, startFrom);
+        this.eventManager.query(new EventQuery.EventQueryBuilder()
+            .setSeries(series)
+            .setStartBefore(startFrom)
+            .build());
     if (!pastEvents.isEmpty()) {
       SeriesUntilEnd updatedPastSeries =
           EventFactory.createSeriesWithEndDate(series.getWeekdays(),
               startFrom.toLocalDate().minusDays(1));
-      this.eventManager.attachEventsToNewSeries(updatedPastSeries, pastEvents);
+      batch.attachSeries(updatedPastSeries, pastEvents);
     }
   }
 
   /**
-   * Help handle afterward events. These updated events will attach to a new Series repeating N
-   * times or Series until original end date (N = 1 + the number of future events.) Original Series
-   * and original events requiring update will be removed.
+   * Help handle afterward events. These updated events will follow a new Series repeating N
+   * times, Series until original end date or Series without end, like the original Series (N = 1 +
+   * the number of future events.) Original Series is ended before {@code startFrom} and removed.
    *
-   * @param series    series to be updated
-   * @param startFrom start date and time for events in Series update
-   * @param newValue  new start date and time
+   * @param series           series to be updated
+   * @param startFrom        start date and time for events in Series update
+   * @param newStartDateTime new start date and time
+   * @param batch            batch collecting the changes
    */
   private void handleAfterwardEventsHelper(SeriesInterface series, LocalDateTime startFrom,
-                                           String newValue) {
-    LocalDateTime newStartDateTime = LocalDateTime.parse(newValue);
-    List<EventInterface> eventsToBeUpdated =
-        this.eventManager.filterEventsInSeriesStartingFrom(series, startFrom);
+                                           LocalDateTime newStartDateTime, EventBatch batch) {
     SeriesImpl seriesImpl = (SeriesImpl) series;
     SeriesInterface newSeries;
-    if (seriesImpl.getEndDate() == null) {
+    if (seriesImpl.getEndDate() != null) {
+      newSeries = EventFactory.createSeriesWithEndDate(seriesImpl.getWeekdays(),
+          seriesImpl.getEndDate());
+    } else if (seriesImpl.getNumberOfOccurrences() != null) {
+      List<EventInterface> eventsToBeUpdated =
+          this.eventManager.query(new EventQuery.EventQueryBuilder()
+              .setSeries(series)
+              .setStartFrom(startFrom)
+              .build());
       newSeries = EventFactory.createSeriesWithOccurrence(seriesImpl.getWeekdays(),
           eventsToBeUpdated.size());
     } else {
-      newSeries = EventFactory.createSeriesWithEndDate(seriesImpl.getWeekdays(),
-          seriesImpl.getEndDate());
+      newSeries = EventFactory.createSeriesWithoutEnd(seriesImpl.getWeekdays());
     }
 
-    EventInterface targetEvent = this.eventManager.filterEventsInSeriesStartAt(series, startFrom);
+    EventInterface targetEvent = findTargetEventHelper(series, startFrom);
 
     Duration eventDuration = Duration.between(
         targetEvent.getStartDateTime(),
@@ -138,26 +159,29 @@ public class SeriesUpdater {
     LocalTime newStartTime = newStartDateTime.toLocalTime();
     LocalTime newEndTime = newStartTime.plus(eventDuration);
 
-    List<EventInterface> eventsInNewSeries =
-        newSeries.generateEvents(targetEvent.getSubject(), newStartDateTime, newEndTime);
+    EventInterface prototype = targetEvent.toBuilder()
+        .setStartDateTime(newStartDateTime)
+        .setEndDateTime(LocalDateTime.of(newStartDateTime.toLocalDate(), newEndTime))
+        .build();
 
-    List<EventInterface> updatedEventsInNewSeries = new ArrayList<>();
-    for (EventInterface event : eventsInNewSeries) {
-      EventInterface updatedEvent = this.eventEditor.editEvent(event, EventProperty.DESCRIPTION,
-          targetEvent.getDescription());
-      updatedEvent =
-          this.eventEditor.editEvent(updatedEvent, EventProperty.LOCATION,
-              targetEvent.getLocation());
-      if (targetEvent.getStatus() != null) {
-        updatedEvent = this.eventEditor.editEvent(updatedEvent, EventProperty.STATUS,
-            targetEvent.getStatus().toString());
-      }
-      updatedEventsInNewSeries.add(updatedEvent);
-    }
+    batch.endSeries(series, startFrom.toLocalDate())
+        .removeSeries(series)
+        .addSeries(newSeries, prototype, false);
+  }
 
-    this.eventManager.removeEvents(eventsToBeUpdated);
-    this.eventManager.removeSeries(series);
-    this.eventManager.attachEventsToNewSeries(newSeries, updatedEventsInNewSeries);
+  /**
+   * Help find the event of {@param series} starting at {@param startAt}.
+   *
+   * @param series  series the event belongs to
+   * @param startAt start date and time of the event
+   * @return target event
+   */
+  private EventInterface findTargetEventHelper(SeriesInterface series, LocalDateTime startAt) {
+    return this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSeries(series)
+        .setStartDateTime(startAt)
+        .setLimit(1)
+        .build()).get(0);
   }
 
   /**
@@ -166,24 +190,45 @@ public class SeriesUpdater {
    * ones in the original Series. (Our design doesn't allow Series Event to span more than 1 day,
    * so updating end date is not supported.)
    *
-   * @param series    series to be updated
-   * @param startFrom start date and time for events in Series update
-   * @param newValue  new end time
+   * @param series         series to be updated
+   * @param startFrom      start date and time for events in Series update
+   * @param newEndDateTime new end date and time
    * @throws UnsupportedOperationException if try to update end date
    */
   private void handleSeriesStartFromUpdateEventEndDateTimeHelper(SeriesInterface series,
                                                                  LocalDateTime startFrom,
-                                                                 String newValue)
+                                                                 LocalDateTime newEndDateTime)
       throws UnsupportedOperationException {
-    LocalDateTime newEndDateTime = LocalDateTime.parse(newValue);
     if (!startFrom.toLocalDate().equals(newEndDateTime.toLocalDate())) {
       throw new UnsupportedOperationException("A series event must not span more than one day");
     }
+    if (updateSeriesRuleEndHelper(series, startFrom, newEndDateTime)) {
+      return;
+    }
     List<EventInterface> eventsToBeUpdated =
-        this.eventManager.filterEventsInSeriesStartingFrom(series, startFrom);
+        this.eventManager.query(new EventQuery.EventQueryBuilder()
+            .setSeries(series)
+            .setStartFrom(startFrom)
+            .build());
     updateSeriesEventEndHelper(newEndDateTime, eventsToBeUpdated);
   }
 
+  /**
+   * Help update end time of the Series Events starting from {@param startFrom} in the rule of the
+   * Series.
+   *
+   * @param series         series to be updated
+   * @param startFrom      start date and time for events in Series update
+   * @param newEndDateTime updated event end time
+   * @return true if updated, false if the Series has no rule
+   */
+  private boolean updateSeriesRuleEndHelper(SeriesInterface series, LocalDateTime startFrom,
+                                            LocalDateTime newEndDateTime) {
+    EventPatch patch = endTimePatchHelper(newEndDateTime);
+    return this.eventManager.updateSeriesFrom(series, startFrom, EventProperty.END,
+        event -> this.eventEditor.editEvent(event, patch));
+  }
+
   /**
    * Help update end time for list of Series Events.
    *
@@ -192,16 +237,27 @@ public class SeriesUpdater {
    */
   private void updateSeriesEventEndHelper(LocalDateTime newEndDateTime,
                                           List<EventInterface> eventsToBeUpdated) {
+    EventPatch patch = endTimePatchHelper(newEndDateTime);
     List<EventInterface> updatedEvents = new ArrayList<>();
     for (EventInterface oldEvent : eventsToBeUpdated) {
-      EventInterface newEvent = this.eventEditor.editEvent(oldEvent, EventProperty.END_TIME,
-          newEndDateTime.toLocalTime().toString());
-      updatedEvents.add(newEvent);
+      updatedEvents.add(this.eventEditor.editEvent(oldEvent, patch));
     }
     this.eventManager.updateSingleEventsWithList(eventsToBeUpdated, updatedEvents,
         EventProperty.END);
   }
 
+  /**
+   * Help create a patch setting the end time of Series Events, keeping their end dates.
+   *
+   * @param newEndDateTime updated event end time
+   * @return end time patch
+   */
+  private EventPatch endTimePatchHelper(LocalDateTime newEndDateTime) {
+    return new EventPatch.EventPatchBuilder()
+        .setEndTime(newEndDateTime.toLocalTime())
+        .build();
+  }
+
   /**
    * Handle updating the property other than START and END of a SingleEvent starting at a given
    * date and time, along with future events in the Series as well. This process simply involves
@@ -210,58 +266,93 @@ public class SeriesUpdater {
    * @param series    series to be updated
    * @param property  property to be updated
    * @param startFrom start date and time for events in Series update
-   * @param newValue  new property value
+   * @param patch     new property value
    */
   private void handleSeriesStartFromUpdateEventPropertyHelper(SeriesInterface series,
                                                               EventProperty property,
                                                               LocalDateTime startFrom,
-                                                              String newValue) {
+                                                              EventPatch patch) {
+    if (this.eventManager.updateSeriesFrom(series, startFrom, property,
+        event -> this.eventEditor.editEvent(event, patch))) {
+      return;
+    }
     List<EventInterface> eventsToBeUpdated =
-        this.eventManager.filterEventsInSeriesStartingFrom(series, startFrom);
-    this.eventManager.updateEventsProperty(eventsToBeUpdated, property, newValue, this.eventEditor);
+        this.eventManager.query(new EventQuery.EventQueryBuilder()
+            .setSeries(series)
+            .setStartFrom(startFrom)
+            .build());
+    this.eventManager.updateEventsProperty(eventsToBeUpdated, property, patch);
   }
 
   /**
    * Handle updating the start date or time of a SingleEvent starting at a given date and time,
-   * along all events in the Series as well. This process involves replacing all events in the
-   * Series with updated ones. (Google Calendar doesn't allow update Start Date for all events in
+   * along all events in the Series as well. The times of day of the rule of the Series are shifted,
+   * so a Series without end is shifted as a whole; a Series without rule has all its events
+   * replaced with updated ones. (Google Calendar doesn't allow update Start Date for all events in
    * the Series.)
    *
-   * @param series   series to be updated
-   * @param startAt  start date and time of the target event in the Series
-   * @param newValue new start time
+   * @param series           series to be updated
+   * @param startAt          start date and time of the target event in the Series
+   * @param newStartDateTime new start date and time
    * @throws UnsupportedOperationException if try to update start date
    */
   private void handleSeriesAllUpdateEventStartDateTimeHelper(SeriesInterface series,
                                                              LocalDateTime startAt,
-                                                             String newValue)
+                                                             LocalDateTime newStartDateTime)
       throws UnsupportedOperationException {
-    LocalDateTime newStartDateTime = LocalDateTime.parse(newValue);
     if (!startAt.toLocalDate().equals(newStartDateTime.toLocalDate())) {
       throw new UnsupportedOperationException(
           "Google Calendar doesn't allow modify event start date for the entire series");
     }
 
     Duration shift = Duration.between(startAt, newStartDateTime);
+    if (this.eventManager.updateSeriesFrom(series, LocalDateTime.MIN, EventProperty.START,
+        event -> shiftWithinDayHelper(event, shift))) {
+      return;
+    }
 
-    List<EventInterface> eventsToBeUpdated = this.eventManager.filterEventsInSeries(series);
+    List<EventInterface> eventsToBeUpdated = this.eventManager.query(
+        new EventQuery.EventQueryBuilder().setSeries(series).build());
     List<EventInterface> updatedEvents = new ArrayList<>();
     for (EventInterface oldEvent : eventsToBeUpdated) {
       LocalDateTime shiftedStart = oldEvent.getStartDateTime().plus(shift);
       LocalDateTime shiftedEnd = oldEvent.getEndDateTime().plus(shift);
 
-      EventInterface newEvent =
-          this.eventEditor.editEvent(oldEvent, EventProperty.START, shiftedStart.toString());
-      newEvent = this.eventEditor.editEvent(newEvent, EventProperty.END, shiftedEnd.toString());
-      updatedEvents.add(newEvent);
+      updatedEvents.add(this.eventEditor.editEvent(oldEvent, new EventPatch.EventPatchBuilder()
+          .setStartDateTime(shiftedStart)
+          .setEndDateTime(shiftedEnd)
+          .build()));
     }
 
     SeriesImpl seriesImpl = (SeriesImpl) series;
     SeriesInterface newSeries = seriesImpl.copy();
 
-    this.eventManager.removeEvents(eventsToBeUpdated);
-    this.eventManager.removeSeries(series);
-    this.eventManager.attachEventsToNewSeries(newSeries, updatedEvents);
+    this.eventManager.applyUnchecked(new EventBatch()
+        .removeEvents(eventsToBeUpdated)
+        .removeSeries(series)
+        .attachSeries(newSeries, updatedEvents));
+  }
+
+  /**
+   * Help shift the start and end of a Series Event by {@param shift}.
+   *
+   * @param event event to be shifted
+   * @param shift time shifted
+   * @return shifted event
+   * @throws UnsupportedOperationException if the shifted event leaves its day
+   */
+  private EventInterface shiftWithinDayHelper(EventInterface event, Duration shift)
+      throws UnsupportedOperationException {
+    LocalDateTime shiftedStart = event.getStartDateTime().plus(shift);
+    LocalDateTime shiftedEnd = event.getEndDateTime().plus(shift);
+    if (!shiftedStart.toLocalDate().equals(event.getStartDateTime().toLocalDate())
+        || !shiftedEnd.toLocalDate().equals(shiftedStart.toLocalDate())) {
+      throw new UnsupportedOperationException("A series event must not span more than one day");
+    }
+    return this.eventEditor.editEvent(event, new EventPatch.EventPatchBuilder()
+        .setStartDateTime(shiftedStart)
+        .setEndDateTime(shiftedEnd)
+        .build());
   }
 
 
@@ -271,20 +362,23 @@ public class SeriesUpdater {
    * ones in the original Series. (Our design doesn't allow Series Event to span more than 1 day,
    * so updating end date is not supported.)
    *
-   * @param series   series to be updated
-   * @param startAt  start date and time of the target event in the Series
-   * @param newValue new end time
+   * @param series         series to be updated
+   * @param startAt        start date and time of the target event in the Series
+   * @param newEndDateTime new end date and time
    * @throws UnsupportedOperationException if try to update end date
    */
   private void handleSeriesAllUpdateEventEndDateTimeHelper(SeriesInterface series,
                                                            LocalDateTime startAt,
-                                                           String newValue)
+                                                           LocalDateTime newEndDateTime)
       throws UnsupportedOperationException {
-    LocalDateTime newEndDateTime = LocalDateTime.parse(newValue);
     if (!startAt.toLocalDate().equals(newEndDateTime.toLocalDate())) {
       throw new UnsupportedOperationException("A series event must not span more than one day");
     }
-    List<EventInterface> eventsToBeUpdated = this.eventManager.filterEventsInSeries(series);
+    if (updateSeriesRuleEndHelper(series, LocalDateTime.MIN, newEndDateTime)) {
+      return;
+    }
+    List<EventInterface> eventsToBeUpdated = this.eventManager.query(
+        new EventQuery.EventQueryBuilder().setSeries(series).build());
     updateSeriesEventEndHelper(newEndDateTime, eventsToBeUpdated);
   }
 
@@ -295,51 +389,17 @@ public class SeriesUpdater {
    *
    * @param series   series to be updated
    * @param property property to be updated
-   * @param newValue new property value
+   * @param patch    new property value
    */
   private void handleSeriesAllUpdateEventPropertyHelper(SeriesInterface series,
                                                         EventProperty property,
-                                                        String newValue) {
-    List<EventInterface> eventsToBeUpdated = this.eventManager.filterEventsInSeries(series);
-    this.eventManager.updateEventsProperty(eventsToBeUpdated, property, newValue, this.eventEditor);
-  }
-
-  /**
-   * Help update the date of {@param events} to match recurring weekdays of {@param series} starting
-   * from {@param startDate}.
-   *
-   * @param series    series to be attached
-   * @param events    events to be shifted to match weekdays
-   * @param startDate series start date
-   * @return list of matched events
-   */
-  public List<EventInterface> matchSeriesEventsWeekdays(SeriesInterface series,
-                                                        List<EventInterface> events,
-                                                        LocalDate startDate) {
-    events.sort(Comparator.comparing(EventInterface::getStartDateTime));
-    Set<Weekday> weekdays = series.getWeekdays();
-    List<EventInterface> updatedEvents = new ArrayList<>();
-
-    LocalDate currentDate = startDate;
-
-    for (EventInterface event : events) {
-      LocalTime startTime = event.getStartDateTime().toLocalTime();
-      LocalTime endTime = event.getEndDateTime().toLocalTime();
-
-      while (!weekdays.contains(Weekday.valueOf(currentDate.getDayOfWeek().toString()))) {
-        currentDate = currentDate.plusDays(1);
-      }
-
-      LocalDateTime newStart = LocalDateTime.of(currentDate, startTime);
-      LocalDateTime newEnd = LocalDateTime.of(currentDate, endTime);
-
-      EventInterface updatedEvent =
-          eventEditor.editEvent(event, EventProperty.START, newStart.toString());
-      updatedEvent = eventEditor.editEvent(updatedEvent, EventProperty.END, newEnd.toString());
-      updatedEvents.add(updatedEvent);
-
-      currentDate = currentDate.plusDays(1);
+                                                        EventPatch patch) {
+    if (this.eventManager.updateSeriesFrom(series, LocalDateTime.MIN, property,
+        event -> this.eventEditor.editEvent(event, patch))) {
+      return;
     }
-    return updatedEvents;
+    List<EventInterface> eventsToBeUpdated = this.eventManager.query(
+        new EventQuery.EventQueryBuilder().setSeries(series).build());
+    this.eventManager.updateEventsProperty(eventsToBeUpdated, property, patch);
   }
 }
@@ -2,18 +2,30 @@ package model.event;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.Objects;
 
 /**
- * This class represents a SingleEvent.
+ * This class represents a SingleEvent. When it is built with the {@link StringPool} of an
+ * EventManager, its strings are the canonical instances of that pool whenever the pool holds them.
+ *
+ * <p>Start and end are kept as epoch seconds, with their nanoseconds alongside, and the hash of
+ * the identity is computed once, so hash set and map probes neither allocate nor rehash dates.
+ * The LocalDateTimes are created the first time they are asked for; threads racing on the first
+ * call may each create one, and the results are equal.
  */
 public class SingleEvent implements EventInterface {
   private final String subject;
-  private final LocalDateTime startDateTime;
-  private final LocalDateTime endDateTime;
+  private final long startSecond;
+  private final int startNano;
+  private final long endSecond;
+  private final int endNano;
+  private final int hash;
   private final String description;
   private final String location;
   private final EventStatus status;
+  private LocalDateTime startDateTime;
+  private LocalDateTime endDateTime;
 
   /**
    * Create an SingleEvent with given subject, start date/time, end date/time, description,
@@ -25,12 +37,20 @@ public class SingleEvent implements EventInterface {
    * @param description   event description
    * @param location      event location
    * @param status        event status
+   * @throws NullPointerException if start or end date and time is null
    */
   private SingleEvent(String subject, LocalDateTime startDateTime, LocalDateTime endDateTime,
-                      String description, String location, EventStatus status) {
+                      String description, String location, EventStatus status)
+      throws NullPointerException {
+    Objects.requireNonNull(startDateTime, "Event start date and time cannot be null");
+    Objects.requireNonNull(endDateTime, "Event end date and time cannot be null");
     this.subject = subject;
-    this.startDateTime = startDateTime;
-    this.endDateTime = endDateTime;
+    this.startSecond = startDateTime.toEpochSecond(ZoneOffset.UTC);
+    this.startNano = startDateTime.getNano();
+    this.endSecond = endDateTime.toEpochSecond(ZoneOffset.UTC);
+    this.endNano = endDateTime.getNano();
+    this.hash = hashHelper(subject, this.startSecond, this.startNano, this.endSecond,
+        this.endNano);
     this.description = description;
     this.location = location;
     this.status = status;
@@ -43,12 +63,22 @@ public class SingleEvent implements EventInterface {
 
   @Override
   public LocalDateTime getStartDateTime() {
-    return this.startDateTime;
+    LocalDateTime start = this.startDateTime;
+    if (start == null) {
+      start = LocalDateTime.ofEpochSecond(this.startSecond, this.startNano, ZoneOffset.UTC);
+      this.startDateTime = start;
+    }
+    return start;
   }
 
   @Override
   public LocalDateTime getEndDateTime() {
-    return this.endDateTime;
+    LocalDateTime end = this.endDateTime;
+    if (end == null) {
+      end = LocalDateTime.ofEpochSecond(this.endSecond, this.endNano, ZoneOffset.UTC);
+      this.endDateTime = end;
+    }
+    return end;
   }
 
   @Override
@@ -72,8 +102,8 @@ public class SingleEvent implements EventInterface {
   public SingleEventBuilder toBuilder() {
     return new SingleEventBuilder()
         .setSubject(this.subject)
-        .setStartDateTime(this.startDateTime)
-        .setEndDateTime(this.endDateTime)
+        .setStartDateTime(getStartDateTime())
+        .setEndDateTime(getEndDateTime())
         .setDescription(this.description)
         .setLocation(this.location)
         .setStatus(this.status);
@@ -89,20 +119,41 @@ public class SingleEvent implements EventInterface {
     }
 
     SingleEvent that = (SingleEvent) o;
-    return this.subject.equals(that.subject)
-        && this.startDateTime.equals(that.startDateTime)
-        && this.endDateTime.equals(that.endDateTime);
+    return this.hash == that.hash
+        && this.startSecond == that.startSecond && this.startNano == that.startNano
+        && this.endSecond == that.endSecond && this.endNano == that.endNano
+        && this.subject.equals(that.subject);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.subject, this.startDateTime, this.endDateTime);
+    return this.hash;
+  }
+
+  /**
+   * Help hash the identity of an event from its packed start and end.
+   *
+   * @param subject     event subject
+   * @param startSecond start in epoch seconds
+   * @param startNano   nanoseconds of the start
+   * @param endSecond   end in epoch seconds
+   * @param endNano     nanoseconds of the end
+   * @return hash
+   */
+  private static int hashHelper(String subject, long startSecond, int startNano, long endSecond,
+                                int endNano) {
+    int hash = Objects.hashCode(subject);
+    hash = hash * 31 + Long.hashCode(startSecond);
+    hash = hash * 31 + startNano;
+    hash = hash * 31 + Long.hashCode(endSecond);
+    return hash * 31 + endNano;
   }
 
   /**
    * This class extends EventBuilder to build SingleEvent.
    */
   public static class SingleEventBuilder implements EventBuilderInterface {
+    private final StringPool strings;
     private String subject;
     private LocalDateTime startDateTime;
     private LocalDateTime endDateTime;
@@ -114,6 +165,16 @@ public class SingleEvent implements EventInterface {
      * Create an empty builder.
      */
     public SingleEventBuilder() {
+      this(null);
+    }
+
+    /**
+     * Create an empty builder replacing strings by their canonical instances in {@param strings}.
+     *
+     * @param strings string pool, or null to keep strings as given
+     */
+    SingleEventBuilder(StringPool strings) {
+      this.strings = strings;
     }
 
     @Override
@@ -161,8 +222,13 @@ public class SingleEvent implements EventInterface {
 
     @Override
     public EventInterface build() {
-      return new SingleEvent(this.subject, this.startDateTime, this.endDateTime, this.description,
-          this.location, this.status);
+      if (this.strings == null) {
+        return new SingleEvent(this.subject, this.startDateTime, this.endDateTime,
+            this.description, this.location, this.status);
+      }
+      return new SingleEvent(this.strings.canonical(this.subject), this.startDateTime,
+          this.endDateTime, this.strings.canonical(this.description),
+          this.strings.canonical(this.location), this.status);
     }
   }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package model.event;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class represents a reference-counted dictionary of strings. Each string is kept once, as
+ * its canonical instance, and referred to by a small integer id, so that many events or columns
+ * holding the same subject, location or description share one string. Holders acquire a string
+ * when they start keeping it and release it when they stop; a string nobody holds leaves the pool
+ * and its id is reused. The id of null is {@link #NULL_ID}.
+ *
+ * <p>Each EventManager owns a pool holding the strings of its stored events and Series rules, and
+ * builds the events it keeps with a {@link SingleEvent.SingleEventBuilder} of that pool, which
+ * replaces the strings it is given by their canonical instances, so equal strings of the events of
+ * one EventManager are the same object and compare by reference. Every method is synchronized, so
+ * canonical instances and ids may be looked up while another thread acquires or releases.
+ */
+class StringPool {
+  /**
+   * Id standing for a null string.
+   */
+  static final int NULL_ID = -1;
+
+  /**
+   * Id returned for a string that is not in the pool.
+   */
+  static final int ABSENT_ID = -2;
+
+  private final Map<String, Entry> entries;
+  private final Deque<Integer> freeIds;
+  private String[] values;
+  private int[] counts;
+  private int nextId;
+
+  /**
+   * Create an empty StringPool.
+   */
+  StringPool() {
+    this.entries = new HashMap<>();
+    this.freeIds = new ArrayDeque<>();
+    this.values = new String[16];
+    this.counts = new int[16];
+    this.nextId = 0;
+  }
+
+  /**
+   * Hold {@param value}, adding it to the pool if needed.
+   *
+   * @param value string, possibly null
+   * @return id of the string
+   */
+  synchronized int acquire(String value) {
+    if (value == null) {
+      return NULL_ID;
+    }
+    Entry entry = this.entries.get(value);
+    if (entry == null) {
+      int id = this.freeIds.isEmpty() ? this.nextId++ : this.freeIds.pop();
+      if (id == this.values.length) {
+        this.values = Arrays.copyOf(this.values, id * 2);
+        this.counts = Arrays.copyOf(this.counts, id * 2);
+      }
+      entry = new Entry(value, id);
+      this.values[id] = value;
+      this.entries.put(value, entry);
+    }
+    this.counts[entry.id] += 1;
+    return entry.id;
+  }
+
+  /**
+   * Stop holding {@param value}. The string leaves the pool once nobody holds it.
+   *
+   * @param value string, possibly null
+   * @throws IllegalStateException if the string is not held
+   */
+  synchronized void release(String value) throws IllegalStateException {
+    if (value == null) {
+      return;
+    }
+    Entry entry = this.entries.get(value);
+    if (entry == null) {
+      throw new IllegalStateException("String is not in the pool");
+    }
+    this.counts[entry.id] -= 1;
+    if (this.counts[entry.id] == 0) {
+      this.entries.remove(value);
+      this.values[entry.id] = null;
+      this.freeIds.push(entry.id);
+    }
+  }
+
+  /**
+   * Get the canonical instance of {@param value}.
+   *
+   * @param value string, possibly null
+   * @return pooled instance equal to the string, or the string itself if it is not pooled
+   */
+  synchronized String canonical(String value) {
+    if (value == null) {
+      return null;
+    }
+    Entry entry = this.entries.get(value);
+    return entry == null ? value : entry.value;
+  }
+
+  /**
+   * Get the id of {@param value} without holding it.
+   *
+   * @param value string, possibly null
+   * @return id of the string, or {@link #ABSENT_ID} if it is not in the pool
+   */
+  synchronized int find(String value) {
+    if (value == null) {
+      return NULL_ID;
+    }
+    Entry entry = this.entries.get(value);
+    return entry == null ? ABSENT_ID : entry.id;
+  }
+
+  /**
+   * Get the string with id {@param id}.
+   *
+   * @param id id of a held string, or {@link #NULL_ID}
+   * @return string, or null for {@link #NULL_ID}
+   */
+  synchronized String valueOf(int id) {
+    return id == NULL_ID ? null : this.values[id];
+  }
+
+  /**
+   * Get the number of times {@param value} is held.
+   *
+   * @param value string
+   * @return reference count, 0 if it is not in the pool
+   */
+  synchronized int countOf(String value) {
+    Entry entry = value == null ? null : this.entries.get(value);
+    return entry == null ? 0 : this.counts[entry.id];
+  }
+
+  /**
+   * Get the number of distinct strings in the pool.
+   *
+   * @return number of strings
+   */
+  synchronized int size() {
+    return this.entries.size();
+  }
+
+  /**
+   * This class represents a pooled string and its id.
+   */
+  private static final class Entry {
+    private final String value;
+    private final int id;
+
+    /**
+     * Create an Entry of {@param value} with id {@param id}.
+     *
+     * @param value canonical string
+     * @param id    string id
+     */
+    private Entry(String value, int id) {
+      this.value = value;
+      this.id = id;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package model.event;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * This class represents the version of a changing collection together with an immutable snapshot
+ * of it. The owner advances the version on every change, and a snapshot is rebuilt at most once
+ * per version, when it is read. Changes grouped in an update scope ({@link #beginUpdate()},
+ * {@link #endUpdate()}) publish a single new version when the scope closes: until then, reads
+ * keep returning the snapshot published before the scope opened.
+ *
+ * <p>Each snapshot is a full copy of the collection: versions share no structure, so building one
+ * costs as much as reading every item. Only the owner may change the collection, advance the
+ * version, open scopes and build snapshots, from one thread at a time. The version and the
+ * published snapshot are volatile, so a snapshot, once returned, can be handed to other threads
+ * and read there without locking, and always shows one complete version.
+ *
+ * @param <T> type of items in the snapshot
+ */
+class VersionedSnapshot<T> {
+  private volatile long version;
+  private volatile Published<T> published;
+  private int updateDepth;
+
+  /**
+   * Create a VersionedSnapshot of an empty collection at version 0.
+   */
+  VersionedSnapshot() {
+    this.version = 0;
+    this.published = new Published<>(0, List.of());
+    this.updateDepth = 0;
+  }
+
+  /**
+   * Record a change, so the next read outside an update scope rebuilds the snapshot.
+   */
+  void advance() {
+    this.version += 1;
+  }
+
+  /**
+   * Get the current version.
+   *
+   * @return current version
+   */
+  long getVersion() {
+    return this.version;
+  }
+
+  /**
+   * Get the snapshot of the current version, built by {@param build} if it is out of date and no
+   * update scope is open.
+   *
+   * @param build function building the items of the current version
+   * @return unmodifiable snapshot
+   */
+  List<T> get(Supplier<List<T>> build) {
+    Published<T> current = this.published;
+    long version = this.version;
+    if (this.updateDepth == 0 && current.version != version) {
+      current = new Published<>(version, Collections.unmodifiableList(build.get()));
+      this.published = current;
+    }
+    return current.items;
+  }
+
+  /**
+   * Open an update scope. Scopes can be nested.
+   */
+  void beginUpdate() {
+    this.updateDepth += 1;
+  }
+
+  /**
+   * Close an update scope.
+   *
+   * @throws IllegalStateException if no update scope is open
+   */
+  void endUpdate() throws IllegalStateException {
+    if (this.updateDepth == 0) {
+      throw new IllegalStateException("No update in progress");
+    }
+    this.updateDepth -= 1;
+  }
+
+  /**
+   * This class represents a published snapshot and the version it was built at.
+   *
+   * @param <T> type of items in the snapshot
+   */
+  private static final class Published<T> {
+    private final long version;
+    private final List<T> items;
+
+    /**
+     * Create a Published snapshot of {@param items} at {@param version}.
+     *
+     * @param version version the items were built at
+     * @param items   unmodifiable items
+     */
+    private Published(long version, List<T> items) {
+      this.version = version;
+      this.items = items;
+    }
+  }
+}
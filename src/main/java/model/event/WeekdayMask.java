@@ -0,0 +1,223 @@
+package model.event;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import model.calendar.Weekday;
+
+/**
+ * This class represents a set of weekdays as a 7-bit mask, bit 0 being Monday and bit 6 Sunday.
+ * Finding the next or previous matching date, the Nth matching date and the number of matching
+ * dates in a range is done by rotating the mask to the weekday of a date and counting bits, so it
+ * takes constant time instead of stepping through the calendar one day at a time.
+ */
+public final class WeekdayMask {
+  private static final int DAYS_IN_WEEK = 7;
+  private static final int ALL_DAYS = (1 << DAYS_IN_WEEK) - 1;
+  private static final Weekday[] WEEKDAYS = Weekday.values();
+
+  private final int mask;
+
+  /**
+   * Create a WeekdayMask from raw bits.
+   *
+   * @param mask weekday bits, bit 0 being Monday
+   */
+  private WeekdayMask(int mask) {
+    this.mask = mask & ALL_DAYS;
+  }
+
+  /**
+   * Create the WeekdayMask of {@param weekdays}.
+   *
+   * @param weekdays set of weekdays
+   * @return weekday mask
+   */
+  public static WeekdayMask of(Set<Weekday> weekdays) {
+    int mask = 0;
+    for (Weekday weekday : weekdays) {
+      mask |= 1 << weekday.ordinal();
+    }
+    return new WeekdayMask(mask);
+  }
+
+  /**
+   * Get the Weekday of {@param date} without going through its name.
+   *
+   * @param date given date
+   * @return weekday
+   */
+  public static Weekday weekdayOf(LocalDate date) {
+    return WEEKDAYS[indexOf(date)];
+  }
+
+  /**
+   * Check whether {@param date} falls on one of the weekdays.
+   *
+   * @param date given date
+   * @return true if the weekday of the date is in the mask
+   */
+  public boolean contains(LocalDate date) {
+    return (this.mask & (1 << indexOf(date))) != 0;
+  }
+
+  /**
+   * Check whether the mask has no weekday.
+   *
+   * @return true if empty
+   */
+  public boolean isEmpty() {
+    return this.mask == 0;
+  }
+
+  /**
+   * Get the number of weekdays in the mask.
+   *
+   * @return number of weekdays
+   */
+  public int size() {
+    return Integer.bitCount(this.mask);
+  }
+
+  /**
+   * Get the weekdays in the mask.
+   *
+   * @return set of weekdays
+   */
+  public Set<Weekday> toSet() {
+    Set<Weekday> weekdays = EnumSet.noneOf(Weekday.class);
+    for (Weekday weekday : WEEKDAYS) {
+      if ((this.mask & (1 << weekday.ordinal())) != 0) {
+        weekdays.add(weekday);
+      }
+    }
+    return weekdays;
+  }
+
+  /**
+   * Get the weekdays in both this mask and {@param other}.
+   *
+   * @param other other mask
+   * @return intersection of the masks
+   */
+  public WeekdayMask intersect(WeekdayMask other) {
+    return new WeekdayMask(this.mask & other.mask);
+  }
+
+  /**
+   * Find the first matching date on or after {@param date}.
+   *
+   * @param date earliest date
+   * @return matching date, or null if the mask is empty
+   */
+  public LocalDate next(LocalDate date) {
+    if (this.mask == 0) {
+      return null;
+    }
+    return date.plusDays(Integer.numberOfTrailingZeros(rotate(indexOf(date))));
+  }
+
+  /**
+   * Find the last matching date on or before {@param date}.
+   *
+   * @param date latest date
+   * @return matching date, or null if the mask is empty
+   */
+  public LocalDate previous(LocalDate date) {
+    if (this.mask == 0) {
+      return null;
+    }
+    int highest = 31 - Integer.numberOfLeadingZeros(rotate((indexOf(date) + 1) % DAYS_IN_WEEK));
+    return date.minusDays(DAYS_IN_WEEK - 1 - highest);
+  }
+
+  /**
+   * Find the {@param n}th matching date on or after {@param date}, counting from 0.
+   *
+   * @param date earliest date
+   * @param n    index of the matching date
+   * @return matching date, or null if the mask is empty
+   */
+  public LocalDate nth(LocalDate date, long n) {
+    LocalDate first = next(date);
+    if (first == null) {
+      return null;
+    }
+    int perWeek = size();
+    int rotated = rotate(indexOf(first));
+    for (long i = 0; i < n % perWeek; i++) {
+      rotated &= rotated - 1;
+    }
+    return first.plusDays(n / perWeek * DAYS_IN_WEEK + Integer.numberOfTrailingZeros(rotated));
+  }
+
+  /**
+   * Find the last of {@param count} matching dates starting on or after {@param date}, or the last
+   * matching date up to {@param until} when there is no count.
+   *
+   * @param date  earliest date
+   * @param count number of matching dates, or null if bounded by {@code until}
+   * @param until latest date, used when {@code count} is null
+   * @return last matching date, or null if there is none
+   */
+  public LocalDate last(LocalDate date, Integer count, LocalDate until) {
+    if (count != null) {
+      return count > 0 ? nth(date, count - 1) : null;
+    }
+    LocalDate first = next(date);
+    LocalDate last = until == null ? null : previous(until);
+    return first == null || last == null || last.isBefore(first) ? null : last;
+  }
+
+  /**
+   * Count the matching dates between {@param from} and {@param to}, both inclusive.
+   *
+   * @param from first date
+   * @param to   last date
+   * @return number of matching dates
+   */
+  public long countBetween(LocalDate from, LocalDate to) {
+    long days = to.toEpochDay() - from.toEpochDay() + 1;
+    if (days <= 0) {
+      return 0;
+    }
+    int rest = (int) (days % DAYS_IN_WEEK);
+    return days / DAYS_IN_WEEK * size()
+        + Integer.bitCount(rotate(indexOf(from)) & ((1 << rest) - 1));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof WeekdayMask && ((WeekdayMask) o).mask == this.mask;
+  }
+
+  @Override
+  public int hashCode() {
+    return this.mask;
+  }
+
+  @Override
+  public String toString() {
+    return toSet().toString();
+  }
+
+  /**
+   * Help rotate the mask so that bit i stands for the weekday {@param index} + i days later.
+   *
+   * @param index weekday index to move to bit 0
+   * @return rotated mask
+   */
+  private int rotate(int index) {
+    return ((this.mask >>> index) | (this.mask << (DAYS_IN_WEEK - index))) & ALL_DAYS;
+  }
+
+  /**
+   * Help get the weekday index of {@param date}, 0 being Monday.
+   *
+   * @param date given date
+   * @return weekday index
+   */
+  private static int indexOf(LocalDate date) {
+    return date.getDayOfWeek().getValue() - 1;
+  }
+}
@@ -1,17 +1,18 @@
 package model.event.command;
 
-import model.event.EventInterface;
+import model.event.EventPatch;
 
 /**
- * This interface represent command to update an event.
+ * This interface represent command to update an event. A command parses the new value of its
+ * property from text and sets it on a typed EventPatch.
  */
 public interface EventCommandInterface {
   /**
-   * Create a new Event with new value.
+   * Set the new value on a patch.
    *
-   * @param event    event to be updated
-   * @param newValue new value for event attribute
-   * @return updated event
+   * @param patch    patch to be updated
+   * @param newValue new value for event attribute, as text
+   * @return updated patch
    */
-  EventInterface execute(EventInterface event, String newValue);
+  EventPatch.EventPatchBuilder execute(EventPatch.EventPatchBuilder patch, String newValue);
 }
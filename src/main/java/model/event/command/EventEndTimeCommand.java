@@ -1,14 +1,15 @@
 package model.event.command;
 
 import java.time.LocalTime;
-import model.event.EventInterface;
+import model.event.EventPatch;
 
 /**
  * This class implements IEventCommand interface to update event end date and time.
  */
 public class EventEndTimeCommand implements EventCommandInterface {
   @Override
-  public EventInterface execute(EventInterface event, String newValue) {
-    return event.toBuilder().setEndTime(LocalTime.parse(newValue)).build();
+  public EventPatch.EventPatchBuilder execute(EventPatch.EventPatchBuilder patch,
+                                              String newValue) {
+    return patch.setEndTime(LocalTime.parse(newValue));
   }
 }
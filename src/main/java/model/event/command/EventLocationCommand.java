@@ -1,13 +1,14 @@
 package model.event.command;
 
-import model.event.EventInterface;
+import model.event.EventPatch;
 
 /**
  * This class implements IEventCommand interface to update event location.
  */
 public class EventLocationCommand implements EventCommandInterface {
   @Override
-  public EventInterface execute(EventInterface event, String newValue) {
-    return event.toBuilder().setLocation(newValue).build();
+  public EventPatch.EventPatchBuilder execute(EventPatch.EventPatchBuilder patch,
+                                              String newValue) {
+    return patch.setLocation(newValue);
   }
 }
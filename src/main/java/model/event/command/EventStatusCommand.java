@@ -1,6 +1,6 @@
 package model.event.command;
 
-import model.event.EventInterface;
+import model.event.EventPatch;
 import model.event.EventStatus;
 
 /**
@@ -9,8 +9,9 @@ import model.event.EventStatus;
 // TODO: test it with Event Read Only
 public class EventStatusCommand implements EventCommandInterface {
   @Override
-  public EventInterface execute(EventInterface event, String newValue)
+  public EventPatch.EventPatchBuilder execute(EventPatch.EventPatchBuilder patch,
+                                              String newValue)
       throws IllegalArgumentException {
-    return event.toBuilder().setStatus(EventStatus.valueOf(newValue.toUpperCase())).build();
+    return patch.setStatus(EventStatus.valueOf(newValue.toUpperCase()));
   }
 }
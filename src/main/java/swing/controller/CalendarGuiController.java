@@ -152,7 +152,8 @@ public class CalendarGuiController implements CalendarControllerInterface, ViewL
         new EditEventOptionDialog((JFrame) view, editEventOptionCallback);
 
     EditSeriesCallback seriesCallback = new EditSeriesCallback(calendar, event);
-    EditSeriesDialog seriesDialog = new EditSeriesDialog((JFrame) view, seriesCallback);
+    EditSeriesDialog seriesDialog =
+        new EditSeriesDialog((JFrame) view, seriesCallback, calendar, event);
 
     EditEventCallback callback =
         new EditEventCallback(calendar, event, editEventOptionDialog, seriesDialog);
@@ -172,14 +173,9 @@ public class CalendarGuiController implements CalendarControllerInterface, ViewL
       model.activateCalendar(calendarName);
       CalendarModelInterface calendar = model.getActiveCalendar();
 
-      for (EventReadOnlyInterface event : calendar.getAllEventsReadOnly()) {
-        LocalDate eventStart = event.getStartDateTime().toLocalDate();
-        LocalDate eventEnd = event.getEndDateTime().toLocalDate();
-
-        if (!date.isBefore(eventStart) && !date.isAfter(eventEnd)) {
-          events.add(event);
-          eventCalendarNames.put(event, calendarName);
-        }
+      for (EventReadOnlyInterface event : calendar.getEventsForDays(date, date)) {
+        events.add(event);
+        eventCalendarNames.put(event, calendarName);
       }
     }
 
@@ -220,7 +216,7 @@ public class CalendarGuiController implements CalendarControllerInterface, ViewL
       model.activateCalendar(calendarName);
       CalendarModelInterface calendar = model.getActiveCalendar();
       Color color = this.colorMap.get(calendarName);
-      for (EventReadOnlyInterface event : calendar.getAllEventsReadOnly()) {
+      for (EventReadOnlyInterface event : calendar.getEventsForDays(monthStart, monthEnd)) {
         LocalDate eventDate = event.getStartDateTime().toLocalDate();
         if (!eventDate.isBefore(monthStart) && !eventDate.isAfter(monthEnd)) {
           view.renderEvent(event, color);
@@ -253,12 +253,19 @@ public class DayEventsDialog extends JDialog {
 
       Integer occurrences = calendarManager.getActiveCalendar().getSeriesOccurrence(event);
       LocalDate until = calendarManager.getActiveCalendar().getSeriesUntilEnd(event);
+      Integer remaining = calendarManager.getActiveCalendar()
+          .getSeriesRemainingCount(event, event.getStartDateTime().toLocalDate());
 
       String recurringText;
       if (occurrences != null) {
         recurringText = "Recurring on " + weekdayString + " for " + occurrences + " times";
-      } else {
+      } else if (until != null) {
         recurringText = "Recurring on " + weekdayString + " until " + until;
+      } else {
+        recurringText = "Recurring on " + weekdayString + " with no end";
+      }
+      if (remaining != null) {
+        recurringText += ", " + remaining + " more after this day";
       }
 
       JLabel recurLabel = new JLabel(recurringText);
@@ -1,7 +1,10 @@
 package swing.view.dialogs.event;
 
 import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Font;
 import java.awt.GridLayout;
+import java.time.LocalDate;
 import javax.swing.ButtonGroup;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
@@ -9,6 +12,8 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JRadioButton;
 import javax.swing.border.EmptyBorder;
+import model.calendar.CalendarModelInterface;
+import model.event.EventReadOnlyInterface;
 import swing.controller.callbacks.DialogCallbackInterface;
 import swing.view.dialogs.event.data.BaseData;
 import swing.view.dialogs.event.data.SeriesData;
@@ -17,7 +22,8 @@ import swing.view.dialogs.event.forms.DialogButtonPanel;
 /**
  * A dialog for selecting how a recurring event should be edited.
  * Provides options to edit a single occurrence, the selected occurrence
- * and all following ones, or the entire series.
+ * and all following ones, or the entire series, and shows how many occurrences
+ * follow the selected one and when the series ends.
  */
 public class EditSeriesDialog extends JDialog {
   private final JRadioButton editStartFrom;
@@ -30,18 +36,26 @@ public class EditSeriesDialog extends JDialog {
    *
    * @param parent   parent frame
    * @param callback callback to receive user selection
+   * @param calendar calendar containing the event
+   * @param event    event being edited
    */
-  public EditSeriesDialog(JFrame parent, DialogCallbackInterface<SeriesData> callback) {
+  public EditSeriesDialog(JFrame parent, DialogCallbackInterface<SeriesData> callback,
+                          CalendarModelInterface calendar, EventReadOnlyInterface event) {
     super(parent, "Edit Series", true);
     this.callback = callback;
 
-    setSize(400, 250);
+    setSize(400, 280);
     setLocationRelativeTo(parent);
     setLayout(new BorderLayout(10, 10));
 
-    JLabel title = new JLabel("Edit Recurring Event");
-    title.setBorder(new EmptyBorder(10, 10, 10, 10));
-    add(title, BorderLayout.NORTH);
+    JPanel titlePanel = new JPanel(new GridLayout(2, 1));
+    titlePanel.setBorder(new EmptyBorder(10, 10, 10, 10));
+    titlePanel.add(new JLabel("Edit Recurring Event"));
+    JLabel summary = new JLabel(seriesSummaryHelper(calendar, event));
+    summary.setFont(new Font("Arial", Font.PLAIN, 13));
+    summary.setForeground(Color.GRAY);
+    titlePanel.add(summary);
+    add(titlePanel, BorderLayout.NORTH);
 
     JRadioButton editSingle = new JRadioButton("This event");
     editSingle.setSelected(true);
@@ -84,6 +98,28 @@ public class EditSeriesDialog extends JDialog {
     editSeries.setEnabled(false);
   }
 
+  /**
+   * Describe how many occurrences of the series follow the day of the event and when the series
+   * ends.
+   *
+   * @param calendar calendar containing the event
+   * @param event    event being edited
+   * @return summary text, empty if the event is not part of a series
+   */
+  private String seriesSummaryHelper(CalendarModelInterface calendar,
+                                     EventReadOnlyInterface event) {
+    if (!calendar.isSeriesEvent(event)) {
+      return "";
+    }
+    Integer remaining =
+        calendar.getSeriesRemainingCount(event, event.getStartDateTime().toLocalDate());
+    LocalDate lastDate = calendar.getSeriesLastDate(event);
+    if (remaining == null || lastDate == null) {
+      return "Recurring with no end";
+    }
+    return remaining + " more after this event, the last on " + lastDate;
+  }
+
   /**
    * Handle save helper.
    */
@@ -119,6 +119,34 @@ public class CreateEventCommandTest {
     assertTrue(modelLog.toString().contains("createSeriesEventWithEndDate"));
   }
 
+  @Test
+  public void testCreateSeriesEventForever() {
+    String cmd = "create event \"Gym\" from 2025-10-24T10:00 to 2025-10-24T11:00 repeats TR "
+        + "forever";
+    command.execute(cmd, mockModel, view);
+
+    assertTrue(modelLog.toString().contains("createSeriesEventWithoutEnd"));
+    assertTrue(modelLog.toString().contains("Gym"));
+    assertTrue(viewOutput.toString().contains("created without end"));
+  }
+
+  @Test
+  public void testCreateAllDaySeriesForever() {
+    String cmd = "create event \"Holiday\" on 2025-10-24 repeats MWF forever";
+    command.execute(cmd, mockModel, view);
+
+    assertTrue(modelLog.toString().contains("createAllDaySeriesEventWithoutEnd"));
+    assertTrue(modelLog.toString().contains("Holiday"));
+    assertTrue(viewOutput.toString().contains("created without end"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCreateSeriesForeverNeedsWholeWord() {
+    String cmd = "create event \"Gym\" from 2025-10-24T10:00 to 2025-10-24T11:00 repeats TR "
+        + "formerly forever";
+    command.execute(cmd, mockModel, view);
+  }
+
   @Test
   public void testCreateAllDaySeriesWithOccurrences() {
     String cmd = "create event \"Holiday\" on 2025-10-24 repeats MWF for 5 times";
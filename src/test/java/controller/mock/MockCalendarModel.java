@@ -1,6 +1,7 @@
 package controller.mock;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import model.calendar.CalendarModelInterface;
@@ -63,6 +64,16 @@ public class MockCalendarModel implements CalendarModelInterface {
         .append(untilDate).append("\n");
   }
 
+  @Override
+  public void createSeriesEventWithoutEnd(String subject, String startDateTime,
+                                          String endDateTime, Set<Weekday> weekdays) {
+    log.append("createSeriesEventWithoutEnd: ")
+        .append(subject).append(", ")
+        .append(startDateTime).append(", ")
+        .append(endDateTime).append(", ")
+        .append(weekdays).append("\n");
+  }
+
   @Override
   public void createAllDaySeriesEventWithOccurrence(String subject, String date,
                                                     Set<Weekday> weekdays, int occurrences) {
@@ -83,6 +94,15 @@ public class MockCalendarModel implements CalendarModelInterface {
         .append(untilDate).append("\n");
   }
 
+  @Override
+  public void createAllDaySeriesEventWithoutEnd(String subject, String date,
+                                                Set<Weekday> weekdays) {
+    log.append("createAllDaySeriesEventWithoutEnd: ")
+        .append(subject).append(", ")
+        .append(date).append(", ")
+        .append(weekdays).append("\n");
+  }
+
   @Override
   public void editSingleEvent(List<String> args) {
     String subject = args.get(0);
@@ -138,12 +158,26 @@ public class MockCalendarModel implements CalendarModelInterface {
     return CalendarStatus.BUSY;
   }
 
+  @Override
+  public List<CalendarStatus> isBusy(List<LocalDateTime> dateTimes) {
+    log.append("isBusy: ").append(dateTimes).append("\n");
+    return List.of();
+  }
+
   @Override
   public List<EventReadOnlyInterface> getAllEventsReadOnly() {
     log.append("getAllEvents\n");
     return List.of();
   }
 
+  @Override
+  public List<EventReadOnlyInterface> getEventsForDays(LocalDate from, LocalDate to) {
+    log.append("getEventsForDays: ")
+        .append(from).append(", ")
+        .append(to).append("\n");
+    return List.of();
+  }
+
   @Override
   public boolean isSeriesEvent(EventReadOnlyInterface event) {
     log.append("Check").append(event.getSubject()).append("is a series or not");
@@ -167,4 +201,23 @@ public class MockCalendarModel implements CalendarModelInterface {
     log.append("getSeriesOccurrence of series of").append(event.getSubject());
     return 0;
   }
-}
\ No newline at end of file
+
+  @Override
+  public Integer getSeriesOccurrenceCount(EventReadOnlyInterface event) {
+    log.append("getSeriesOccurrenceCount of series of").append(event.getSubject());
+    return 0;
+  }
+
+  @Override
+  public Integer getSeriesRemainingCount(EventReadOnlyInterface event, LocalDate date) {
+    log.append("getSeriesRemainingCount of series of").append(event.getSubject())
+        .append(" after ").append(date);
+    return 0;
+  }
+
+  @Override
+  public LocalDate getSeriesLastDate(EventReadOnlyInterface event) {
+    log.append("getSeriesLastDate of series of").append(event.getSubject());
+    return null;
+  }
+}
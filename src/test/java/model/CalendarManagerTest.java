@@ -5,6 +5,7 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.time.DateTimeException;
+import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
 import java.util.Set;
 import model.calendar.CalendarExistException;
@@ -12,6 +13,7 @@ import model.calendar.CalendarManager;
 import model.calendar.CalendarManagerInterface;
 import model.calendar.CalendarModelInterface;
 import model.calendar.CalendarNotFoundException;
+import model.calendar.CalendarStatus;
 import model.calendar.Weekday;
 import model.event.EventExistException;
 import model.event.EventNotFoundException;
@@ -76,6 +78,30 @@ public class CalendarManagerTest {
         calendar.getEventsInRange("2025-11-01T13:35", "2025-11-10T17:40").trim());
   }
 
+  @Test
+  public void testEditTimezoneShiftsSeriesWithoutEnd() {
+    this.calendarManager.addCalendar("Boston", "America/New_York");
+    this.calendarManager.activateCalendar("Boston");
+    CalendarModelInterface calendar = this.calendarManager.getActiveCalendar();
+    calendar.createSeriesEventWithoutEnd("Gym", "2025-10-07T13:00", "2025-10-07T14:00",
+        Set.of(Weekday.TUESDAY));
+
+    this.calendarManager.editCalendar("Boston", "timezone", "America/Chicago");
+    assertEquals("subject Gym starting on 2030-10-08 at 12:00, ending on 2030-10-08 at 13:00",
+        calendar.getEventsOnDate("2030-10-08").trim());
+    assertEquals("subject Gym starting on 2031-01-07 at 12:00, ending on 2031-01-07 at 13:00",
+        calendar.getEventsOnDate("2031-01-07").trim());
+    assertEquals(CalendarStatus.BUSY, calendar.isBusy("2030-10-08T12:30"));
+    assertEquals(CalendarStatus.AVAILABLE, calendar.isBusy("2030-10-08T13:30"));
+
+    assertThrows(UnsupportedOperationException.class,
+        () -> this.calendarManager.editCalendar("Boston", "timezone", "Asia/Taipei"));
+    assertEquals(ZoneId.of("America/Chicago"),
+        this.calendarManager.getCalendarTimezone("Boston"));
+    assertEquals("subject Gym starting on 2030-10-08 at 12:00, ending on 2030-10-08 at 13:00",
+        calendar.getEventsOnDate("2030-10-08").trim());
+  }
+
   @Test
   public void testEditCalendarException() {
     this.calendarManager.addCalendar("Taipei", "Asia/Taipei");
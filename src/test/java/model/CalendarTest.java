@@ -6,6 +6,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import model.calendar.Calendar;
@@ -522,6 +524,24 @@ public class CalendarTest {
     assertEquals(CalendarStatus.AVAILABLE, this.calendar.isBusy("2025-10-07T15:35"));
   }
 
+  @Test
+  public void testCalendarStatusBulk() {
+    this.calendar.createSingleEventWithTime("Lecture", "2025-11-05T09:00",
+        "2025-11-05T11:00");
+    this.calendar.createSingleEventWithTime("Lab", "2025-11-05T11:00",
+        "2025-11-05T12:00");
+    List<LocalDateTime> dateTimes = List.of(LocalDateTime.parse("2025-11-05T08:59"),
+        LocalDateTime.parse("2025-11-05T10:30"), LocalDateTime.parse("2025-11-05T11:30"),
+        LocalDateTime.parse("2025-11-05T12:01"));
+    assertEquals(List.of(CalendarStatus.AVAILABLE, CalendarStatus.BUSY, CalendarStatus.BUSY,
+        CalendarStatus.AVAILABLE), this.calendar.isBusy(dateTimes));
+
+    this.calendar.editSingleEvent(List.of("Lecture", "start", "2025-11-05T09:00",
+        "2025-11-05T11:00", "2025-11-05T07:00"));
+    assertEquals(List.of(CalendarStatus.BUSY, CalendarStatus.AVAILABLE, CalendarStatus.BUSY,
+        CalendarStatus.AVAILABLE), this.calendar.isBusy(dateTimes));
+  }
+
   @Test
   public void testEditSingleEventStartPreservesDuration() {
     this.calendar.createSingleEventWithTime("Lecture", "2025-11-05T09:00",
@@ -909,4 +929,142 @@ public class CalendarTest {
       assertNull(this.calendar.getSeriesOccurrence(event));
     }
   }
+
+  @Test
+  public void testGetEventsForDays() {
+    this.calendar.createSingleEventWithTime("Trip", "2025-11-03T10:00", "2025-11-06T12:00");
+    this.calendar.createSingleEventWithTime("Lecture", "2025-11-05T09:00", "2025-11-05T11:00");
+    this.calendar.createSeriesEventWithOccurrence("PDP", "2025-11-04T13:35",
+        "2025-11-04T15:15", Set.of(Weekday.TUESDAY, Weekday.FRIDAY), 3);
+
+    List<EventReadOnlyInterface> events = this.calendar.getEventsForDays(
+        LocalDate.parse("2025-11-04"), LocalDate.parse("2025-11-05"));
+    assertEquals(3, events.size());
+    assertEquals("Trip", events.get(0).getSubject());
+    assertEquals("PDP", events.get(1).getSubject());
+    assertEquals("Lecture", events.get(2).getSubject());
+
+    assertEquals(1, this.calendar.getEventsForDays(
+        LocalDate.parse("2025-11-06"), LocalDate.parse("2025-11-06")).size());
+    assertTrue(this.calendar.getEventsForDays(
+        LocalDate.parse("2025-11-09"), LocalDate.parse("2025-11-10")).isEmpty());
+  }
+
+  @Test
+  public void testEditStartTimeSeriesWithoutEnd() {
+    this.calendar.createSeriesEventWithoutEnd("Gym", "2025-10-07T13:00", "2025-10-07T14:00",
+        Set.of(Weekday.TUESDAY));
+    this.calendar.editSeriesStartFrom("Gym", "start", "2025-10-14T13:00", "2025-10-14T15:00");
+
+    assertEquals("subject Gym starting on 2030-10-08 at 15:00, ending on 2030-10-08 at 16:00",
+        this.calendar.getEventsOnDate("2030-10-08").trim());
+    assertEquals(CalendarStatus.BUSY, this.calendar.isBusy("2030-10-08T15:30"));
+    assertEquals(CalendarStatus.AVAILABLE, this.calendar.isBusy("2030-10-08T13:30"));
+  }
+
+  @Test
+  public void testEditStartDateSeriesWithoutEndStartFrom() {
+    this.calendar.createSeriesEventWithoutEnd("Gym", "2025-10-07T13:00", "2025-10-07T14:00",
+        Set.of(Weekday.TUESDAY));
+    this.calendar.editEventStartFrom("Gym", "start", "2025-10-14T13:00", "2025-10-16T15:00");
+
+    String expected =
+        "subject Gym starting on 2025-10-07 at 13:00, ending on 2025-10-07 at 14:00\n"
+            + "subject Gym starting on 2025-10-21 at 15:00, ending on 2025-10-21 at 16:00";
+    assertEquals(expected,
+        this.calendar.getEventsInRange("2025-10-07T00:00", "2025-10-22T00:00").trim());
+    assertEquals("subject Gym starting on 2030-10-08 at 15:00, ending on 2030-10-08 at 16:00",
+        this.calendar.getEventsOnDate("2030-10-08").trim());
+    assertNull(this.calendar.getSeriesLastDate(
+        this.calendar.getEventsForDays(LocalDate.parse("2030-10-08"),
+            LocalDate.parse("2030-10-08")).get(0)));
+  }
+
+  @Test
+  public void testEditStartTimeStartFromSplitsSeries() {
+    this.calendar.createSeriesEventWithOccurrence("Standup", "2025-11-03T09:00",
+        "2025-11-03T09:30", Set.of(Weekday.MONDAY, Weekday.WEDNESDAY, Weekday.FRIDAY), 6);
+    this.calendar.editEventStartFrom("Standup", "start", "2025-11-07T09:00", "2025-11-07T10:00");
+
+    List<EventReadOnlyInterface> events = this.calendar.getEventsForDays(
+        LocalDate.parse("2025-11-03"), LocalDate.parse("2025-11-14"));
+    assertEquals(LocalDate.parse("2025-11-05"), this.calendar.getSeriesLastDate(events.get(0)));
+    assertEquals(Integer.valueOf(0), this.calendar.getSeriesRemainingCount(events.get(0),
+        LocalDate.parse("2025-11-06")));
+    assertEquals(Integer.valueOf(4), this.calendar.getSeriesRemainingCount(events.get(2),
+        LocalDate.parse("2025-11-06")));
+
+    this.calendar.editSeriesStartFrom("Standup", "end", "2025-11-03T09:00", "2025-11-03T09:45");
+    String expected =
+        "subject Standup starting on 2025-11-05 at 09:00, ending on 2025-11-05 at 09:45\n"
+            + "subject Standup starting on 2025-11-07 at 10:00, ending on 2025-11-07 at 10:30";
+    assertEquals(expected,
+        this.calendar.getEventsInRange("2025-11-05T00:00", "2025-11-08T00:00").trim());
+  }
+
+  @Test
+  public void testEditSeriesEndBeforeStartRejected() {
+    this.calendar.createSeriesEventWithOccurrence("Standup", "2025-11-03T09:00",
+        "2025-11-03T09:30", Set.of(Weekday.MONDAY, Weekday.WEDNESDAY, Weekday.FRIDAY), 6);
+    this.calendar.editEventStartFrom("Standup", "end", "2025-11-07T09:00", "2025-11-07T10:00");
+
+    assertThrows(UnsupportedOperationException.class,
+        () -> this.calendar.editSeriesStartFrom("Standup", "end", "2025-11-03T09:00",
+            "2025-11-03T08:45"));
+    assertThrows(UnsupportedOperationException.class,
+        () -> this.calendar.editEventStartFrom("Standup", "end", "2025-11-10T09:00",
+            "2025-11-10T08:30"));
+    String expected =
+        "subject Standup starting on 2025-11-05 at 09:00, ending on 2025-11-05 at 09:30\n"
+            + "subject Standup starting on 2025-11-07 at 09:00, ending on 2025-11-07 at 10:00";
+    assertEquals(expected,
+        this.calendar.getEventsInRange("2025-11-05T00:00", "2025-11-08T00:00").trim());
+    assertEquals(CalendarStatus.BUSY, this.calendar.isBusy("2025-11-10T09:40"));
+  }
+
+  @Test
+  public void testEditSubjectSeriesWithoutEndStartFrom() {
+    this.calendar.createSeriesEventWithoutEnd("Gym", "2025-10-07T13:00", "2025-10-07T14:00",
+        Set.of(Weekday.TUESDAY));
+    this.calendar.editEventStartFrom("Gym", "subject", "2025-10-14T13:00", "Swim");
+
+    assertEquals("subject Gym starting on 2025-10-07 at 13:00, ending on 2025-10-07 at 14:00",
+        this.calendar.getEventsOnDate("2025-10-07").trim());
+    assertEquals("subject Swim starting on 2030-10-08 at 13:00, ending on 2030-10-08 at 14:00",
+        this.calendar.getEventsOnDate("2030-10-08").trim());
+    this.calendar.editEventStartFrom("Swim", "location", "2030-10-08T13:00", "POOL");
+    assertTrue(this.calendar.getEventsOnDate("2030-10-15").contains("POOL"));
+    assertThrows(EventExistException.class, () -> this.calendar.createSingleEventWithTime(
+        "Swim", "2030-10-15T13:00", "2030-10-15T14:00"));
+  }
+
+  @Test
+  public void testEditSeriesSameIdentifierValue() {
+    this.calendar.createSeriesEventWithOccurrence("PDP", "2025-10-07T13:35",
+        "2025-10-07T15:15", Set.of(Weekday.TUESDAY, Weekday.FRIDAY), 6);
+    assertThrows(EventExistException.class, () -> this.calendar.editSeriesStartFrom("PDP",
+        "subject", "2025-10-07T13:35", "PDP"));
+    assertThrows(EventExistException.class, () -> this.calendar.editEventStartFrom("PDP",
+        "end", "2025-10-14T13:35", "2025-10-14T15:15"));
+    this.calendar.editSeriesStartFrom("PDP", "location", "2025-10-07T13:35", "ONLINE");
+    this.calendar.editSeriesStartFrom("PDP", "location", "2025-10-07T13:35", "ONLINE");
+  }
+
+  @Test
+  public void testEditSeriesSubjectToRenamedEventSubject() {
+    this.calendar.createSeriesEventWithOccurrence("B", "2025-11-04T10:00",
+        "2025-11-04T11:00", Set.of(Weekday.TUESDAY, Weekday.SATURDAY), 4);
+    this.calendar.editSingleEvent(List.of("B", "subject", "2025-11-08T10:00",
+        "2025-11-08T11:00", "A"));
+    assertThrows(EventExistException.class, () -> this.calendar.editSeriesStartFrom("B",
+        "subject", "2025-11-04T10:00", "A"));
+
+    String expected =
+        "subject B starting on 2025-11-04 at 10:00, ending on 2025-11-04 at 11:00\n"
+            + "subject A starting on 2025-11-08 at 10:00, ending on 2025-11-08 at 11:00\n"
+            + "subject B starting on 2025-11-11 at 10:00, ending on 2025-11-11 at 11:00\n"
+            + "subject B starting on 2025-11-15 at 10:00, ending on 2025-11-15 at 11:00";
+    assertEquals(expected,
+        this.calendar.getEventsInRange("2025-11-01T00:00", "2025-11-30T00:00").trim());
+  }
 }
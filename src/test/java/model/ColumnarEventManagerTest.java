@@ -0,0 +1,23 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+
+import model.event.ColumnarEventStore;
+import model.event.EventInterface;
+import model.event.EventKey;
+import model.event.EventManager;
+
+/**
+ * This class represents test for EventManager keeping its events in a ColumnarEventStore.
+ */
+public class ColumnarEventManagerTest extends EventManagerTest {
+  @Override
+  protected EventManager createEventManager() {
+    return new EventManager(new ColumnarEventStore());
+  }
+
+  @Override
+  protected void assertStored(EventInterface expected, EventInterface found) {
+    assertEquals(EventKey.of(expected), EventKey.of(found));
+  }
+}
@@ -0,0 +1,94 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import model.event.ColumnarEventStore;
+import model.event.EventExistException;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.EventKey;
+import model.event.EventReadOnlyInterface;
+import model.event.EventStatus;
+import model.event.EventStoreInterface;
+import model.event.MapEventStore;
+import org.junit.Test;
+
+/**
+ * This class represents test for ColumnarEventStore, checked against MapEventStore.
+ */
+public class ColumnarEventStoreTest {
+  private static final LocalDateTime START = LocalDateTime.parse("2025-11-01T00:00");
+
+  @Test
+  public void testViewsCarryEveryProperty() throws EventExistException {
+    ColumnarEventStore store = new ColumnarEventStore();
+    EventInterface event = EventFactory.createSingleEvent("Lecture",
+            LocalDateTime.parse("2025-11-05T09:00"), LocalDateTime.parse("2025-11-05T11:00"))
+        .toBuilder().setLocation("ROOM").setStatus(EventStatus.PRIVATE).build();
+    store.add(event);
+
+    EventReadOnlyInterface view = store.get(EventKey.of(event));
+    assertEquals("Lecture", view.getSubject());
+    assertEquals(event.getStartDateTime(), view.getStartDateTime());
+    assertEquals(event.getEndDateTime(), view.getEndDateTime());
+    assertEquals("ROOM", view.getLocation());
+    assertNull(view.getDescription());
+    assertEquals(EventStatus.PRIVATE, view.getStatus());
+    assertThrows(EventExistException.class, () -> store.add(event));
+
+    assertTrue(store.remove(event));
+    assertThrows(ConcurrentModificationException.class, view::getSubject);
+    assertFalse(store.contains(event));
+    assertThrows(IllegalArgumentException.class, () -> store.add(EventFactory.createSingleEvent(
+        "Lab", START.plusSeconds(30), START.plusHours(1))));
+  }
+
+  @Test
+  public void testAgainstMapStore() throws EventExistException {
+    EventStoreInterface columnar = new ColumnarEventStore();
+    EventStoreInterface reference = new MapEventStore();
+    Random random = new Random(7);
+    for (int i = 0; i < 3000; i++) {
+      LocalDateTime start = START.plusMinutes(15L * random.nextInt(2000));
+      EventInterface event = EventFactory.createSingleEvent("Subject " + random.nextInt(20),
+          start, start.plusMinutes(15L * (1 + random.nextInt(8))));
+      if (random.nextInt(3) == 0) {
+        assertEquals(reference.remove(event), columnar.remove(event));
+      } else if (!reference.contains(event)) {
+        reference.add(event);
+        columnar.add(event);
+      }
+      assertEquals(reference.contains(event), columnar.contains(event));
+    }
+    assertEquals(reference.size(), columnar.size());
+
+    LocalDateTime from = START.plusHours(100);
+    LocalDateTime to = START.plusHours(120);
+    assertEquals(keys(reference.findOverlapping(from, to)),
+        keys(columnar.findOverlapping(from, to)));
+    assertEquals(keys(reference.getAll()).size(), columnar.getAll().size());
+  }
+
+  /**
+   * Get the start and end of {@param events} as text, to compare events of either store.
+   *
+   * @param events events
+   * @return list of start and end pairs
+   */
+  private static List<String> keys(List<EventReadOnlyInterface> events) {
+    List<String> result = new ArrayList<>();
+    for (EventReadOnlyInterface event : events) {
+      result.add(event.getStartDateTime() + "/" + event.getEndDateTime());
+    }
+    return result;
+  }
+}
@@ -0,0 +1,437 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import model.calendar.Weekday;
+import model.event.EventBatch;
+import model.event.EventBuilderInterface;
+import model.event.EventExistException;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.EventManager;
+import model.event.EventProperty;
+import model.event.EventQuery;
+import model.event.EventStatus;
+import model.event.SeriesInterface;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This class represents test for EventManager.
+ */
+public class EventManagerTest {
+  protected EventManager eventManager;
+  private EventInterface lecture;
+  private EventInterface lab;
+
+  /**
+   * Create an EventManager and two events before each test.
+   *
+   * @throws IOException if the EventManager cannot open its store
+   */
+  @Before
+  public void setUp() throws IOException {
+    this.eventManager = createEventManager();
+    this.lecture = EventFactory.createSingleEvent("Lecture",
+        LocalDateTime.parse("2025-11-05T09:00"), LocalDateTime.parse("2025-11-05T11:00"));
+    this.lab = EventFactory.createSingleEvent("Lab",
+        LocalDateTime.parse("2025-11-05T08:00"), LocalDateTime.parse("2025-11-05T09:00"));
+  }
+
+  /**
+   * Create the EventManager under test.
+   *
+   * @return empty EventManager
+   * @throws IOException if the EventManager cannot open its store
+   */
+  protected EventManager createEventManager() throws IOException {
+    return new EventManager();
+  }
+
+  /**
+   * Check that {@param found} is the stored event {@param expected}. The default EventManager
+   * hands out the stored objects themselves.
+   *
+   * @param expected stored event
+   * @param found    event handed out by the EventManager
+   */
+  protected void assertStored(EventInterface expected, EventInterface found) {
+    assertSame(expected, found);
+  }
+
+  @Test
+  public void testSnapshotSharedUntilChange() throws EventExistException {
+    this.eventManager.addSingleEvent(this.lecture);
+    List<EventInterface> first = this.eventManager.getAllEvents();
+    assertSame(first, this.eventManager.getAllEvents());
+    assertThrows(UnsupportedOperationException.class, () -> first.add(this.lab));
+
+    long version = this.eventManager.getVersion();
+    this.eventManager.addSingleEvent(this.lab);
+    assertNotEquals(version, this.eventManager.getVersion());
+    assertEquals(List.of(this.lecture), first);
+    assertEquals(List.of(this.lab, this.lecture), this.eventManager.getAllEvents());
+  }
+
+  @Test
+  public void testUpdateScopePublishesOnce() throws EventExistException {
+    this.eventManager.addSingleEvent(this.lecture);
+    List<EventInterface> before = this.eventManager.getAllEvents();
+
+    this.eventManager.beginUpdate();
+    this.eventManager.removeEvents(List.of(this.lecture));
+    assertSame(before, this.eventManager.getAllEvents());
+    this.eventManager.addSingleEvent(this.lab);
+    assertSame(before, this.eventManager.getAllEvents());
+    this.eventManager.endUpdate();
+
+    assertEquals(List.of(this.lab), this.eventManager.getAllEvents());
+    assertThrows(IllegalStateException.class, () -> this.eventManager.endUpdate());
+  }
+
+  @Test
+  public void testBatchAppliesAllOrNothing() throws EventExistException {
+    this.eventManager.addSingleEvent(this.lecture);
+    EventBatch failing = new EventBatch()
+        .removeEvents(List.of(this.lecture))
+        .addEvents(List.of(this.lab, this.lab));
+    assertThrows(EventExistException.class, () -> this.eventManager.apply(failing));
+    assertEquals(List.of(this.lecture), this.eventManager.getAllEvents());
+
+    SeriesInterface series = EventFactory.createSeriesWithOccurrence(Set.of(Weekday.WEDNESDAY), 1);
+    this.eventManager.apply(new EventBatch()
+        .removeEvents(List.of(this.lecture))
+        .addEvents(List.of(this.lab))
+        .attachSeries(series, List.of(this.lab)));
+    assertEquals(List.of(this.lab), this.eventManager.getAllEvents());
+    assertTrue(this.eventManager.isSeriesEvent(this.lab));
+
+    this.eventManager.applyUnchecked(new EventBatch().removeSeries(series));
+    assertFalse(this.eventManager.isSeriesEvent(this.lab));
+    assertEquals(List.of(this.lab), this.eventManager.getAllEvents());
+  }
+
+  @Test
+  public void testSeriesOccurrencesExpandOnDemand() throws EventExistException {
+    SeriesInterface series = EventFactory.createSeriesWithEndDate(Set.of(Weekday.MONDAY),
+        LocalDate.parse("2045-12-31"));
+    this.eventManager.addSeries(series, "Standup", LocalDateTime.parse("2025-11-03T09:00"),
+        LocalTime.parse("09:15"));
+
+    List<EventInterface> november = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setDates(LocalDate.parse("2025-11-01"), LocalDate.parse("2025-11-30"))
+        .build());
+    assertEquals(4, november.size());
+    assertTrue(this.eventManager.hasEventAt(LocalDateTime.parse("2040-01-02T09:10")));
+    assertFalse(this.eventManager.hasEventAt(LocalDateTime.parse("2040-01-03T09:10")));
+
+    EventInterface second = november.get(1);
+    assertTrue(this.eventManager.isSeriesEvent(second));
+    int total = this.eventManager.getAllEvents().size();
+    this.eventManager.removeEvents(List.of(second));
+    assertEquals(total - 1, this.eventManager.getAllEvents().size());
+    assertEquals(3, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setDates(LocalDate.parse("2025-11-01"), LocalDate.parse("2025-11-30"))
+        .build()).size());
+    assertThrows(EventExistException.class,
+        () -> this.eventManager.addSingleEvent(november.get(2)));
+    this.eventManager.addSingleEvent(second);
+    assertFalse(this.eventManager.isSeriesEvent(second));
+  }
+
+  @Test
+  public void testTailEditsKeepOneSeries() throws EventExistException {
+    SeriesInterface series = EventFactory.createSeriesWithOccurrence(Set.of(Weekday.MONDAY), 4);
+    this.eventManager.addSeries(series, "Standup", LocalDateTime.parse("2025-11-03T09:00"),
+        LocalTime.parse("09:15"));
+    for (String startFrom : List.of("2025-11-10T09:00", "2025-11-17T09:00")) {
+      assertTrue(this.eventManager.updateSeriesFrom(series, LocalDateTime.parse(startFrom),
+          EventProperty.START, event -> event.toBuilder()
+              .setStartDateTime(event.getStartDateTime().plusHours(1))
+              .setEndDateTime(event.getEndDateTime().plusHours(1))
+              .build()));
+    }
+
+    List<EventInterface> events = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSeries(series)
+        .build());
+    assertEquals(4, events.size());
+    assertEquals(LocalDateTime.parse("2025-11-03T09:00"), events.get(0).getStartDateTime());
+    assertEquals(LocalDateTime.parse("2025-11-10T10:00"), events.get(1).getStartDateTime());
+    assertEquals(LocalDateTime.parse("2025-11-24T11:00"), events.get(3).getStartDateTime());
+    assertTrue(this.eventManager.hasEventAt(LocalDateTime.parse("2025-11-17T11:10")));
+    assertFalse(this.eventManager.hasEventAt(LocalDateTime.parse("2025-11-17T09:10")));
+
+    this.eventManager.addSingleEvent(EventFactory.createSingleEvent("Standup",
+        LocalDateTime.parse("2025-11-24T12:00"), LocalDateTime.parse("2025-11-24T12:15")));
+    assertThrows(EventExistException.class, () -> this.eventManager.updateSeriesFrom(series,
+        LocalDateTime.parse("2025-11-24T11:00"), EventProperty.START, event -> event.toBuilder()
+            .setStartDateTime(event.getStartDateTime().plusHours(1))
+            .setEndDateTime(event.getEndDateTime().plusHours(1))
+            .build()));
+  }
+
+  @Test
+  public void testSeriesEditsStoreOnlyDivergingEvents() throws EventExistException {
+    SeriesInterface series = EventFactory.createSeriesWithOccurrence(Set.of(Weekday.MONDAY), 500);
+    this.eventManager.addSeries(series, "Standup", LocalDateTime.parse("2025-11-03T09:00"),
+        LocalTime.parse("09:15"));
+    assertEquals(0, this.eventManager.getStoredEventCount());
+
+    EventInterface occurrence = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSeries(series).setLimit(1).build()).get(0);
+    EventInterface moved = occurrence.toBuilder().setLocation("ROOM").build();
+    this.eventManager.updateSingleEvent(occurrence, moved, EventProperty.LOCATION);
+    assertEquals(1, this.eventManager.getStoredEventCount());
+    this.eventManager.updateSingleEvent(moved, occurrence, EventProperty.LOCATION);
+    assertEquals(0, this.eventManager.getStoredEventCount());
+
+    assertTrue(this.eventManager.updateSeriesFrom(series, LocalDateTime.MIN, EventProperty.LOCATION,
+        event -> event.toBuilder().setLocation("ONLINE").build()));
+    assertEquals(0, this.eventManager.getStoredEventCount());
+    assertEquals(500, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setLocation("ONLINE").build()).size());
+  }
+
+  @Test
+  public void testLargeWindowsExpandOnGivenPool() throws EventExistException {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    EventManager manager = new EventManager(true, 0, pool);
+    SeriesInterface series = EventFactory.createSeriesWithOccurrence(
+        EnumSet.allOf(Weekday.class), 5000);
+    manager.addSeries(series, "Standup", LocalDateTime.parse("2025-11-03T09:00"),
+        LocalTime.parse("09:15"));
+    EventQuery query = new EventQuery.EventQueryBuilder().setSeries(series).build();
+    assertEquals(5000, manager.query(query).size());
+
+    pool.shutdown();
+    assertThrows(RejectedExecutionException.class, () -> manager.query(query));
+  }
+
+  @Test
+  public void testUnboundedSeriesExpandsWithinWindow() throws EventExistException {
+    SeriesInterface series = EventFactory.createSeriesWithoutEnd(Set.of(Weekday.MONDAY));
+    this.eventManager.addSeries(series, "Standup", LocalDateTime.parse("2025-11-03T09:00"),
+        LocalTime.parse("09:15"));
+    assertEquals(0, this.eventManager.getStoredEventCount());
+
+    assertEquals(4, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setDates(LocalDate.parse("2025-11-01"), LocalDate.parse("2025-11-30"))
+        .build()).size());
+    assertEquals(4, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setDates(LocalDate.parse("2125-11-01"), LocalDate.parse("2125-11-30"))
+        .build()).size());
+    assertTrue(this.eventManager.hasEventAt(LocalDateTime.parse("2225-01-03T09:10")));
+
+    assertThrows(EventExistException.class, () -> this.eventManager.addSingleEvent(
+        EventFactory.createSingleEvent("Standup", LocalDateTime.parse("2099-11-02T09:00"),
+            LocalDateTime.parse("2099-11-02T09:15"))));
+    SeriesInterface clashing = EventFactory.createSeriesWithOccurrence(
+        Set.of(Weekday.MONDAY, Weekday.FRIDAY), 3);
+    assertThrows(EventExistException.class, () -> this.eventManager.addSeries(clashing,
+        "Standup", LocalDateTime.parse("2030-01-04T09:00"), LocalTime.parse("09:15")));
+
+    SeriesInterface later = EventFactory.createSeriesWithoutEnd(Set.of(Weekday.MONDAY));
+    this.eventManager.addSeries(later, "Standup", LocalDateTime.parse("2025-11-03T10:00"),
+        LocalTime.parse("10:15"));
+    assertEquals(8, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setDates(LocalDate.parse("2025-11-01"), LocalDate.parse("2025-11-30"))
+        .build()).size());
+  }
+
+  @Test
+  public void testUnboundedSeriesEndedBeforeRemoval() throws EventExistException {
+    SeriesInterface series = EventFactory.createSeriesWithoutEnd(Set.of(Weekday.MONDAY));
+    this.eventManager.addSeries(series, "Standup", LocalDateTime.parse("2025-11-03T09:00"),
+        LocalTime.parse("09:15"));
+    EventQuery farAway = new EventQuery.EventQueryBuilder()
+        .setDates(LocalDate.parse("2030-11-01"), LocalDate.parse("2030-11-30"))
+        .build();
+
+    assertThrows(IllegalArgumentException.class, () -> this.eventManager.removeSeries(series));
+    assertEquals(4, this.eventManager.query(farAway).size());
+
+    this.eventManager.apply(new EventBatch()
+        .endSeries(series, LocalDate.parse("2025-11-17"))
+        .removeSeries(series));
+    assertEquals(0, this.eventManager.query(farAway).size());
+    assertEquals(2, this.eventManager.getStoredEventCount());
+    assertFalse(this.eventManager.isSeriesEvent(this.eventManager.getAllEvents().get(0)));
+  }
+
+  @Test
+  public void testExpansionCacheInvalidatedBySeriesChanges() throws EventExistException {
+    SeriesInterface series = EventFactory.createSeriesWithOccurrence(Set.of(Weekday.MONDAY), 10);
+    this.eventManager.addSeries(series, "Standup", LocalDateTime.parse("2025-11-03T09:00"),
+        LocalTime.parse("09:15"));
+    EventQuery november = new EventQuery.EventQueryBuilder()
+        .setDates(LocalDate.parse("2025-11-01"), LocalDate.parse("2025-11-30"))
+        .build();
+
+    List<EventInterface> events = this.eventManager.query(november);
+    assertEquals(events, this.eventManager.query(november));
+    assertEquals(1, this.eventManager.getExpansionCacheHitCount());
+    assertEquals(1, this.eventManager.getExpansionCacheMissCount());
+
+    this.eventManager.removeEvents(List.of(events.get(1)));
+    assertEquals(3, this.eventManager.query(november).size());
+    assertEquals(2, this.eventManager.getExpansionCacheMissCount());
+  }
+
+  @Test
+  public void testSeriesCountsFromRuleAndExceptions() throws EventExistException {
+    SeriesInterface series = EventFactory.createSeriesWithOccurrence(Set.of(Weekday.MONDAY), 6);
+    this.eventManager.addSeries(series, "Standup", LocalDateTime.parse("2025-11-03T09:00"),
+        LocalTime.parse("09:15"));
+    List<EventInterface> events = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSeries(series).build());
+    EventInterface first = events.get(0);
+    assertEquals(Integer.valueOf(6), this.eventManager.getSeriesOccurrenceCount(first));
+    assertEquals(LocalDate.parse("2025-12-08"), this.eventManager.getSeriesLastDate(first));
+
+    this.eventManager.removeEvents(List.of(events.get(5)));
+    EventInterface moved = events.get(4).toBuilder().setLocation("ROOM").build();
+    this.eventManager.updateSingleEvent(events.get(4), moved, EventProperty.LOCATION);
+    assertEquals(Integer.valueOf(5), this.eventManager.getSeriesOccurrenceCount(first));
+    assertEquals(Integer.valueOf(2),
+        this.eventManager.getSeriesRemainingCount(first, LocalDate.parse("2025-11-17")));
+    assertEquals(LocalDate.parse("2025-12-01"), this.eventManager.getSeriesLastDate(first));
+
+    SeriesInterface endless = EventFactory.createSeriesWithoutEnd(Set.of(Weekday.FRIDAY));
+    this.eventManager.addSeries(endless, "Review", LocalDateTime.parse("2025-11-07T09:00"),
+        LocalTime.parse("10:00"));
+    EventInterface review = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSeries(endless).setLimit(1).build()).get(0);
+    assertNull(this.eventManager.getSeriesOccurrenceCount(review));
+    assertNull(this.eventManager.getSeriesLastDate(review));
+    assertThrows(IllegalArgumentException.class,
+        () -> this.eventManager.getSeriesOccurrenceCount(this.lab));
+  }
+
+  @Test
+  public void testStoredStringsArePooledPerManager() throws EventExistException {
+    EventInterface first = EventFactory.createSingleEvent(new String("Pooled"),
+        LocalDateTime.parse("2025-11-05T09:00"), LocalDateTime.parse("2025-11-05T10:00"));
+    EventInterface second = EventFactory.createSingleEvent(new String("Pooled"),
+        LocalDateTime.parse("2025-11-06T09:00"), LocalDateTime.parse("2025-11-06T10:00"));
+    assertNotSame(first.getSubject(), second.getSubject());
+    this.eventManager.addSingleEvent(first);
+    this.eventManager.addSingleEvent(second);
+    List<EventInterface> stored = this.eventManager.getAllEvents();
+    assertSame(stored.get(0).getSubject(), stored.get(1).getSubject());
+
+    EventManager other = new EventManager();
+    other.addSingleEvent(second);
+    assertNotSame(stored.get(0).getSubject(), other.getAllEvents().get(0).getSubject());
+
+    this.eventManager.removeEvents(stored);
+    this.eventManager.addSingleEvent(EventFactory.createSingleEvent(new String("Pooled"),
+        LocalDateTime.parse("2025-11-07T09:00"), LocalDateTime.parse("2025-11-07T10:00")));
+    assertNotSame(stored.get(0).getSubject(),
+        this.eventManager.getAllEvents().get(0).getSubject());
+  }
+
+  @Test
+  public void testLookupsDoNotScanEvents() throws EventExistException {
+    List<CountingEvent> events = new ArrayList<>();
+    LocalDateTime start = LocalDateTime.parse("2025-01-01T08:00");
+    for (int i = 0; i < 5000; i++) {
+      CountingEvent event = new CountingEvent(EventFactory.createSingleEvent("Standup",
+          start.plusHours(i), start.plusHours(i).plusMinutes(15)));
+      events.add(event);
+      this.eventManager.addSingleEvent(event);
+    }
+    for (CountingEvent event : events) {
+      event.reads = 0;
+    }
+
+    CountingEvent target = events.get(2500);
+    assertStored(target, this.eventManager.findEvent("Standup", target.getStartDateTime(),
+        target.getEndDateTime()));
+    assertThrows(EventExistException.class, () -> this.eventManager.addSingleEvent(
+        EventFactory.createSingleEvent("Standup", target.getStartDateTime(),
+            target.getEndDateTime())));
+    int otherReads = 0;
+    for (CountingEvent event : events) {
+      otherReads += event == target ? 0 : event.reads;
+    }
+    assertEquals(0, otherReads);
+  }
+
+  /**
+   * This class represents an event counting how often its properties are read, to check which
+   * stored events a lookup touches.
+   */
+  private static class CountingEvent implements EventInterface {
+    private final EventInterface event;
+    private int reads;
+
+    /**
+     * Create a CountingEvent reading its properties from {@param event}.
+     *
+     * @param event event to be wrapped
+     */
+    private CountingEvent(EventInterface event) {
+      this.event = event;
+      this.reads = 0;
+    }
+
+    @Override
+    public EventBuilderInterface toBuilder() {
+      return this.event.toBuilder();
+    }
+
+    @Override
+    public String getSubject() {
+      this.reads += 1;
+      return this.event.getSubject();
+    }
+
+    @Override
+    public LocalDateTime getStartDateTime() {
+      this.reads += 1;
+      return this.event.getStartDateTime();
+    }
+
+    @Override
+    public LocalDateTime getEndDateTime() {
+      this.reads += 1;
+      return this.event.getEndDateTime();
+    }
+
+    @Override
+    public String getLocation() {
+      this.reads += 1;
+      return this.event.getLocation();
+    }
+
+    @Override
+    public String getDescription() {
+      this.reads += 1;
+      return this.event.getDescription();
+    }
+
+    @Override
+    public EventStatus getStatus() {
+      this.reads += 1;
+      return this.event.getStatus();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import model.event.EventEditor;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.EventPatch;
+import model.event.EventProperty;
+import model.event.EventStatus;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This class represents test for EventPatch applied by EventEditor.
+ */
+public class EventPatchTest {
+  private EventEditor editor;
+  private EventInterface event;
+
+  /**
+   * Create an EventEditor and a SingleEvent to be edited.
+   */
+  @Before
+  public void setUp() {
+    this.editor = new EventEditor();
+    this.event = EventFactory.createSingleEvent("PDP", LocalDateTime.parse("2025-11-03T10:00"),
+        LocalDateTime.parse("2025-11-03T11:00"));
+  }
+
+  @Test
+  public void testApplyManyProperties() {
+    EventInterface edited = this.editor.editEvent(this.event, new EventPatch.EventPatchBuilder()
+        .setStartDateTime(LocalDateTime.parse("2025-11-04T09:00"))
+        .setEndDateTime(LocalDateTime.parse("2025-11-04T10:30"))
+        .setLocation("ONLINE")
+        .setStatus(EventStatus.PRIVATE)
+        .build());
+
+    assertEquals("PDP", edited.getSubject());
+    assertEquals(LocalDateTime.parse("2025-11-04T09:00"), edited.getStartDateTime());
+    assertEquals(LocalDateTime.parse("2025-11-04T10:30"), edited.getEndDateTime());
+    assertEquals("ONLINE", edited.getLocation());
+    assertEquals(EventStatus.PRIVATE, edited.getStatus());
+    assertEquals(LocalDateTime.parse("2025-11-03T10:00"), this.event.getStartDateTime());
+  }
+
+  @Test
+  public void testEndTimeKeepsEndDate() {
+    EventInterface edited = this.editor.editEvent(this.event, new EventPatch.EventPatchBuilder()
+        .setEndTime(LocalTime.parse("12:15"))
+        .build());
+
+    assertEquals(LocalDateTime.parse("2025-11-03T12:15"), edited.getEndDateTime());
+  }
+
+  @Test
+  public void testParse() {
+    EventPatch patch = this.editor.parse(EventProperty.START, "2025-11-05T08:00");
+
+    assertEquals(Set.of(EventProperty.START), patch.getProperties());
+    assertEquals(LocalDateTime.parse("2025-11-05T08:00"), patch.getStartDateTime());
+    assertEquals(this.editor.editEvent(this.event, patch),
+        this.editor.editEvent(this.event, EventProperty.START, "2025-11-05T08:00"));
+    assertEquals(EventStatus.PRIVATE,
+        this.editor.parse(EventProperty.STATUS, "private").apply(this.event).getStatus());
+
+    assertThrows(DateTimeParseException.class,
+        () -> this.editor.parse(EventProperty.END, "tomorrow"));
+    assertThrows(IllegalArgumentException.class,
+        () -> this.editor.parse(EventProperty.STATUS, "hidden"));
+  }
+
+  @Test
+  public void testToBuilderAddsProperty() {
+    EventPatch patch = this.editor.parse(EventProperty.SUBJECT, "OOD").toBuilder()
+        .setDescription("Lecture")
+        .build();
+
+    EventInterface edited = patch.apply(this.event);
+    assertEquals(Set.of(EventProperty.SUBJECT, EventProperty.DESCRIPTION),
+        patch.getProperties());
+    assertEquals("OOD", edited.getSubject());
+    assertEquals("Lecture", edited.getDescription());
+  }
+}
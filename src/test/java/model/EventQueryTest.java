@@ -0,0 +1,130 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import model.calendar.Weekday;
+import model.event.EventEditor;
+import model.event.EventExistException;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.EventManager;
+import model.event.EventProperty;
+import model.event.EventQuery;
+import model.event.EventStatus;
+import model.event.QuerySortOrder;
+import model.event.SeriesInterface;
+import model.event.SeriesMembership;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This class represents test for EventQuery answered by EventManager.
+ */
+public class EventQueryTest {
+  private EventManager eventManager;
+  private SeriesInterface series;
+  private EventInterface single;
+  private EventInterface overnight;
+
+  /**
+   * Create an EventManager with a Series on Monday and Wednesday and two SingleEvents.
+   *
+   * @throws EventExistException if events clash
+   */
+  @Before
+  public void setUp() throws EventExistException {
+    this.eventManager = new EventManager();
+    this.series =
+        EventFactory.createSeriesWithOccurrence(Set.of(Weekday.MONDAY, Weekday.WEDNESDAY), 4);
+    this.eventManager.addSeries(this.series, "PDP", LocalDateTime.parse("2025-11-03T10:00"),
+        LocalTime.parse("11:00"));
+
+    this.single = new EventEditor().editEvent(EventFactory.createSingleEvent("DBMS",
+            LocalDateTime.parse("2025-11-05T10:30"), LocalDateTime.parse("2025-11-05T12:00")),
+        EventProperty.LOCATION, "ONLINE");
+    this.eventManager.addSingleEvent(this.single);
+    this.overnight = EventFactory.createSingleEvent("Trip",
+        LocalDateTime.parse("2025-11-04T22:00"), LocalDateTime.parse("2025-11-06T08:00"));
+    this.eventManager.addSingleEvent(this.overnight);
+  }
+
+  @Test
+  public void testWindowAndDates() {
+    List<EventInterface> inWindow = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setWindow(LocalDateTime.parse("2025-11-05T11:00"), LocalDateTime.parse("2025-11-05T11:30"))
+        .build());
+    assertEquals(3, inWindow.size());
+
+    List<EventInterface> onDate = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setDates(LocalDate.parse("2025-11-06"), LocalDate.parse("2025-11-06"))
+        .build());
+    assertEquals(List.of(this.overnight), onDate);
+  }
+
+  @Test
+  public void testSubjectAndStart() {
+    List<EventInterface> result = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSubject("PDP")
+        .setStartDateTime(LocalDateTime.parse("2025-11-10T10:00"))
+        .build());
+    assertEquals(1, result.size());
+    assertEquals(LocalDateTime.parse("2025-11-10T11:00"), result.get(0).getEndDateTime());
+
+    assertEquals(4, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSubject("PDP")
+        .build()).size());
+  }
+
+  @Test
+  public void testSeriesSlices() {
+    LocalDateTime pivot = LocalDateTime.parse("2025-11-05T10:00");
+    assertEquals(1, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSeries(this.series).setStartBefore(pivot).build()).size());
+    assertEquals(3, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSeries(this.series).setStartFrom(pivot).build()).size());
+    assertEquals(pivot, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSeries(this.series).setStartDateTime(pivot).build()).get(0).getStartDateTime());
+    assertTrue(this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSeries(this.series).setStartDateTime(pivot.plusMinutes(1)).build()).isEmpty());
+  }
+
+  @Test
+  public void testMembershipLocationAndStatus() {
+    assertEquals(2, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setMembership(SeriesMembership.SINGLE).build()).size());
+    assertEquals(4, this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setMembership(SeriesMembership.SERIES).build()).size());
+    assertEquals(List.of(this.single), this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setLocation("ONLINE").build()));
+    assertTrue(this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setStatus(EventStatus.PRIVATE).build()).isEmpty());
+  }
+
+  @Test
+  public void testSortAndLimit() {
+    List<EventInterface> latest = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSortOrder(QuerySortOrder.START_DESCENDING)
+        .setLimit(2)
+        .build());
+    assertEquals(2, latest.size());
+    assertEquals(LocalDateTime.parse("2025-11-12T10:00"), latest.get(0).getStartDateTime());
+    assertEquals(LocalDateTime.parse("2025-11-10T10:00"), latest.get(1).getStartDateTime());
+
+    List<EventInterface> earliest = this.eventManager.query(new EventQuery.EventQueryBuilder()
+        .setSortOrder(QuerySortOrder.START_ASCENDING)
+        .setLimit(1)
+        .build());
+    assertEquals(LocalDateTime.parse("2025-11-03T10:00"), earliest.get(0).getStartDateTime());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidLimit() {
+    new EventQuery.EventQueryBuilder().setLimit(0);
+  }
+}
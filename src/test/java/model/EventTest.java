@@ -1,9 +1,12 @@
 package model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import java.time.LocalDateTime;
+import model.event.EventFactory;
 import model.event.EventInterface;
+import model.event.EventKey;
 import model.event.EventStatus;
 import model.event.SingleEvent;
 import org.junit.Test;
@@ -30,4 +33,38 @@ public class EventTest {
     assertEquals("SN", event.getLocation());
     assertEquals(EventStatus.PRIVATE, event.getStatus());
   }
+
+  @Test
+  public void testEventKey() {
+    EventInterface event = new SingleEvent.SingleEventBuilder()
+        .setSubject("PDP")
+        .setStartDateTime(LocalDateTime.parse("2025-11-11T13:35"))
+        .setEndDateTime(LocalDateTime.parse("2025-11-11T15:15"))
+        .setLocation("SN")
+        .build();
+
+    EventKey key = new EventKey("PDP", LocalDateTime.parse("2025-11-11T13:35"),
+        LocalDateTime.parse("2025-11-11T15:15"));
+    assertEquals(key, EventKey.of(event));
+    assertEquals(key.hashCode(), EventKey.of(event).hashCode());
+    assertNotEquals(key, EventKey.of(EventFactory.createSingleEvent("PDP",
+        LocalDateTime.parse("2025-11-11T13:35"), LocalDateTime.parse("2025-11-11T15:16"))));
+  }
+
+  @Test
+  public void testPackedDateTimesKeepEquality() {
+    LocalDateTime start = LocalDateTime.parse("2025-11-11T13:35:20.000000123");
+    LocalDateTime end = LocalDateTime.parse("2525-11-11T15:15");
+    EventInterface event = EventFactory.createSingleEvent("PDP", start, end);
+    EventInterface same = EventFactory.createSingleEvent("PDP", start, end);
+
+    assertEquals(start, event.getStartDateTime());
+    assertEquals(end, event.getEndDateTime());
+    assertEquals(event, same);
+    assertEquals(event.hashCode(), same.hashCode());
+    assertEquals(event, event.toBuilder().setDescription("Design").build());
+    assertNotEquals(event, EventFactory.createSingleEvent("PDP", start.withNano(124), end));
+    assertNotEquals(event, EventFactory.createSingleEvent("PDP", start, end.plusDays(1)));
+    assertNotEquals(event, EventFactory.createSingleEvent("CS5010", start, end));
+  }
 }
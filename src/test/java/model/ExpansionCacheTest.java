@@ -0,0 +1,72 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.ExpansionCache;
+import org.junit.Test;
+
+/**
+ * This class represents test for ExpansionCache.
+ */
+public class ExpansionCacheTest {
+  private static final LocalDate FROM = LocalDate.parse("2025-11-01");
+  private static final LocalDate TO = LocalDate.parse("2025-11-30");
+
+  @Test
+  public void testHitsMissesAndInvalidation() {
+    ExpansionCache cache = new ExpansionCache(10);
+    List<EventInterface> first = cache.get("a", FROM, TO, () -> occurrences(3));
+    assertSame(first, cache.get("a", FROM, TO, () -> occurrences(3)));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+
+    cache.get("b", FROM, TO, () -> occurrences(2));
+    cache.invalidate("a");
+    assertEquals(1, cache.size());
+    assertEquals(2, cache.getWeight());
+    cache.get("a", FROM, TO, () -> occurrences(3));
+    assertEquals(3, cache.getMissCount());
+  }
+
+  @Test
+  public void testEvictsLeastRecentlyUsedByWeight() {
+    ExpansionCache cache = new ExpansionCache(10);
+    cache.get("a", FROM, TO, () -> occurrences(4));
+    cache.get("b", FROM, TO, () -> occurrences(4));
+    cache.get("a", FROM, TO, () -> occurrences(4));
+    cache.get("c", FROM, TO, () -> occurrences(4));
+    assertEquals(2, cache.size());
+    assertEquals(8, cache.getWeight());
+
+    cache.get("a", FROM, TO, () -> occurrences(4));
+    assertEquals(2, cache.getHitCount());
+    cache.get("b", FROM, TO, () -> occurrences(4));
+    assertEquals(4, cache.getMissCount());
+
+    cache.get("d", FROM, TO, () -> occurrences(11));
+    assertEquals(2, cache.size());
+    assertEquals(5, cache.getMissCount());
+  }
+
+  /**
+   * Build {@param count} daily events.
+   *
+   * @param count number of events
+   * @return list of events
+   */
+  private static List<EventInterface> occurrences(int count) {
+    List<EventInterface> events = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      LocalDateTime start = FROM.plusDays(i).atTime(9, 0);
+      events.add(EventFactory.createSingleEvent("Standup", start, start.plusMinutes(15)));
+    }
+    return events;
+  }
+}
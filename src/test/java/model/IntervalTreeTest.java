@@ -0,0 +1,99 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.IntervalTree;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This class represents test for IntervalTree.
+ */
+public class IntervalTreeTest {
+  private IntervalTree<EventInterface> tree;
+
+  /**
+   * Create an empty IntervalTree before each test.
+   */
+  @Before
+  public void setUp() {
+    this.tree = new IntervalTree<>(EventInterface::getStartDateTime,
+        EventInterface::getEndDateTime);
+  }
+
+  @Test
+  public void testFindOverlappingBoundaries() {
+    EventInterface event = EventFactory.createSingleEvent("PDP",
+        LocalDateTime.parse("2025-11-05T10:00"), LocalDateTime.parse("2025-11-05T12:00"));
+    this.tree.insert(event);
+
+    assertEquals(List.of(event), this.tree.findOverlapping(
+        LocalDateTime.parse("2025-11-05T12:00"), LocalDateTime.parse("2025-11-05T13:00")));
+    assertEquals(List.of(event), this.tree.findOverlapping(
+        LocalDateTime.parse("2025-11-05T09:00"), LocalDateTime.parse("2025-11-05T10:00")));
+    assertTrue(this.tree.findOverlapping(
+        LocalDateTime.parse("2025-11-05T12:01"), LocalDateTime.parse("2025-11-05T13:00"))
+        .isEmpty());
+    assertTrue(this.tree.hasOverlapping(
+        LocalDateTime.parse("2025-11-05T11:00"), LocalDateTime.parse("2025-11-05T11:00")));
+    assertFalse(this.tree.hasOverlapping(
+        LocalDateTime.parse("2025-11-05T09:00"), LocalDateTime.parse("2025-11-05T09:59")));
+  }
+
+  @Test
+  public void testSameIntervalAndRemove() {
+    EventInterface first = EventFactory.createSingleEvent("PDP",
+        LocalDateTime.parse("2025-11-05T10:00"), LocalDateTime.parse("2025-11-05T12:00"));
+    EventInterface second = EventFactory.createSingleEvent("DBMS",
+        LocalDateTime.parse("2025-11-05T10:00"), LocalDateTime.parse("2025-11-05T12:00"));
+    this.tree.insert(first);
+    this.tree.insert(second);
+    assertEquals(2, this.tree.size());
+
+    assertTrue(this.tree.remove(first));
+    assertFalse(this.tree.remove(first));
+    assertEquals(1, this.tree.size());
+    assertEquals(List.of(second), this.tree.findOverlapping(
+        LocalDateTime.parse("2025-11-05T00:00"), LocalDateTime.parse("2025-11-05T23:59")));
+  }
+
+  @Test
+  public void testMatchesFullScan() {
+    Random random = new Random(42);
+    LocalDateTime base = LocalDateTime.parse("2025-01-01T00:00");
+    List<EventInterface> events = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      LocalDateTime start = base.plusMinutes(random.nextInt(60 * 24 * 60));
+      LocalDateTime end = start.plusMinutes(random.nextInt(60 * 24 * 3));
+      EventInterface event = EventFactory.createSingleEvent("E" + i, start, end);
+      events.add(event);
+      this.tree.insert(event);
+    }
+    for (int i = 0; i < 500; i++) {
+      this.tree.remove(events.remove(random.nextInt(events.size())));
+    }
+
+    for (int i = 0; i < 200; i++) {
+      LocalDateTime start = base.plusMinutes(random.nextInt(60 * 24 * 60));
+      LocalDateTime end = start.plusMinutes(random.nextInt(60 * 24));
+      List<EventInterface> expected = new ArrayList<>();
+      for (EventInterface event : events) {
+        if (!event.getStartDateTime().isAfter(end) && !event.getEndDateTime().isBefore(start)) {
+          expected.add(event);
+        }
+      }
+      List<EventInterface> actual = this.tree.findOverlapping(start, end);
+      assertEquals(expected.size(), actual.size());
+      assertTrue(actual.containsAll(expected));
+      assertEquals(!expected.isEmpty(), this.tree.hasOverlapping(start, end));
+    }
+  }
+}
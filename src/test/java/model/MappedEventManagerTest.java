@@ -0,0 +1,73 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import model.event.EventExistException;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.EventKey;
+import model.event.EventManager;
+import model.event.MappedEventStore;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * This class represents test for EventManager keeping its events in a MappedEventStore.
+ */
+public class MappedEventManagerTest extends EventManagerTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+  private MappedEventStore store;
+
+  @Override
+  protected EventManager createEventManager() throws IOException {
+    this.store = new MappedEventStore(this.folder.getRoot().toPath());
+    return new EventManager(this.store);
+  }
+
+  @Override
+  protected void assertStored(EventInterface expected, EventInterface found) {
+    assertEquals(EventKey.of(expected), EventKey.of(found));
+  }
+
+  /**
+   * Close the store after each test.
+   *
+   * @throws IOException if the store cannot be closed
+   */
+  @After
+  public void tearDown() throws IOException {
+    this.store.close();
+  }
+
+  @Test
+  public void testEventsSurviveReopen() throws IOException, EventExistException {
+    Path directory = this.folder.getRoot().toPath();
+    EventInterface lecture = EventFactory.createSingleEvent("Lecture",
+            LocalDateTime.parse("2025-11-05T09:00"), LocalDateTime.parse("2025-11-05T11:00"))
+        .toBuilder().setLocation("ROOM").build();
+    EventInterface lab = EventFactory.createSingleEvent("Lab",
+        LocalDateTime.parse("2025-11-05T08:00"), LocalDateTime.parse("2025-11-05T09:00"));
+    this.eventManager.addSingleEvent(lecture);
+    this.eventManager.addSingleEvent(lab);
+    this.store.close();
+
+    this.store = new MappedEventStore(directory);
+    EventManager reopened = new EventManager(this.store);
+    assertEquals(List.of(lab, lecture), reopened.getAllEvents());
+    assertEquals("ROOM", reopened.getAllEvents().get(1).getLocation());
+    assertTrue(reopened.hasEventAt(LocalDateTime.parse("2025-11-05T10:00")));
+
+    reopened.removeEvents(List.of(lecture));
+    assertFalse(reopened.hasEventAt(LocalDateTime.parse("2025-11-05T10:00")));
+    assertEquals(1, reopened.getStoredEventCount());
+  }
+}
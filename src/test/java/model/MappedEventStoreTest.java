@@ -0,0 +1,149 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import model.event.EventExistException;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.EventKey;
+import model.event.EventReadOnlyInterface;
+import model.event.EventStatus;
+import model.event.MapEventStore;
+import model.event.MappedEventStore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * This class represents test for MappedEventStore, checked against MapEventStore.
+ */
+public class MappedEventStoreTest {
+  private static final LocalDateTime START = LocalDateTime.parse("2025-11-01T00:00");
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testViewsCarryEveryProperty() throws IOException, EventExistException {
+    try (MappedEventStore store = new MappedEventStore(this.folder.getRoot().toPath())) {
+      EventInterface event = EventFactory.createSingleEvent("Lecture",
+              LocalDateTime.parse("2025-11-05T09:00"), LocalDateTime.parse("2025-11-05T11:00"))
+          .toBuilder().setLocation("ROOM ü").setStatus(EventStatus.PRIVATE).build();
+      store.add(event);
+
+      EventReadOnlyInterface view = store.get(EventKey.of(event));
+      assertEquals("Lecture", view.getSubject());
+      assertEquals(event.getStartDateTime(), view.getStartDateTime());
+      assertEquals(event.getEndDateTime(), view.getEndDateTime());
+      assertEquals("ROOM ü", view.getLocation());
+      assertNull(view.getDescription());
+      assertEquals(EventStatus.PRIVATE, view.getStatus());
+      assertThrows(EventExistException.class, () -> store.add(event));
+
+      assertTrue(store.remove(event));
+      assertThrows(ConcurrentModificationException.class, view::getSubject);
+      assertFalse(store.contains(event));
+      assertFalse(store.remove(event));
+      assertThrows(IllegalArgumentException.class, () -> store.add(EventFactory.createSingleEvent(
+          "Lab", START.plusSeconds(30), START.plusHours(1))));
+    }
+  }
+
+  @Test
+  public void testReopen() throws IOException, EventExistException {
+    Path directory = this.folder.getRoot().toPath();
+    EventInterface first = EventFactory.createSingleEvent("PDP", START, START.plusHours(2))
+        .toBuilder().setDescription("Lecture").build();
+    EventInterface second = EventFactory.createSingleEvent("PDP", START.plusDays(1),
+        START.plusDays(1).plusHours(2));
+    try (MappedEventStore store = new MappedEventStore(directory)) {
+      store.add(first);
+      store.add(second);
+      store.add(EventFactory.createSingleEvent("DBMS", START, START.plusHours(1)));
+      assertTrue(store.remove(second));
+    }
+
+    try (MappedEventStore store = new MappedEventStore(directory)) {
+      assertEquals(2, store.size());
+      assertEquals("Lecture", store.get(EventKey.of(first)).getDescription());
+      assertFalse(store.contains(second));
+      assertThrows(EventExistException.class, () -> store.add(first));
+      store.add(second);
+      assertEquals(List.of("DBMS", "PDP", "PDP"), subjects(store.getAll()));
+    }
+  }
+
+  @Test
+  public void testRejectOtherFiles() throws IOException {
+    Path directory = this.folder.newFolder().toPath();
+    Files.write(directory.resolve("events.seg"), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+    assertThrows(IOException.class, () -> new MappedEventStore(directory));
+  }
+
+  @Test
+  public void testAgainstMapStore() throws IOException, EventExistException {
+    MapEventStore reference = new MapEventStore();
+    try (MappedEventStore mapped = new MappedEventStore(this.folder.getRoot().toPath())) {
+      Random random = new Random(7);
+      for (int i = 0; i < 3000; i++) {
+        LocalDateTime start = START.plusMinutes(15L * random.nextInt(2000));
+        EventInterface event = EventFactory.createSingleEvent("Subject " + random.nextInt(20),
+            start, start.plusMinutes(15L * (1 + random.nextInt(8))));
+        if (random.nextInt(3) == 0) {
+          assertEquals(reference.remove(event), mapped.remove(event));
+        } else if (!reference.contains(event)) {
+          reference.add(event);
+          mapped.add(event);
+        }
+        assertEquals(reference.contains(event), mapped.contains(event));
+      }
+      assertEquals(reference.size(), mapped.size());
+
+      LocalDateTime from = START.plusHours(100);
+      LocalDateTime to = START.plusHours(120);
+      assertEquals(keys(reference.findOverlapping(from, to)),
+          keys(mapped.findOverlapping(from, to)));
+      assertEquals(keys(reference.getAll()), keys(mapped.getAll()));
+    }
+  }
+
+  /**
+   * Get the start and end of {@param events} as text, to compare events of either store.
+   *
+   * @param events events
+   * @return list of start and end pairs
+   */
+  private static List<String> keys(List<EventReadOnlyInterface> events) {
+    List<String> result = new ArrayList<>();
+    for (EventReadOnlyInterface event : events) {
+      result.add(event.getStartDateTime() + "/" + event.getEndDateTime());
+    }
+    return result;
+  }
+
+  /**
+   * Get the subjects of {@param events}.
+   *
+   * @param events events
+   * @return list of subjects
+   */
+  private static List<String> subjects(List<EventReadOnlyInterface> events) {
+    List<String> result = new ArrayList<>();
+    for (EventReadOnlyInterface event : events) {
+      result.add(event.getSubject());
+    }
+    return result;
+  }
+}
@@ -0,0 +1,117 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.IntervalTree;
+import model.event.OccupancyIndex;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This class represents test for OccupancyIndex.
+ */
+public class OccupancyIndexTest {
+  private IntervalTree<EventInterface> tree;
+  private OccupancyIndex<EventInterface> occupancy;
+
+  /**
+   * Create an empty IntervalTree and the OccupancyIndex derived from it before each test.
+   */
+  @Before
+  public void setUp() {
+    this.tree = new IntervalTree<>(EventInterface::getStartDateTime,
+        EventInterface::getEndDateTime);
+    this.occupancy = new OccupancyIndex<>(this.tree::findOverlapping,
+        EventInterface::getStartDateTime, EventInterface::getEndDateTime);
+  }
+
+  @Test
+  public void testMergeAndSplit() {
+    EventInterface first = EventFactory.createSingleEvent("PDP",
+        LocalDateTime.parse("2025-11-05T10:00"), LocalDateTime.parse("2025-11-05T12:00"));
+    EventInterface second = EventFactory.createSingleEvent("DBMS",
+        LocalDateTime.parse("2025-11-05T12:00"), LocalDateTime.parse("2025-11-05T13:00"));
+    EventInterface bridge = EventFactory.createSingleEvent("Lunch",
+        LocalDateTime.parse("2025-11-05T11:30"), LocalDateTime.parse("2025-11-05T12:30"));
+    for (EventInterface event : List.of(first, second, bridge)) {
+      this.tree.insert(event);
+      this.occupancy.add(event);
+    }
+    assertEquals(1, this.occupancy.size());
+    assertTrue(this.occupancy.isBusy(LocalDateTime.parse("2025-11-05T13:00")));
+    assertFalse(this.occupancy.isBusy(LocalDateTime.parse("2025-11-05T13:01")));
+
+    this.tree.remove(second);
+    this.occupancy.remove(second);
+    assertEquals(1, this.occupancy.size());
+    assertTrue(this.occupancy.isBusy(LocalDateTime.parse("2025-11-05T12:30")));
+    assertFalse(this.occupancy.isBusy(LocalDateTime.parse("2025-11-05T12:31")));
+  }
+
+  @Test
+  public void testRemoveMergesOnlyOverlappingItems() {
+    int[] reads = new int[1];
+    OccupancyIndex<EventInterface> counted =
+        new OccupancyIndex<>(this.tree::findOverlapping, event -> {
+          reads[0] += 1;
+          return event.getStartDateTime();
+        }, EventInterface::getEndDateTime);
+    LocalDateTime base = LocalDateTime.parse("2025-11-05T00:00");
+    List<EventInterface> events = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      EventInterface event = EventFactory.createSingleEvent("E" + i, base.plusMinutes(i),
+          base.plusMinutes(i + 2));
+      events.add(event);
+      this.tree.insert(event);
+      counted.add(event);
+    }
+    assertEquals(1, counted.size());
+
+    reads[0] = 0;
+    EventInterface middle = events.get(500);
+    this.tree.remove(middle);
+    counted.remove(middle);
+    assertTrue(reads[0] < 10);
+    assertEquals(1, counted.size());
+
+    this.tree.remove(events.get(501));
+    counted.remove(events.get(501));
+    assertEquals(2, counted.size());
+    assertTrue(counted.isBusy(base.plusMinutes(500)));
+    assertFalse(counted.isBusy(base.plusMinutes(501).plusSeconds(30)));
+    assertTrue(counted.isBusy(base.plusMinutes(502)));
+  }
+
+  @Test
+  public void testMatchesTimeIndex() {
+    Random random = new Random(7);
+    LocalDateTime base = LocalDateTime.parse("2025-01-01T00:00");
+    List<EventInterface> events = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      LocalDateTime start = base.plusMinutes(random.nextInt(60 * 24 * 30));
+      LocalDateTime end = start.plusMinutes(random.nextInt(60 * 4));
+      EventInterface event = EventFactory.createSingleEvent("E" + i, start, end);
+      events.add(event);
+      this.tree.insert(event);
+      this.occupancy.add(event);
+    }
+    for (int i = 0; i < 400; i++) {
+      EventInterface event = events.remove(random.nextInt(events.size()));
+      this.tree.remove(event);
+      this.occupancy.remove(event);
+    }
+
+    for (int i = 0; i < 2000; i++) {
+      LocalDateTime probe = base.plusMinutes(random.nextInt(60 * 24 * 30));
+      assertEquals(this.tree.hasOverlapping(probe, probe), this.occupancy.isBusy(probe));
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import model.calendar.Weekday;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.SeriesExpander;
+import model.event.SeriesRule;
+import org.junit.Test;
+
+/**
+ * This class represents test for SeriesExpander, checked against expanding rules one by one.
+ */
+public class SeriesExpanderTest {
+  private static final LocalDate FROM = LocalDate.parse("2025-11-01");
+  private static final LocalDate TO = LocalDate.parse("2027-11-01");
+
+  @Test
+  public void testParallelMatchesSequential() {
+    List<SeriesRule> rules = new ArrayList<>();
+    rules.add(rule(Set.of(Weekday.MONDAY, Weekday.WEDNESDAY, Weekday.FRIDAY), 300));
+    rules.add(rule(Set.of(Weekday.SUNDAY), 20));
+    rules.add(rule(Set.of(Weekday.TUESDAY, Weekday.THURSDAY), 1000));
+    rules.get(0).suppress(LocalDate.parse("2026-03-02"));
+
+    List<List<EventInterface>> expected = new ArrayList<>();
+    for (SeriesRule rule : rules) {
+      expected.add(rule.expand(FROM, TO));
+    }
+    for (int threshold : List.of(1, 7, 50, 100_000)) {
+      SeriesExpander expander = new SeriesExpander(new ForkJoinPool(4), threshold);
+      assertEquals(expected, expander.expand(rules, FROM, TO));
+    }
+  }
+
+  @Test
+  public void testUnboundedRuleStopsAtHorizon() {
+    SeriesRule rule = SeriesRule.of(EventFactory.createSeriesWithoutEnd(Set.of(Weekday.MONDAY)),
+        EventFactory.createSingleEvent("Standup", LocalDateTime.parse("2025-11-03T09:00"),
+            LocalDateTime.parse("2025-11-03T09:15")));
+    List<EventInterface> expected = rule.expand(LocalDate.MIN, LocalDate.MAX);
+
+    SeriesExpander expander = new SeriesExpander(new ForkJoinPool(2), 5);
+    assertEquals(List.of(expected), expander.expand(List.of(rule), LocalDate.MIN, LocalDate.MAX));
+    assertEquals(expected.size(), rule.countBetween(LocalDate.MIN, LocalDate.MAX));
+  }
+
+  /**
+   * Build a rule repeating {@param count} times on {@param weekdays}.
+   *
+   * @param weekdays repeated weekdays
+   * @param count    number of occurrences
+   * @return series rule
+   */
+  private static SeriesRule rule(Set<Weekday> weekdays, int count) {
+    return SeriesRule.of(EventFactory.createSeriesWithOccurrence(weekdays, count),
+        EventFactory.createSingleEvent("Class", LocalDateTime.parse("2025-11-03T10:00"),
+            LocalDateTime.parse("2025-11-03T11:00")));
+  }
+}
@@ -0,0 +1,55 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import model.calendar.Weekday;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.SeriesInterface;
+import model.event.SeriesRemapper;
+import org.junit.Test;
+
+/**
+ * This class represents test for SeriesRemapper.
+ */
+public class SeriesRemapperTest {
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+  private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+  @Test
+  public void testRemapOntoWeekdays() {
+    SeriesInterface series =
+        EventFactory.createSeriesWithOccurrence(Set.of(Weekday.MONDAY, Weekday.THURSDAY), 3);
+    List<EventInterface> events = List.of(
+        EventFactory.createSingleEvent("Class", LocalDateTime.parse("2025-11-03T09:00"),
+            LocalDateTime.parse("2025-11-03T10:00")),
+        EventFactory.createSingleEvent("Class", LocalDateTime.parse("2025-11-06T09:00"),
+            LocalDateTime.parse("2025-11-06T10:00")),
+        EventFactory.createSingleEvent("Class", LocalDateTime.parse("2025-11-10T09:00"),
+            LocalDateTime.parse("2025-11-10T10:00")));
+
+    List<EventInterface> remapped = new SeriesRemapper(NEW_YORK, LONDON,
+        LocalDate.parse("2026-01-02")).remap(series, events);
+    assertEquals(3, remapped.size());
+    assertEquals(LocalDateTime.parse("2026-01-05T14:00"), remapped.get(0).getStartDateTime());
+    assertEquals(LocalDateTime.parse("2026-01-08T15:00"), remapped.get(1).getEndDateTime());
+    assertEquals(LocalDateTime.parse("2026-01-12T14:00"), remapped.get(2).getStartDateTime());
+    assertEquals("Class", remapped.get(2).getSubject());
+  }
+
+  @Test
+  public void testRemapRejectsEventsSpanningDays() {
+    SeriesInterface series = EventFactory.createSeriesWithOccurrence(Set.of(Weekday.MONDAY), 1);
+    List<EventInterface> events = List.of(EventFactory.createSingleEvent("Late",
+        LocalDateTime.parse("2025-11-03T18:00"), LocalDateTime.parse("2025-11-03T20:00")));
+
+    assertThrows(UnsupportedOperationException.class, () -> new SeriesRemapper(NEW_YORK,
+        LONDON, LocalDate.parse("2026-01-02")).remap(series, events));
+  }
+}
@@ -0,0 +1,106 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import model.calendar.Weekday;
+import model.event.EventFactory;
+import model.event.EventInterface;
+import model.event.EventStatus;
+import model.event.SeriesInterface;
+import model.event.SeriesRule;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This class represents test for SeriesRule.
+ */
+public class SeriesRuleTest {
+  private SeriesInterface series;
+  private SeriesRule rule;
+
+  /**
+   * Create a rule repeating 5 times on Tuesday and Thursday before each test.
+   */
+  @Before
+  public void setUp() {
+    this.series =
+        EventFactory.createSeriesWithOccurrence(Set.of(Weekday.TUESDAY, Weekday.THURSDAY), 5);
+    this.rule = SeriesRule.of(this.series, EventFactory.createSingleEvent("Gym",
+        LocalDateTime.parse("2025-11-03T18:00"), LocalDateTime.parse("2025-11-03T19:00")));
+  }
+
+  @Test
+  public void testBounds() {
+    assertEquals(5, this.rule.size());
+    assertEquals(LocalDateTime.parse("2025-11-04T18:00"), this.rule.getFirstStart());
+    assertEquals(LocalDateTime.parse("2025-11-18T19:00"), this.rule.getLastEnd());
+    assertEquals(this.series.generateEvents("Gym", LocalDateTime.parse("2025-11-03T18:00"),
+        LocalTime.parse("19:00")), this.rule.expandAll());
+  }
+
+  @Test
+  public void testUnboundedHorizonFollowsRule() {
+    SeriesRule unbounded = SeriesRule.of(EventFactory.createSeriesWithoutEnd(
+        Set.of(Weekday.MONDAY)), EventFactory.createSingleEvent("Gym",
+        LocalDateTime.parse("2000-01-03T18:00"), LocalDateTime.parse("2000-01-03T19:00")));
+    assertEquals(LocalDate.parse("2001-01-03"), unbounded.lastDateUpTo(LocalDate.MIN,
+        LocalDate.MAX));
+    assertEquals(53, unbounded.expandAll().size());
+
+    unbounded.suppress(LocalDate.parse("2010-01-04"));
+    assertEquals(LocalDate.parse("2011-01-04"), unbounded.lastDateUpTo(LocalDate.MIN,
+        LocalDate.MAX));
+    assertEquals(LocalDate.parse("2031-01-01"),
+        unbounded.lastDateUpTo(LocalDate.parse("2030-01-01"), LocalDate.MAX));
+  }
+
+  @Test
+  public void testExpandAndSuppress() {
+    List<EventInterface> week =
+        this.rule.expand(LocalDate.parse("2025-11-10"), LocalDate.parse("2025-11-16"));
+    assertEquals(2, week.size());
+    assertTrue(this.rule.generates("Gym", LocalDateTime.parse("2025-11-11T18:00"),
+        LocalDateTime.parse("2025-11-11T19:00")));
+    assertTrue(this.rule.coversAt(LocalDateTime.parse("2025-11-13T18:30")));
+
+    assertTrue(this.rule.suppress(LocalDate.parse("2025-11-11")));
+    assertFalse(this.rule.suppress(LocalDate.parse("2025-11-12")));
+    assertEquals(4, this.rule.size());
+    assertFalse(this.rule.occursOn(LocalDate.parse("2025-11-11")));
+    assertEquals(1,
+        this.rule.expand(LocalDate.parse("2025-11-10"), LocalDate.parse("2025-11-16")).size());
+  }
+
+  @Test
+  public void testDerive() {
+    SeriesRule derived = SeriesRule.derive(this.series, this.rule.expandAll());
+    assertEquals(this.rule.expandAll(), derived.expandAll());
+
+    List<EventInterface> gapped = this.rule.expandAll();
+    gapped.remove(1);
+    assertNull(SeriesRule.derive(this.series, gapped));
+  }
+
+  @Test
+  public void testEditFrom() {
+    this.rule.editFrom(LocalDate.parse("2025-11-11"),
+        event -> event.toBuilder().setStatus(EventStatus.PRIVATE).build());
+    assertEquals(2, this.rule.getSegmentCount());
+    assertNull(this.rule.occurrenceOn(LocalDate.parse("2025-11-06")).getStatus());
+    assertEquals(EventStatus.PRIVATE,
+        this.rule.occurrenceOn(LocalDate.parse("2025-11-18")).getStatus());
+
+    this.rule.editFrom(LocalDate.parse("2025-11-11"),
+        event -> event.toBuilder().setStatus(null).build());
+    assertEquals(1, this.rule.getSegmentCount());
+    assertEquals(5, this.rule.size());
+  }
+}
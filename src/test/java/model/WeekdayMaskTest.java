@@ -0,0 +1,59 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import model.calendar.Weekday;
+import model.event.WeekdayMask;
+import org.junit.Test;
+
+/**
+ * This class represents test for WeekdayMask, checked against stepping day by day.
+ */
+public class WeekdayMaskTest {
+  private static final LocalDate START = LocalDate.parse("2025-11-01");
+
+  @Test
+  public void testAgainstDailyStepping() {
+    for (int bits = 1; bits < 128; bits++) {
+      Set<Weekday> weekdays = EnumSet.noneOf(Weekday.class);
+      for (Weekday weekday : Weekday.values()) {
+        if ((bits & (1 << weekday.ordinal())) != 0) {
+          weekdays.add(weekday);
+        }
+      }
+      WeekdayMask mask = WeekdayMask.of(weekdays);
+      assertEquals(weekdays, mask.toSet());
+
+      LocalDate date = START;
+      int matched = 0;
+      for (int day = 0; day < 30; day++) {
+        LocalDate current = START.plusDays(day);
+        if (weekdays.contains(Weekday.valueOf(current.getDayOfWeek().toString()))) {
+          assertEquals(current, mask.nth(START, matched));
+          assertEquals(current, mask.previous(current));
+          date = current;
+          matched += 1;
+        }
+        if (matched > 0) {
+          assertEquals(date, mask.previous(current));
+        }
+        assertEquals(matched, mask.countBetween(START, current));
+      }
+      assertEquals(mask.nth(START, matched), mask.next(START.plusDays(30)));
+      assertEquals(date, mask.last(START, matched, null));
+      assertEquals(date, mask.last(START, null, START.plusDays(29)));
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    WeekdayMask mask = WeekdayMask.of(Set.of());
+    assertNull(mask.next(START));
+    assertNull(mask.last(START, 3, null));
+    assertEquals(0, mask.countBetween(START, START.plusDays(20)));
+  }
+}
@@ -1,6 +1,7 @@
 package swing.mock;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -73,6 +74,19 @@ public class MockCalendarModel implements CalendarModelInterface {
         .append(untilDate).append("\n");
   }
 
+  @Override
+  public void createSeriesEventWithoutEnd(String subject, String startDateTime,
+                                          String endDateTime, Set<Weekday> weekdays) {
+    List<Weekday> ordered = new ArrayList<>(weekdays);
+    ordered.sort(Comparator.comparing(Enum::ordinal));
+
+    log.append("createSeriesEventWithoutEnd: ")
+        .append(subject).append(", ")
+        .append(startDateTime).append(", ")
+        .append(endDateTime).append(", ")
+        .append(ordered).append("\n");
+  }
+
   @Override
   public void createAllDaySeriesEventWithOccurrence(String subject, String date,
                                                     Set<Weekday> weekdays, int occurrences) {
@@ -99,6 +113,18 @@ public class MockCalendarModel implements CalendarModelInterface {
         .append(untilDate).append("\n");
   }
 
+  @Override
+  public void createAllDaySeriesEventWithoutEnd(String subject, String date,
+                                                Set<Weekday> weekdays) {
+    List<Weekday> ordered = new ArrayList<>(weekdays);
+    ordered.sort(Comparator.comparing(Enum::ordinal));
+
+    log.append("createAllDaySeriesEventWithoutEnd: ")
+        .append(subject).append(", ")
+        .append(date).append(", ")
+        .append(ordered).append("\n");
+  }
+
   @Override
   public void editSingleEvent(List<String> args) {
     String subject = args.get(0);
@@ -154,12 +180,26 @@ public class MockCalendarModel implements CalendarModelInterface {
     return CalendarStatus.BUSY;
   }
 
+  @Override
+  public List<CalendarStatus> isBusy(List<LocalDateTime> dateTimes) {
+    log.append("isBusy: ").append(dateTimes).append("\n");
+    return List.of();
+  }
+
   @Override
   public List<EventReadOnlyInterface> getAllEventsReadOnly() {
     log.append("getAllEvents\n");
     return List.of();
   }
 
+  @Override
+  public List<EventReadOnlyInterface> getEventsForDays(LocalDate from, LocalDate to) {
+    log.append("getEventsForDays: ")
+        .append(from).append(", ")
+        .append(to).append("\n");
+    return List.of();
+  }
+
   @Override
   public boolean isSeriesEvent(EventReadOnlyInterface event) {
     log.append("Check").append(event.getSubject()).append("is a series or not");
@@ -183,4 +223,23 @@ public class MockCalendarModel implements CalendarModelInterface {
     log.append("getSeriesOccurrence of series of").append(event.getSubject());
     return 0;
   }
-}
\ No newline at end of file
+
+  @Override
+  public Integer getSeriesOccurrenceCount(EventReadOnlyInterface event) {
+    log.append("getSeriesOccurrenceCount of series of").append(event.getSubject());
+    return 0;
+  }
+
+  @Override
+  public Integer getSeriesRemainingCount(EventReadOnlyInterface event, LocalDate date) {
+    log.append("getSeriesRemainingCount of series of").append(event.getSubject())
+        .append(" after ").append(date);
+    return 0;
+  }
+
+  @Override
+  public LocalDate getSeriesLastDate(EventReadOnlyInterface event) {
+    log.append("getSeriesLastDate of series of").append(event.getSubject());
+    return null;
+  }
+}